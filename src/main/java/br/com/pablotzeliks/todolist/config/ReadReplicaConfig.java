@@ -0,0 +1,111 @@
+package br.com.pablotzeliks.todolist.config;
+
+import br.com.pablotzeliks.todolist.persistence.ReadWriteRoutingDataSource;
+import br.com.pablotzeliks.todolist.persistence.ReadYourWritesGuard;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração da réplica de leitura ({@code todolist.datasource.replica.enabled=true}).
+ * <p>
+ * Cria dois pools Hikari: o primário, a partir de {@code spring.datasource.*}, e a réplica,
+ * a partir de {@code todolist.datasource.replica.*} ({@code jdbc-url}, {@code username},
+ * {@code password} e demais propriedades do Hikari). O DataSource usado pela aplicação
+ * (JPA, {@code JdbcTemplate} e Flyway) é um {@link ReadWriteRoutingDataSource} atrás de um
+ * {@link LazyConnectionDataSourceProxy}: as transações somente leitura vão para a réplica e
+ * as escritas, as migrações e todo o resto para o primário.
+ * </p>
+ * <p>
+ * <strong>Uma conexão por transação:</strong> por padrão o Spring mantém a conexão do
+ * {@code EntityManager} até ele ser fechado, o que, com o Open Session in View, faria uma
+ * requisição reaproveitar a conexão da primeira transação (por exemplo, a réplica) nas
+ * seguintes. Aqui o Hibernate libera a conexão ao fim de cada transação, e cada uma é
+ * roteada de novo.
+ * </p>
+ * <p>
+ * Desabilitada, nada muda: o Spring Boot cria o DataSource único de {@code spring.datasource.*}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ReadWriteRoutingDataSource
+ * @see ReadYourWritesGuard
+ */
+@Configuration
+@ConditionalOnProperty(name = "todolist.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Pool do banco primário, que recebe todas as escritas.
+     *
+     * @param properties Propriedades {@code spring.datasource.*}
+     * @return o pool do primário
+     */
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+
+        return dataSource;
+    }
+
+    /**
+     * Pool da réplica, usado pelas transações somente leitura.
+     *
+     * @return o pool da réplica
+     */
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("todolist.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+
+        return dataSource;
+    }
+
+    /**
+     * DataSource da aplicação, que escolhe o pool de cada transação.
+     *
+     * @param primary        Pool do primário
+     * @param replica        Pool da réplica
+     * @param readYourWrites Usuários que devem ler do primário após escrever
+     * @return o DataSource roteado, obtendo a conexão física apenas no primeiro comando
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWritesGuard readYourWrites) {
+
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, readYourWrites));
+    }
+
+    /**
+     * Libera a conexão ao fim de cada transação, para que a seguinte seja roteada de novo.
+     *
+     * @return customizador das propriedades do Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionPerTransaction() {
+
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.pablotzeliks.todolist.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuração que habilita a execução de tarefas agendadas ({@code @Scheduled}).
+ * <p>
+ * Utilizada pelos componentes que precisam de manutenção periódica em segundo plano,
+ * como a reconstrução do índice de nomes de usuário.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,21 @@
+package br.com.pablotzeliks.todolist.exception.general;
+
+/**
+ * Exceção para a reutilização de um {@code Idempotency-Key} com outra requisição.
+ * <p>
+ * Lançada quando a mesma chave de idempotência chega com um corpo diferente do da
+ * requisição original: não é um reenvio, e devolver a resposta guardada seria incorreto.
+ * Tratada pelo {@link br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler} que
+ * retorna HTTP 422 (Unprocessable Entity).
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.pablotzeliks.todolist.exception.general;
+
+/**
+ * Exceção de negócio para escritas condicionais cuja pré-condição não foi atendida.
+ * <p>
+ * Lançada quando o cabeçalho {@code If-Match} de uma atualização não corresponde à versão
+ * atual do recurso, isto é, outro cliente o alterou desde a última leitura. Tratada pelo
+ * {@link br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler} que retorna
+ * HTTP 412 (Precondition Failed).
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
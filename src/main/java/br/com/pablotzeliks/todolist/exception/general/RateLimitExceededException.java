@@ -0,0 +1,29 @@
+package br.com.pablotzeliks.todolist.exception.general;
+
+/**
+ * Exceção para requisições que excederam o limite de taxa configurado.
+ * <p>
+ * Lançada pelo {@link br.com.pablotzeliks.todolist.security.RateLimitFilter} quando o
+ * balde de tokens do IP ou do usuário está vazio. Tratada pelo
+ * {@link br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler} que retorna
+ * HTTP 429 (Too Many Requests) com o cabeçalho {@code Retry-After}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.pablotzeliks.todolist.exception.general;
+
+/**
+ * Exceção para recusa rápida de trabalho quando um recurso interno está saturado.
+ * <p>
+ * Lançada quando uma fila limitada da aplicação (por exemplo, o pool de hash de senhas)
+ * está cheia. Em vez de acumular threads de requisição esperando, a requisição é
+ * recusada imediatamente. Tratada pelo {@link br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler}
+ * que retorna HTTP 503 (Service Unavailable) com o cabeçalho {@code Retry-After}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
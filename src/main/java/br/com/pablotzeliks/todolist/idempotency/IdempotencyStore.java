@@ -0,0 +1,314 @@
+package br.com.pablotzeliks.todolist.idempotency;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+import br.com.pablotzeliks.todolist.exception.general.IdempotencyKeyReuseException;
+import br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Armazena as respostas de requisições de criação enviadas com o cabeçalho
+ * {@code Idempotency-Key}, para que reenvios não criem registros duplicados.
+ * <p>
+ * Clientes móveis em redes instáveis reenviam requisições cuja resposta se perdeu. Com a
+ * mesma chave, o reenvio recebe a resposta guardada da primeira execução (com o cabeçalho
+ * {@code Idempotent-Replayed: true}) em vez de uma nova escrita no banco.
+ * </p>
+ * <p>
+ * <strong>Concorrência:</strong> cada chave em execução guarda um futuro. A primeira
+ * requisição o registra e executa; duplicatas simultâneas aguardam o mesmo futuro em vez de
+ * executar de novo. Se a primeira falhar, a chave é liberada e a falha não é guardada: o
+ * próximo reenvio executa normalmente. Os futuros em execução ficam em um mapa à parte, que
+ * nunca é despejado, e saem dele ao terminar: a pressão sobre o cache de respostas não pode
+ * liberar uma chave ainda em execução para um reenvio.
+ * </p>
+ * <p>
+ * <strong>Resultado posterior:</strong> uma execução pode responder ao cliente antes de saber
+ * o próprio resultado, como na fila de escrita postergada. A chave fica presa à gravação
+ * pendente até a conclusão, mesmo que o cliente já tenha recebido um 503 por tempo esgotado:
+ * só então a resposta é guardada, ou a chave liberada se a gravação falhar.
+ * </p>
+ * <p>
+ * <strong>Escopo e memória:</strong> as chaves são separadas por operação e por usuário. As
+ * concluídas ficam em um cache Caffeine limitado ({@code todolist.idempotency.max-keys}) com
+ * expiração após a escrita ({@code todolist.idempotency.ttl}). Do corpo da requisição é
+ * guardado apenas um HMAC-SHA256 com segredo aleatório, usado para recusar (HTTP 422) a
+ * mesma chave com outro conteúdo; assim como no {@link br.com.pablotzeliks.todolist.security.CredentialCache},
+ * senhas não podem ser recuperadas da memória.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.task.controller.TaskController
+ * @see br.com.pablotzeliks.todolist.user.controller.UserController
+ */
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+    /**
+     * Tamanho máximo aceito para a chave de idempotência.
+     */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, StoredResponse> responses;
+
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Duration awaitTimeout;
+
+    private final ThreadLocal<Mac> mac;
+
+    private volatile Counter replayedCounter;
+
+    @Autowired
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            @Value("${todolist.idempotency.max-keys:50000}") long maxKeys,
+                            @Value("${todolist.idempotency.ttl:1h}") Duration ttl,
+                            @Value("${todolist.idempotency.await-timeout:10s}") Duration awaitTimeout) {
+
+        this.objectMapper = objectMapper;
+        this.awaitTimeout = awaitTimeout;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+
+        // Secret only lives in memory, so fingerprints are useless outside this JVM
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SecretKeySpec secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(secretKey);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 indisponível na JVM.", e);
+            }
+        });
+    }
+
+    /**
+     * Executa a criação uma única vez por chave de idempotência.
+     *
+     * @param operation Nome da operação (por exemplo, {@code tasks.create})
+     * @param subject   Dono da chave dentro da operação (usuário autenticado ou username)
+     * @param key       Valor do cabeçalho {@code Idempotency-Key}; {@code null} executa sem idempotência
+     * @param request   Corpo da requisição, comparado com o da execução original
+     * @param action    Criação a executar na primeira vez
+     * @return a resposta da primeira execução desta chave
+     * @throws IdempotencyKeyReuseException se a chave já foi usada com outro corpo
+     * @throws ServiceOverloadedException   se a execução original demorar além do tempo de espera
+     */
+    public ResponseEntity<Object> execute(String operation, Object subject, String key, Object request,
+                                          Supplier<ResponseEntity<Object>> action) {
+
+        return execute(operation, subject, key, request, action, CompletableFuture::completedFuture, response -> response);
+    }
+
+    /**
+     * Executa uma única vez por chave uma criação cujo resultado só é conhecido depois da resposta.
+     * <p>
+     * A chave fica em execução até {@code outcome} concluir: com sucesso, a resposta concluída
+     * é guardada para os reenvios; com falha ou status de erro, a chave é liberada. Uma exceção
+     * lançada por {@code respond} (por exemplo, tempo de espera esgotado) não libera a chave.
+     * </p>
+     *
+     * @param operation Nome da operação (por exemplo, {@code tasks.create})
+     * @param subject   Dono da chave dentro da operação (usuário autenticado ou username)
+     * @param key       Valor do cabeçalho {@code Idempotency-Key}; {@code null} executa sem idempotência
+     * @param request   Corpo da requisição, comparado com o da execução original
+     * @param start     Início da criação, executado na primeira vez
+     * @param outcome   Resposta definitiva da criação iniciada, guardada para os reenvios
+     * @param respond   Resposta enviada agora ao cliente que iniciou a criação
+     * @param <P>       Tipo da criação iniciada
+     * @return a resposta imediata da primeira execução, ou a guardada para os reenvios
+     * @throws IdempotencyKeyReuseException se a chave já foi usada com outro corpo
+     * @throws ServiceOverloadedException   se a execução original demorar além do tempo de espera
+     */
+    public <P> ResponseEntity<Object> execute(String operation, Object subject, String key, Object request,
+                                              Supplier<P> start,
+                                              Function<P, CompletableFuture<ResponseEntity<Object>>> outcome,
+                                              Function<P, ResponseEntity<Object>> respond) {
+
+        if (key == null) return respond.apply(start.get());
+
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+
+            throw new BusinessRuleException("Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+
+        String cacheKey = operation + ":" + subject + ":" + key;
+        byte[] fingerprint = fingerprint(request);
+
+        while (true) {
+
+            StoredResponse stored = responses.getIfPresent(cacheKey);
+
+            if (stored == null) {
+
+                CompletableFuture<StoredResponse> owned = new CompletableFuture<>();
+                CompletableFuture<StoredResponse> existing = inFlight.putIfAbsent(cacheKey, owned);
+
+                if (existing == null) {
+
+                    // The original may have completed between the lookup and the registration
+                    stored = responses.getIfPresent(cacheKey);
+
+                    if (stored == null) return executeFirst(cacheKey, owned, fingerprint, start, outcome, respond);
+
+                    inFlight.remove(cacheKey, owned);
+                    owned.complete(stored);
+
+                } else {
+
+                    stored = await(existing);
+
+                    // The original attempt failed and released the key, so this one runs it
+                    if (stored == null) continue;
+                }
+            }
+
+            if (!Arrays.equals(stored.fingerprint(), fingerprint)) {
+
+                throw new IdempotencyKeyReuseException("Idempotency-Key já utilizada com outra requisição.");
+            }
+
+            Counter counter = replayedCounter;
+            if (counter != null) counter.increment();
+
+            return ResponseEntity.status(stored.response().getStatusCode())
+                    .headers(stored.response().getHeaders())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(stored.response().getBody());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("idempotency.keys", responses, Cache::estimatedSize)
+                .description("Chaves de idempotência guardadas")
+                .register(registry);
+
+        Gauge.builder("idempotency.in-flight", inFlight, ConcurrentMap::size)
+                .description("Chaves de idempotência em execução")
+                .register(registry);
+
+        this.replayedCounter = Counter.builder("idempotency.replayed")
+                .description("Reenvios respondidos com a resposta guardada")
+                .register(registry);
+    }
+
+    private <P> ResponseEntity<Object> executeFirst(String cacheKey, CompletableFuture<StoredResponse> owned,
+                                                    byte[] fingerprint, Supplier<P> start,
+                                                    Function<P, CompletableFuture<ResponseEntity<Object>>> outcome,
+                                                    Function<P, ResponseEntity<Object>> respond) {
+
+        P started;
+        CompletableFuture<ResponseEntity<Object>> result;
+
+        try {
+            started = start.get();
+            result = outcome.apply(started);
+
+        } catch (RuntimeException | Error e) {
+
+            release(cacheKey, owned);
+            throw e;
+        }
+
+        result.whenComplete((response, failure) -> {
+
+            if (failure != null || !response.getStatusCode().is2xxSuccessful()) {
+
+                release(cacheKey, owned);
+                return;
+            }
+
+            StoredResponse stored = new StoredResponse(fingerprint, response);
+
+            // Stored before leaving the in-flight map, so a retry always finds one of them
+            responses.put(cacheKey, stored);
+            inFlight.remove(cacheKey, owned);
+            owned.complete(stored);
+        });
+
+        return respond.apply(started);
+    }
+
+    private void release(String cacheKey, CompletableFuture<StoredResponse> owned) {
+
+        inFlight.remove(cacheKey, owned);
+        owned.complete(null);
+    }
+
+    /**
+     * Aguarda a execução original; {@code null} se ela falhou.
+     */
+    private StoredResponse await(CompletableFuture<StoredResponse> future) {
+
+        try {
+            return future.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+
+            throw new ServiceOverloadedException("Requisição original ainda em processamento. Tente novamente em instantes.", 1);
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera pela requisição original interrompida.", e);
+
+        } catch (ExecutionException e) {
+
+            return null;
+        }
+    }
+
+    private byte[] fingerprint(Object request) {
+
+        try {
+            return mac.get().doFinal(objectMapper.writeValueAsBytes(request));
+
+        } catch (JsonProcessingException e) {
+
+            throw new IllegalStateException("Falha ao serializar a requisição.", e);
+        }
+    }
+
+    private record StoredResponse(byte[] fingerprint, ResponseEntity<Object> response) { }
+}
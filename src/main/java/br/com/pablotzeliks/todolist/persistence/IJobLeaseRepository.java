@@ -0,0 +1,54 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositório de acesso a dados para a entidade {@link JobLease}.
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see JobLease
+ */
+public interface IJobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * Assume a concessão de uma tarefa se a anterior já tiver vencido.
+     * <p>
+     * A condição e a escrita formam um único {@code UPDATE}, então, entre instâncias que
+     * tentam ao mesmo tempo, apenas uma altera a linha.
+     * </p>
+     *
+     * @param name  nome da tarefa agendada
+     * @param owner instância que assume a concessão
+     * @param now   instante atual
+     * @param until instante até o qual a concessão valerá
+     * @return quantidade de linhas alteradas ({@code 1} se a concessão foi obtida)
+     */
+    @Transactional
+    @Modifying
+    @Query("update tb_job_lease l set l.lockedUntil = :until, l.lockedBy = :owner where l.name = :name and l.lockedUntil <= :now")
+    int acquire(String name, String owner, LocalDateTime now, LocalDateTime until);
+
+    /**
+     * Cria a concessão de uma tarefa que ainda não tem linha.
+     * <p>
+     * Um {@code INSERT} simples, e não o {@code merge} do {@code save}: se outra instância
+     * criar a linha ao mesmo tempo, a chave primária rejeita esta em vez de sobrescrever a
+     * concessão dela.
+     * </p>
+     *
+     * @param name  nome da tarefa agendada
+     * @param owner instância que assume a concessão
+     * @param until instante até o qual a concessão valerá
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into tb_job_lease (name, locked_until, locked_by) values (:name, :until, :owner)")
+    void create(String name, String owner, LocalDateTime until);
+}
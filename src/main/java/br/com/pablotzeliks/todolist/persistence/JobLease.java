@@ -0,0 +1,47 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Concessão de execução de uma tarefa agendada.
+ * <p>
+ * Esta classe é mapeada para a tabela {@code tb_job_lease}, com uma linha por tarefa. Enquanto
+ * {@code lockedUntil} não passar, apenas a instância {@code lockedBy} executa a tarefa; as
+ * demais pulam a execução.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see JobLeaseService
+ */
+@Data
+@Entity(name = "tb_job_lease")
+@Table(name = "tb_job_lease")
+public class JobLease {
+
+    /**
+     * Nome da tarefa agendada.
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * Instante até o qual a concessão vale.
+     */
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    /**
+     * Instância que detém a concessão.
+     */
+    @Column(nullable = false)
+    private String lockedBy;
+}
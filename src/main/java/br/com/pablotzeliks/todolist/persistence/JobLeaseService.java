@@ -0,0 +1,70 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Garante que uma tarefa agendada rode em uma única instância por vez.
+ * <p>
+ * Cada instância tenta assumir a concessão da tarefa em {@code tb_job_lease} antes de
+ * executá-la; quem não consegue pula a execução. A concessão não é devolvida ao fim: ela
+ * vence sozinha após a duração informada, que deve ficar abaixo do intervalo da tarefa.
+ * Assim, execuções agendadas em horários diferentes por cada instância não se repetem no
+ * mesmo ciclo, e uma instância que cair no meio da execução não trava as demais além disso.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see JobLease
+ */
+@Component
+public class JobLeaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobLeaseService.class);
+
+    private final IJobLeaseRepository repository;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Autowired
+    public JobLeaseService(IJobLeaseRepository repository) {
+
+        this.repository = repository;
+    }
+
+    /**
+     * Tenta assumir a concessão de uma tarefa.
+     *
+     * @param name  nome da tarefa agendada
+     * @param lease duração da concessão
+     * @return {@code true} se esta instância deve executar a tarefa
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lease);
+
+        if (repository.acquire(name, owner, now, until) > 0) return true;
+
+        if (repository.existsById(name)) return false;
+
+        try {
+            repository.create(name, owner, until);
+            return true;
+
+        } catch (DataIntegrityViolationException e) {
+
+            // Another instance created the lease first
+            log.debug("Concessão da tarefa {} criada por outra instância.", name);
+            return false;
+        }
+    }
+}
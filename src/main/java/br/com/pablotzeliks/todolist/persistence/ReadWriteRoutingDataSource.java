@@ -0,0 +1,94 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataSource} que envia transações somente leitura à réplica e o restante ao primário.
+ * <p>
+ * A rota é decidida quando a conexão física é obtida. Por isso este DataSource deve ficar
+ * atrás de um {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: o
+ * Hibernate pede a conexão ao iniciar a transação, antes de o Spring marcá-la como
+ * {@code readOnly}, e o proxy só a busca aqui no primeiro comando SQL.
+ * </p>
+ * <p>
+ * Vão para a réplica as transações {@code @Transactional(readOnly = true)}, o que inclui as
+ * consultas dos repositórios Spring Data chamadas fora de uma transação, como
+ * {@link br.com.pablotzeliks.todolist.task.service.TaskService#list(java.util.UUID)} e a busca
+ * do usuário em {@link br.com.pablotzeliks.todolist.security.CredentialVerifier}. Usuários
+ * fixados pelo {@link ReadYourWritesGuard} leem do primário. Qualquer outra conexão,
+ * inclusive fora de transações, vai para o primário.
+ * </p>
+ * <p>
+ * <strong>Leituras que não toleram atraso:</strong> dados guardados em memória e marcados com
+ * a versão corrente do usuário (índices de busca, agenda e próximas tarefas) são carregados
+ * dentro de {@link #onPrimary(Supplier)}. Lidos da réplica, uma escrita ainda não replicada
+ * ficaria marcada como já incluída até a próxima escrita ou reconstrução.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ReadYourWritesGuard
+ * @see br.com.pablotzeliks.todolist.config.ReadReplicaConfig
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Destinos possíveis de uma conexão.
+     */
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReadYourWritesGuard readYourWrites;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard readYourWrites) {
+
+        this.readYourWrites = readYourWrites;
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Executa uma leitura no primário, mesmo em transações somente leitura.
+     * <p>
+     * Só tem efeito sobre conexões obtidas dentro de {@code read}: a leitura deve abrir a
+     * própria transação, como as consultas dos repositórios chamadas fora de uma. Sem réplica
+     * configurada, apenas executa {@code read}.
+     * </p>
+     *
+     * @param read Leitura a executar
+     * @param <T>  Tipo do resultado
+     * @return o resultado de {@code read}
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) FORCE_PRIMARY.remove();
+        }
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return Route.PRIMARY;
+
+        if (FORCE_PRIMARY.get() != null) return Route.PRIMARY;
+
+        return readYourWrites.isCurrentUserPinned() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import br.com.pablotzeliks.todolist.task.cache.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Garantia de "ler as próprias escritas" quando as leituras vão para uma réplica.
+ * <p>
+ * A réplica recebe as alterações do primário com algum atraso. Para que um usuário não
+ * deixe de ver a tarefa que acabou de criar, cada escrita em suas tarefas o fixa no
+ * primário por {@code todolist.datasource.read-your-writes.window}: durante essa janela,
+ * o {@link ReadWriteRoutingDataSource} envia também as leituras dele ao primário.
+ * </p>
+ * <p>
+ * As escritas chegam pelo {@link CacheInvalidationBus}, publicado após o commit de toda
+ * escrita em tarefas (inclusive as do group commit), e o usuário da requisição corrente é
+ * o atributo {@code userId} definido pelo
+ * {@link br.com.pablotzeliks.todolist.security.FilterTaskAuth}. A janela deve ser maior que
+ * o atraso de replicação esperado; leituras fora de uma requisição autenticada, como as
+ * tarefas agendadas, nunca são fixadas.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ReadWriteRoutingDataSource
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    private final boolean enabled;
+
+    private final Cache<UUID, Boolean> pinned;
+
+    @Autowired
+    public ReadYourWritesGuard(CacheInvalidationBus invalidationBus,
+                               @Value("${todolist.datasource.replica.enabled:false}") boolean enabled,
+                               @Value("${todolist.datasource.read-your-writes.window:5s}") Duration window,
+                               @Value("${todolist.datasource.read-your-writes.max-users:100000}") long maxUsers) {
+
+        this.enabled = enabled;
+
+        this.pinned = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(window)
+                .build();
+
+        if (enabled) invalidationBus.subscribe(this::pin);
+    }
+
+    /**
+     * Indica se as leituras são roteadas para uma réplica.
+     *
+     * @return {@code true} com {@code todolist.datasource.replica.enabled}
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Fixa o usuário no primário pela duração da janela, renovando-a se já estiver fixado.
+     *
+     * @param userId Identificador do usuário que escreveu
+     */
+    public void pin(UUID userId) {
+
+        if (enabled) pinned.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * Indica se as leituras do usuário devem ir ao primário.
+     *
+     * @param userId Identificador do usuário, ou {@code null} se desconhecido
+     * @return {@code true} se o usuário escreveu dentro da janela
+     */
+    public boolean isPinned(UUID userId) {
+
+        return userId != null && pinned.getIfPresent(userId) != null;
+    }
+
+    /**
+     * Indica se o usuário autenticado da requisição corrente está fixado no primário.
+     *
+     * @return {@code false} fora de uma requisição ou antes da autenticação
+     */
+    public boolean isCurrentUserPinned() {
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) return false;
+
+        return attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST) instanceof UUID userId && isPinned(userId);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Gerador de identificadores do Hibernate que atribui um {@link UuidV7} a novas entidades.
+ * <p>
+ * O id é gerado em memória antes do INSERT, sem ida ao banco, e não impede o
+ * agrupamento de inserts em lote. Uma entidade que já chega com id (atribuído pela
+ * aplicação) mantém o valor informado.
+ * </p>
+ * <p>
+ * A coluna continua sendo um UUID comum: ids v4 já existentes permanecem válidos e
+ * convivem com os novos.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see UuidV7Id
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+
+        return currentValue != null ? currentValue : UuidV7.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+
+        return true;
+    }
+}
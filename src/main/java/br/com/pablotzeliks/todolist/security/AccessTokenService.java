@@ -0,0 +1,172 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Emissor e validador de tokens de acesso assinados com HMAC-SHA256.
+ * <p>
+ * O token tem o formato {@code base64url(payload).base64url(assinatura)}, onde o payload
+ * contém o identificador do usuário e o instante de expiração. A validação é
+ * <strong>stateless</strong>: basta recalcular o HMAC e comparar a expiração, sem
+ * consulta ao banco de dados e sem BCrypt.
+ * </p>
+ * <p>
+ * O segredo é lido de {@code todolist.security.token.secret}. Quando não configurado,
+ * um segredo aleatório é gerado na inicialização; nesse caso os tokens deixam de valer
+ * após um restart e não são aceitos por outras instâncias da aplicação.
+ * </p>
+ * <p>
+ * Por não haver estado no servidor, tokens já emitidos continuam válidos até expirar
+ * mesmo após uma troca de senha. Por isso o TTL padrão é curto.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see FilterTaskAuth
+ */
+@Component
+public class AccessTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenService.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    private final Duration ttl;
+
+    private final Clock clock;
+
+    private final ThreadLocal<Mac> mac;
+
+    @Autowired
+    public AccessTokenService(@Value("${todolist.security.token.secret:}") String secret,
+                              @Value("${todolist.security.token.ttl:15m}") Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    AccessTokenService(String secret, Duration ttl, Clock clock) {
+
+        byte[] secretBytes;
+
+        if (secret == null || secret.isBlank()) {
+
+            log.warn("todolist.security.token.secret não configurado. Usando segredo aleatório; tokens não sobrevivem a restarts.");
+
+            secretBytes = new byte[32];
+            new SecureRandom().nextBytes(secretBytes);
+        } else {
+
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        this.key = new SecretKeySpec(secretBytes, HMAC_ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Emite um novo token de acesso para o usuário.
+     *
+     * @param user Usuário já autenticado
+     * @return o token assinado
+     */
+    public String issue(AuthenticatedUser user) {
+
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+
+        String payload = ENCODER.encodeToString((user.userId() + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * Valida a assinatura e a expiração de um token.
+     *
+     * @param token Token recebido no cabeçalho {@code Authorization: Bearer}
+     * @return identificador do usuário dono do token
+     * @throws UserNotAuthorizedException se o token for inválido ou estiver expirado
+     */
+    public UUID verify(String token) {
+
+        int separator = token.indexOf('.');
+
+        if (separator < 0) {
+
+            throw new UserNotAuthorizedException("Token de acesso inválido.");
+        }
+
+        String payload = token.substring(0, separator);
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+
+            // Constant-time comparison avoids leaking the signature byte by byte
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+
+                throw new UserNotAuthorizedException("Token de acesso inválido.");
+            }
+
+            String[] claims = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":");
+
+            if (Instant.ofEpochSecond(Long.parseLong(claims[1])).isBefore(clock.instant())) {
+
+                throw new UserNotAuthorizedException("Token de acesso expirado.");
+            }
+
+            return UUID.fromString(claims[0]);
+
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+
+            throw new UserNotAuthorizedException("Token de acesso inválido.");
+        }
+    }
+
+    /**
+     * Tempo de vida dos tokens emitidos.
+     *
+     * @return o TTL configurado
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(String payload) {
+
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponível na JVM.", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.pablotzeliks.todolist.security;
+
+import java.util.UUID;
+
+/**
+ * Representação imutável de um usuário cujas credenciais já foram verificadas.
+ * <p>
+ * Armazena apenas os dados necessários para identificar o usuário nas requisições
+ * seguintes, sem nunca guardar a senha ou o hash BCrypt.
+ * </p>
+ *
+ * @param userId   Identificador único do usuário autenticado
+ * @param username Nome de usuário autenticado
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see CredentialCache
+ */
+public record AuthenticatedUser(
+
+        UUID userId,
+        String username
+) { }
@@ -0,0 +1,67 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Credenciais extraídas de um cabeçalho {@code Authorization} no esquema Basic.
+ * <p>
+ * Centraliza a decodificação Base64 e a separação entre usuário e senha, usada tanto
+ * pelo {@link FilterTaskAuth} quanto pela troca de credenciais por token de acesso.
+ * Cabeçalhos malformados resultam em {@link UserNotAuthorizedException}, e não em
+ * erros internos.
+ * </p>
+ *
+ * @param username Nome de usuário informado
+ * @param password Senha em texto puro informada
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see FilterTaskAuth
+ */
+public record BasicCredentials(
+
+        String username,
+        String password
+) {
+
+    private static final String SCHEME = "Basic ";
+
+    /**
+     * Decodifica um cabeçalho {@code Authorization: Basic ...}.
+     *
+     * @param authorizationHeader Valor bruto do cabeçalho
+     * @return as credenciais decodificadas
+     * @throws UserNotAuthorizedException se o cabeçalho estiver ausente ou malformado
+     */
+    public static BasicCredentials parse(String authorizationHeader) {
+
+        if (authorizationHeader == null || !authorizationHeader.regionMatches(true, 0, SCHEME, 0, SCHEME.length())) {
+
+            throw new UserNotAuthorizedException("Token de autenticação não fornecido.");
+        }
+
+        String decoded;
+
+        try {
+            var authEncoded = authorizationHeader.substring(SCHEME.length()).trim();
+            decoded = new String(Base64.getDecoder().decode(authEncoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+
+            throw new UserNotAuthorizedException("Usuário ou senha inválidos.");
+        }
+
+        // Only the first ':' separates the username, passwords may contain it
+        int separator = decoded.indexOf(':');
+
+        if (separator < 0) {
+
+            throw new UserNotAuthorizedException("Usuário ou senha inválidos.");
+        }
+
+        return new BasicCredentials(decoded.substring(0, separator), decoded.substring(separator + 1));
+    }
+}
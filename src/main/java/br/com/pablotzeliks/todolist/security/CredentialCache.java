@@ -0,0 +1,188 @@
+package br.com.pablotzeliks.todolist.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache limitado de credenciais já verificadas pelo {@link FilterTaskAuth}.
+ * <p>
+ * A verificação BCrypt (custo 12) é deliberadamente cara. Este cache permite que
+ * requisições repetidas com o mesmo cabeçalho {@code Authorization} sejam aceitas sem
+ * refazer o hash nem consultar o {@code IUserRepository}. As entradas expiram por TTL
+ * e o tamanho máximo é limitado, evitando crescimento indefinido da memória.
+ * </p>
+ * <p>
+ * <strong>Segurança:</strong> a chave do cache é um HMAC-SHA256 do cabeçalho, calculado
+ * com um segredo aleatório gerado na inicialização. O cabeçalho em texto puro nunca é
+ * armazenado, e um dump de memória não permite recuperar as senhas.
+ * </p>
+ * <p>
+ * <strong>Invalidação durante a verificação:</strong> uma verificação que leu o usuário antes
+ * do commit de uma troca de senha pode terminar depois da invalidação. Para que ela não
+ * recoloque a credencial antiga no cache, cada invalidação recebe uma geração, registrada
+ * para o usuário; o {@link FilterTaskAuth} lê a {@link #generation()} antes de verificar, e o
+ * {@link #put} é descartado se o usuário tiver sido invalidado depois dela.
+ * </p>
+ * <p>
+ * As métricas de acerto, falha e despejo são publicadas no Micrometer com o nome
+ * {@code credentialCache}, permitindo dimensionar o cache em produção.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see FilterTaskAuth
+ * @see CredentialCacheInvalidationListener
+ */
+@Component
+public class CredentialCache implements MeterBinder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, AuthenticatedUser> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Geração da última invalidação de cada usuário; só precisa durar mais que uma verificação.
+     */
+    private final Cache<UUID, Long> invalidations;
+
+    private final ThreadLocal<Mac> mac;
+
+    public CredentialCache(@Value("${todolist.security.credential-cache.max-size:10000}") long maxSize,
+                           @Value("${todolist.security.credential-cache.ttl:5m}") Duration ttl) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        // Secret only lives in memory, so keys are useless outside this JVM
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SecretKeySpec key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 indisponível na JVM.", e);
+            }
+        });
+    }
+
+    /**
+     * Busca o usuário previamente autenticado com o cabeçalho informado.
+     *
+     * @param authorizationHeader Valor bruto do cabeçalho {@code Authorization}
+     * @return o usuário autenticado, ou {@code null} se não houver entrada válida
+     */
+    public AuthenticatedUser get(String authorizationHeader) {
+
+        return cache.getIfPresent(digest(authorizationHeader));
+    }
+
+    /**
+     * Como {@link #get(String)}, mas sem contar acerto ou falha nas métricas nem renovar a
+     * entrada. Usado pelo {@link RateLimitFilter}, que consulta o cache antes do
+     * {@link FilterTaskAuth} na mesma requisição.
+     *
+     * @param authorizationHeader Valor bruto do cabeçalho {@code Authorization}
+     * @return o usuário autenticado, ou {@code null} se não houver entrada válida
+     */
+    public AuthenticatedUser peek(String authorizationHeader) {
+
+        return cache.policy().getIfPresentQuietly(digest(authorizationHeader));
+    }
+
+    /**
+     * Geração atual das invalidações, a ser lida antes de verificar uma credencial.
+     *
+     * @return a geração da invalidação mais recente
+     */
+    public long generation() {
+
+        return generation.get();
+    }
+
+    /**
+     * Registra um cabeçalho cujas credenciais acabaram de ser verificadas com sucesso.
+     * <p>
+     * A entrada é descartada se o usuário tiver sido invalidado depois de {@code verifiedAt}.
+     * </p>
+     *
+     * @param authorizationHeader Valor bruto do cabeçalho {@code Authorization}
+     * @param user                Usuário autenticado
+     * @param verifiedAt          {@link #generation()} lida antes da verificação
+     */
+    public void put(String authorizationHeader, AuthenticatedUser user, long verifiedAt) {
+
+        if (invalidatedAfter(user.userId(), verifiedAt)) return;
+
+        String key = digest(authorizationHeader);
+        cache.put(key, user);
+
+        // An invalidation between the check and the put marks the user first, so one of the two removes the entry
+        if (invalidatedAfter(user.userId(), verifiedAt)) cache.asMap().remove(key, user);
+    }
+
+    /**
+     * Remove todas as entradas de um usuário.
+     * <p>
+     * Deve ser chamado sempre que a senha ou a conta do usuário for alterada,
+     * forçando uma nova verificação BCrypt na próxima requisição.
+     * </p>
+     *
+     * @param userId Identificador do usuário cujas credenciais mudaram
+     */
+    public void invalidateUser(UUID userId) {
+
+        invalidations.put(userId, generation.incrementAndGet());
+
+        cache.asMap().values().removeIf(user -> user.userId().equals(userId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        CaffeineCacheMetrics.monitor(registry, cache, "credentialCache");
+    }
+
+    private boolean invalidatedAfter(UUID userId, long verifiedAt) {
+
+        Long invalidatedAt = invalidations.getIfPresent(userId);
+
+        return invalidatedAt != null && invalidatedAt > verifiedAt;
+    }
+
+    private String digest(String authorizationHeader) {
+
+        byte[] hash = mac.get().doFinal(authorizationHeader.getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getEncoder().encodeToString(hash);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.user.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listener JPA que invalida o {@link CredentialCache} quando um usuário é alterado.
+ * <p>
+ * Registrado em {@link User} via {@code @EntityListeners}, garante que qualquer
+ * atualização (troca de senha, renomeação, etc.) ou remoção da conta descarte as
+ * credenciais em cache, independentemente de qual Service realizou a alteração.
+ * </p>
+ * <p>
+ * Os callbacks rodam no flush, antes do commit. A invalidação é adiada para depois do
+ * commit: feita antes, um login concorrente ainda leria as credenciais antigas e as
+ * colocaria de volta no cache, onde ficariam até o TTL.
+ * </p>
+ * <p>
+ * A instância é criada pelo Hibernate através do {@code SpringBeanContainer}
+ * configurado pelo Spring Boot, o que permite a injeção de dependências.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see CredentialCache
+ */
+public class CredentialCacheInvalidationListener {
+
+    @Autowired
+    private CredentialCache credentialCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+
+        var userId = user.getId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            credentialCache.invalidateUser(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                credentialCache.invalidateUser(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.persistence.ReadYourWritesGuard;
+import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
+import br.com.pablotzeliks.todolist.user.index.UsernameIndex;
+import br.com.pablotzeliks.todolist.user.repository.IUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Componente responsável por verificar usuário e senha contra o banco de dados.
+ * <p>
+ * Concentra a busca do usuário e a verificação do hash BCrypt em um único lugar,
+ * compartilhado pelo {@link FilterTaskAuth} (fallback Basic) e pela emissão de
+ * tokens de acesso em {@link br.com.pablotzeliks.todolist.user.service.UserService}.
+ * A verificação BCrypt roda no pool isolado do {@link PasswordHasher}.
+ * </p>
+ * <p>
+ * Usernames que o {@link UsernameIndex} garante não existirem são rejeitados sem
+ * consulta ao banco de dados.
+ * </p>
+ * <p>
+ * <strong>Réplica de leitura:</strong> a busca do usuário é somente leitura e, com a réplica
+ * habilitada, vai para ela. Um usuário recém-cadastrado pode ainda não ter sido replicado,
+ * então, se a réplica não o encontrar, a busca é repetida no primário.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see FilterTaskAuth
+ * @see AccessTokenService
+ */
+@Component
+public class CredentialVerifier {
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private UsernameIndex usernameIndex;
+
+    @Autowired
+    private ReadYourWritesGuard readYourWrites;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Verifica as credenciais informadas.
+     *
+     * @param username Nome de usuário
+     * @param password Senha em texto puro
+     * @return o usuário autenticado
+     * @throws UserNotAuthorizedException se o usuário não existir ou a senha não conferir
+     * @throws br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException se o pool de hash estiver saturado
+     */
+    public AuthenticatedUser verify(String username, String password) {
+
+        // Unknown usernames are rejected without a database round trip
+        if (!usernameIndex.mightContain(username)) {
+
+            throw new UserNotAuthorizedException("Usuário ou senha inválidos.");
+        }
+
+        var user = userRepository.findByUsername(username);
+
+        // A read-write transaction is routed to the primary, which already has users the replica lags behind on
+        if (user == null && readYourWrites.isEnabled()) {
+            user = transactionTemplate.execute(status -> userRepository.findByUsername(username));
+        }
+
+        if (user == null) {
+
+            throw new UserNotAuthorizedException("Usuário ou senha inválidos.");
+        }
+
+        if (!passwordHasher.verify(password, user.getPassword())) {
+            throw new UserNotAuthorizedException("Usuário ou senha inválidos.");
+        }
+
+        return new AuthenticatedUser(user.getId(), user.getUsername());
+    }
+}
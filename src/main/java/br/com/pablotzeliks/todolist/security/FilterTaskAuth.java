@@ -1,8 +1,6 @@
 package br.com.pablotzeliks.todolist.security;
 
-import at.favre.lib.crypto.bcrypt.BCrypt;
 import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
-import br.com.pablotzeliks.todolist.user.repository.IUserRepository;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,13 +11,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
-import java.util.Base64;
 
 /**
  * Filtro de autenticação para endpoints de tarefas.
  * <p>
  * Este filtro intercepta todas as requisições direcionadas aos endpoints {@code /tasks/}
- * e valida a autenticação do usuário através do esquema Basic Auth. Caso a autenticação
+ * e valida a autenticação do usuário através de um token {@code Bearer} emitido por
+ * {@code POST /users/token} ou, como fallback, do esquema Basic Auth. Caso a autenticação
  * seja bem-sucedida, o identificador do usuário é adicionado como atributo da requisição
  * para uso posterior pelos Controllers e Services.
  * </p>
@@ -34,23 +32,49 @@ import java.util.Base64;
  * Estende {@link OncePerRequestFilter} para garantir que o filtro seja executado apenas
  * uma vez por requisição, mesmo em casos de redirecionamento interno.
  * </p>
+ * <p>
+ * <strong>Token de acesso:</strong><br>
+ * Tokens {@code Bearer} são validados pelo {@link AccessTokenService} apenas com HMAC e
+ * expiração, sem consulta ao banco de dados e sem BCrypt.
+ * </p>
+ * <p>
+ * <strong>Cache de credenciais:</strong><br>
+ * Cabeçalhos já verificados são mantidos no {@link CredentialCache} por um curto período,
+ * evitando a verificação BCrypt e a consulta ao banco em cada requisição.
+ * </p>
  *
  * @author Pablo Tzeliks
  * @version 2.0.0
  * @since 1.0.0
  * @see OncePerRequestFilter
- * @see IUserRepository
+ * @see CredentialVerifier
+ * @see AccessTokenService
+ * @see CredentialCache
  * @see br.com.pablotzeliks.todolist.exception.GlobalExceptionHandler
  */
 @Component
 public class FilterTaskAuth extends OncePerRequestFilter {
 
+    private static final String BEARER = "Bearer ";
+
     /**
-     * Repositório para busca de usuários durante a autenticação.
+     * Verificador de usuário e senha para o fallback Basic Auth.
      * Injetado automaticamente pelo Spring através de {@code @Autowired}.
      */
     @Autowired
-    private IUserRepository userRepository;
+    private CredentialVerifier credentialVerifier;
+
+    /**
+     * Validador stateless dos tokens de acesso.
+     */
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    /**
+     * Cache de credenciais já verificadas, consultado antes do BCrypt.
+     */
+    @Autowired
+    private CredentialCache credentialCache;
 
     /**
      * Resolver de exceções do Spring MVC.
@@ -96,26 +120,30 @@ public class FilterTaskAuth extends OncePerRequestFilter {
             throw new UserNotAuthorizedException("Token de autenticação não fornecido.");
         }
 
-        var authEncoded = auth.substring("Basic".length()).trim();
-        var authDecoded = new String(Base64.getDecoder().decode(authEncoded));
-        String[] credentials = authDecoded.split(":");
+        if (auth.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
 
-        var username = credentials[0];
-        var password = credentials[1];
+            request.setAttribute("userId", accessTokenService.verify(auth.substring(BEARER.length()).trim()));
+            return;
+        }
 
-        var user = userRepository.findByUsername(username);
+        // Skips BCrypt and the user lookup for recently verified credentials
+        var cachedUser = credentialCache.get(auth);
 
-        if (user == null) {
+        if (cachedUser != null) {
 
-            throw new UserNotAuthorizedException("Usuário ou senha inválidos.");
+            request.setAttribute("userId", cachedUser.userId());
+            return;
         }
 
-        var passwordVerify = BCrypt.verifyer().verify(password.toCharArray(), user.getPassword());
+        var credentials = BasicCredentials.parse(auth);
 
-        if (!passwordVerify.verified) {
-            throw new UserNotAuthorizedException("Usuário ou senha inválidos.");
-        }
+        // Read before the user lookup, so a password change committed meanwhile keeps this result out of the cache
+        long generation = credentialCache.generation();
+
+        var user = credentialVerifier.verify(credentials.username(), credentials.password());
+
+        credentialCache.put(auth, user, generation);
 
-        request.setAttribute("userId", user.getId());
+        request.setAttribute("userId", user.userId());
     }
 }
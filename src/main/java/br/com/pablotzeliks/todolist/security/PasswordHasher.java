@@ -0,0 +1,178 @@
+package br.com.pablotzeliks.todolist.security;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor isolado e limitado para hash e verificação de senhas com BCrypt.
+ * <p>
+ * O BCrypt com custo 12 consome centenas de milissegundos de CPU por operação. Executá-lo
+ * nas threads do Tomcat permite que uma rajada de logins (ou um ataque de credential
+ * stuffing) ocupe todas elas e bloqueie o tráfego comum de tarefas. Este componente move
+ * o trabalho para um pool dedicado, dimensionado pelo número de CPUs, com fila limitada.
+ * </p>
+ * <p>
+ * Quando a fila está cheia, a operação é recusada imediatamente com
+ * {@link ServiceOverloadedException} (HTTP 503), em vez de enfileirar sem limite.
+ * </p>
+ * <p>
+ * Métricas publicadas no Micrometer:
+ * <ul>
+ *   <li>{@code password.hasher.queue.depth}: tarefas aguardando na fila</li>
+ *   <li>{@code password.hasher.active}: tarefas em execução</li>
+ *   <li>{@code password.hasher.wait}: tempo de espera na fila</li>
+ *   <li>{@code password.hasher.rejected}: operações recusadas por saturação</li>
+ * </ul>
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see CredentialVerifier
+ * @see br.com.pablotzeliks.todolist.user.service.UserService
+ */
+@Component
+public class PasswordHasher implements MeterBinder, DisposableBean {
+
+    /**
+     * Custo do BCrypt utilizado para novos hashes.
+     */
+    private static final int BCRYPT_COST = 12;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    private volatile Timer waitTimer;
+
+    private volatile Counter rejectedCounter;
+
+    @Autowired
+    public PasswordHasher(@Value("${todolist.security.hasher.threads:0}") int threads,
+                          @Value("${todolist.security.hasher.queue-capacity:64}") int queueCapacity,
+                          @Value("${todolist.security.hasher.timeout:10s}") Duration timeout) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gera o hash BCrypt de uma senha.
+     *
+     * @param rawPassword Senha em texto puro
+     * @return o hash BCrypt
+     * @throws ServiceOverloadedException se o pool estiver saturado
+     */
+    public String hash(String rawPassword) {
+
+        return run(() -> BCrypt.withDefaults().hashToString(BCRYPT_COST, rawPassword.toCharArray()));
+    }
+
+    /**
+     * Verifica uma senha contra um hash BCrypt.
+     *
+     * @param rawPassword    Senha em texto puro
+     * @param hashedPassword Hash BCrypt armazenado
+     * @return {@code true} se a senha conferir
+     * @throws ServiceOverloadedException se o pool estiver saturado
+     */
+    public boolean verify(String rawPassword, String hashedPassword) {
+
+        return run(() -> BCrypt.verifyer().verify(rawPassword.toCharArray(), hashedPassword).verified);
+    }
+
+    <T> T run(Callable<T> work) {
+
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                Timer timer = waitTimer;
+                if (timer != null) timer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+                return work.call();
+            });
+        } catch (RejectedExecutionException e) {
+
+            Counter counter = rejectedCounter;
+            if (counter != null) counter.increment();
+
+            throw new ServiceOverloadedException("Serviço de autenticação sobrecarregado. Tente novamente em instantes.", 1);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+
+            future.cancel(true);
+            throw new ServiceOverloadedException("Tempo de autenticação esgotado. Tente novamente em instantes.", 1);
+
+        } catch (InterruptedException e) {
+
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Operação de hash interrompida.", e);
+
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Falha ao processar a senha.", e.getCause());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("password.hasher.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Operações BCrypt aguardando na fila")
+                .register(registry);
+
+        Gauge.builder("password.hasher.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operações BCrypt em execução")
+                .register(registry);
+
+        this.waitTimer = Timer.builder("password.hasher.wait")
+                .description("Tempo de espera na fila do pool de hash")
+                .register(registry);
+
+        this.rejectedCounter = Counter.builder("password.hasher.rejected")
+                .description("Operações recusadas por saturação do pool")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,246 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.exception.general.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de limitação de taxa (rate limiting) executado antes do {@link FilterTaskAuth}.
+ * <p>
+ * Mantém baldes de tokens ({@link TokenBucket}) por IP do cliente e por usuário, com
+ * limites configuráveis por endpoint. Assim, um único cliente ruidoso não consegue
+ * esgotar o pool de conexões do banco de dados compartilhado por todos.
+ * </p>
+ * <p>
+ * <strong>Identificação do usuário:</strong><br>
+ * Como o filtro roda antes da autenticação, o usuário só é identificado quando a identidade
+ * já foi verificada, sem custo relevante: pelo {@code userId} de um token {@code Bearer}
+ * válido (apenas HMAC) ou de um cabeçalho Basic presente no {@link CredentialCache}. Os dois
+ * esquemas usam a mesma chave, então cada usuário tem um único balde por endpoint. O
+ * username de um cabeçalho Basic não verificado nunca é usado como chave, para que
+ * credenciais falsas não esgotem o balde de outro usuário; essas requisições continuam
+ * sujeitas apenas ao limite por IP.
+ * </p>
+ * <p>
+ * <strong>Memória limitada:</strong><br>
+ * Os baldes ficam em um cache Caffeine com expiração por inatividade
+ * ({@code todolist.rate-limit.idle-timeout}) e tamanho máximo
+ * ({@code todolist.rate-limit.max-buckets}); um balde despejado é recriado cheio.
+ * </p>
+ * <p>
+ * Limites configuráveis (capacidade de rajada e reposição por segundo):
+ * <ul>
+ *   <li>{@code todolist.rate-limit.ip.*}: por IP, em todos os endpoints de tarefas e usuários</li>
+ *   <li>{@code todolist.rate-limit.endpoints.tasks-create.*}: {@code POST /tasks/create} por usuário</li>
+ *   <li>{@code todolist.rate-limit.endpoints.tasks-list.*}: {@code GET /tasks/list} por usuário</li>
+ *   <li>{@code todolist.rate-limit.endpoints.tasks-update.*}: {@code PUT /tasks/update/{id}} por usuário</li>
+ *   <li>{@code todolist.rate-limit.endpoints.tasks-batch.*}: {@code POST /tasks/batch} por usuário</li>
+ *   <li>{@code todolist.rate-limit.endpoints.tasks-batch-delete.*}: {@code POST /tasks/batch/delete} por usuário</li>
+ *   <li>{@code todolist.rate-limit.endpoints.tasks-default.*}: demais endpoints de tarefas por usuário</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Os endpoints em lote aceitam até {@value br.com.pablotzeliks.todolist.task.service.TaskService#MAX_BATCH_SIZE}
+ * itens por requisição, então têm baldes próprios, bem menores: no balde padrão, cada lote
+ * custaria um token, como uma única escrita.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TokenBucket
+ * @see FilterTaskAuth
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final String PREFIX = "todolist.rate-limit.";
+
+    private static final String BEARER = "Bearer ";
+
+    private final AccessTokenService accessTokenService;
+
+    private final CredentialCache credentialCache;
+
+    private final HandlerExceptionResolver resolver;
+
+    private final boolean enabled;
+
+    private final Rule ipRule;
+
+    private final List<Rule> endpointRules;
+
+    private final Rule defaultTaskRule;
+
+    private final Cache<String, TokenBucket> buckets;
+
+    private volatile Counter rejectedCounter;
+
+    public RateLimitFilter(Environment environment,
+                           AccessTokenService accessTokenService,
+                           CredentialCache credentialCache,
+                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver) {
+
+        this.accessTokenService = accessTokenService;
+        this.credentialCache = credentialCache;
+        this.resolver = resolver;
+        this.enabled = environment.getProperty(PREFIX + "enabled", Boolean.class, true);
+
+        this.ipRule = rule(environment, "ip", null, "", 100, 50);
+        this.endpointRules = List.of(
+                rule(environment, "endpoints.tasks-create", "POST", "/tasks/create", 20, 10),
+                rule(environment, "endpoints.tasks-list", "GET", "/tasks/list", 30, 10),
+                rule(environment, "endpoints.tasks-update", "PUT", "/tasks/update/", 20, 10),
+                // Before tasks-batch, whose prefix also matches it
+                rule(environment, "endpoints.tasks-batch-delete", "POST", "/tasks/batch/delete", 2, 0.1),
+                rule(environment, "endpoints.tasks-batch", "POST", "/tasks/batch", 2, 0.1)
+        );
+        this.defaultTaskRule = rule(environment, "endpoints.tasks-default", null, "/tasks/", 30, 10);
+
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(environment.getProperty(PREFIX + "max-buckets", Long.class, 1_000_000L))
+                .expireAfterAccess(environment.getProperty(PREFIX + "idle-timeout", Duration.class, Duration.ofMinutes(10)))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        var servletPath = request.getServletPath();
+
+        return !enabled || !(servletPath.startsWith("/tasks/") || servletPath.startsWith("/users/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        try {
+
+            long now = System.nanoTime();
+
+            consume(ipRule, "ip:" + request.getRemoteAddr(), now);
+
+            if (request.getServletPath().startsWith("/tasks/")) {
+
+                String subject = resolveSubject(request.getHeader("Authorization"));
+
+                if (subject != null) {
+                    consume(matchTaskRule(request), subject, now);
+                }
+            }
+
+        } catch (RateLimitExceededException e) {
+
+            resolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("Baldes de tokens ativos")
+                .register(registry);
+
+        this.rejectedCounter = Counter.builder("rate.limit.rejected")
+                .description("Requisições recusadas por limite de taxa")
+                .register(registry);
+    }
+
+    private void consume(Rule rule, String subject, long now) {
+
+        TokenBucket bucket = buckets.get(rule.name() + "|" + subject,
+                key -> new TokenBucket(rule.capacity(), rule.refillPerSecond(), now));
+
+        long waitNanos = bucket.tryConsume(now);
+
+        if (waitNanos > 0) {
+
+            Counter counter = rejectedCounter;
+            if (counter != null) counter.increment();
+
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+            throw new RateLimitExceededException("Limite de requisições excedido. Tente novamente em instantes.", retryAfter);
+        }
+    }
+
+    private Rule matchTaskRule(HttpServletRequest request) {
+
+        var servletPath = request.getServletPath();
+
+        for (Rule rule : endpointRules) {
+
+            if (rule.method().equalsIgnoreCase(request.getMethod()) && servletPath.startsWith(rule.pathPrefix())) {
+                return rule;
+            }
+        }
+
+        return defaultTaskRule;
+    }
+
+    /**
+     * Identifica o usuário da requisição sem custo relevante (sem banco e sem BCrypt), apenas
+     * a partir de identidades já verificadas.
+     */
+    private String resolveSubject(String authorization) {
+
+        if (authorization == null) return null;
+
+        try {
+
+            if (authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+
+                return "user:" + accessTokenService.verify(authorization.substring(BEARER.length()).trim());
+            }
+
+            // Only Basic credentials already verified by FilterTaskAuth identify the user
+            var cachedUser = credentialCache.peek(authorization);
+
+            return cachedUser != null ? "user:" + cachedUser.userId() : null;
+
+        } catch (RuntimeException e) {
+
+            // Invalid credentials are rejected later by FilterTaskAuth, the IP limit still applies
+            return null;
+        }
+    }
+
+    private static Rule rule(Environment environment, String name, String method, String pathPrefix,
+                             long defaultCapacity, double defaultRefillPerSecond) {
+
+        return new Rule(
+                name,
+                method,
+                pathPrefix,
+                environment.getProperty(PREFIX + name + ".capacity", Long.class, defaultCapacity),
+                environment.getProperty(PREFIX + name + ".refill-per-second", Double.class, defaultRefillPerSecond)
+        );
+    }
+
+    private record Rule(String name, String method, String pathPrefix, long capacity, double refillPerSecond) { }
+}
@@ -0,0 +1,55 @@
+package br.com.pablotzeliks.todolist.security;
+
+/**
+ * Balde de tokens com reposição contínua, usado pelo {@link RateLimitFilter}.
+ * <p>
+ * Cada balde possui seu próprio monitor, de modo que a contenção fica restrita a
+ * requisições da mesma chave (IP ou usuário), sem nenhum lock global.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see RateLimitFilter
+ */
+class TokenBucket {
+
+    private final long capacity;
+
+    private final double refillPerNano;
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @param nowNanos Instante atual em {@link System#nanoTime()}
+     * @return {@code 0} se o token foi consumido, ou os nanossegundos até haver um token disponível
+     */
+    synchronized long tryConsume(long nowNanos) {
+
+        // A caller that read the clock before a concurrent one must not remove tokens
+        long elapsed = Math.max(0, nowNanos - lastRefillNanos);
+
+        tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+        lastRefillNanos = Math.max(lastRefillNanos, nowNanos);
+
+        if (tokens >= 1) {
+
+            tokens -= 1;
+            return 0;
+        }
+
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.pablotzeliks.todolist.task.agenda;
+
+import br.com.pablotzeliks.todolist.persistence.ReadWriteRoutingDataSource;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Índice de agenda em memória: uma {@link TaskIntervalTree} por usuário.
+ * <p>
+ * Responde "quais tarefas sobrepõem a janela {@code [from, to)}" sem o predicado de
+ * intervalo duplo ({@code startAt < to and endAt > from}) no banco, que nenhum índice
+ * B-tree resolve bem: o índice cobre apenas um dos lados e o outro vira filtro sobre
+ * todas as linhas lidas.
+ * </p>
+ * <p>
+ * A árvore guarda só o identificador e o período de cada tarefa, e é montada na primeira
+ * consulta a partir de {@link ITaskRepository#findIntervalsByUserId(UUID)}. Depois é
+ * mantida por {@link #index(TaskResponseDTO)} a cada criação ou alteração.
+ * </p>
+ * <p>
+ * <strong>Memória e consistência:</strong> as árvores ficam em um cache limitado por
+ * número de usuários ({@code todolist.tasks.agenda.max-users}) e são descartadas após
+ * {@code todolist.tasks.agenda.rebuild-after}. Assim como no índice de busca, cada árvore
+ * guarda a versão da lista do usuário ({@link TaskListVersions}) com que está
+ * sincronizada e é reconstruída quando a versão muda por uma escrita de outra instância.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskIntervalTree
+ * @see br.com.pablotzeliks.todolist.task.search.InMemoryTaskSearchIndex
+ */
+@Component
+public class TaskAgendaIndex implements MeterBinder {
+
+    private final ITaskRepository repository;
+
+    private final TaskListVersions versions;
+
+    private final Cache<UUID, UserAgenda> agendas;
+
+    @Autowired
+    public TaskAgendaIndex(ITaskRepository repository,
+                           TaskListVersions versions,
+                           @Value("${todolist.tasks.agenda.max-users:1000}") long maxUsers,
+                           @Value("${todolist.tasks.agenda.rebuild-after:10m}") Duration rebuildAfter) {
+
+        this.repository = repository;
+        this.versions = versions;
+        this.agendas = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(rebuildAfter)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Lista as tarefas do usuário que sobrepõem a janela {@code [from, to)}.
+     *
+     * @param userId Identificador do usuário
+     * @param from   Início da janela (inclusivo)
+     * @param to     Fim da janela (exclusivo)
+     * @return identificadores das tarefas, em ordem de início
+     */
+    public List<UUID> overlapping(UUID userId, LocalDateTime from, LocalDateTime to) {
+
+        return agendaFor(userId).overlapping(from, to);
+    }
+
+    /**
+     * Atualiza o período de uma tarefa criada ou alterada.
+     *
+     * @param task Tarefa já persistida
+     */
+    public void index(TaskResponseDTO task) {
+
+        UserAgenda agenda = agendas.getIfPresent(task.userId());
+
+        // Not loaded yet: the next query builds it from the database, change included
+        if (agenda == null) return;
+
+        agenda.put(task.id(), task.startAt(), task.endAt());
+        agenda.syncedVersion = Math.max(agenda.syncedVersion, versions.current(task.userId()));
+    }
+
+    /**
+     * Retira da agenda uma tarefa removida.
+     *
+     * @param userId Identificador do dono da tarefa
+     * @param taskId Identificador da tarefa removida
+     */
+    public void remove(UUID userId, UUID taskId) {
+
+        UserAgenda agenda = agendas.getIfPresent(userId);
+
+        if (agenda == null) return;
+
+        agenda.remove(taskId);
+        agenda.syncedVersion = Math.max(agenda.syncedVersion, versions.current(userId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        CaffeineCacheMetrics.monitor(registry, agendas, "taskAgendaIndex");
+    }
+
+    private UserAgenda agendaFor(UUID userId) {
+
+        long version = versions.current(userId);
+
+        UserAgenda agenda = agendas.getIfPresent(userId);
+
+        if (agenda != null && agenda.syncedVersion >= version) return agenda;
+
+        // Version read before loading, so a concurrent write triggers another rebuild instead of being lost.
+        // Loaded from the primary: a lagging replica would miss writes already covered by that version
+        UserAgenda rebuilt = new UserAgenda(version);
+        ReadWriteRoutingDataSource.onPrimary(() -> repository.findIntervalsByUserId(userId))
+                .forEach(interval -> rebuilt.put(interval.id(), interval.startAt(), interval.endAt()));
+
+        agendas.put(userId, rebuilt);
+
+        return rebuilt;
+    }
+
+    /**
+     * Árvore de intervalos de um único usuário, com acesso sincronizado.
+     */
+    private static final class UserAgenda {
+
+        private final TaskIntervalTree tree = new TaskIntervalTree();
+
+        volatile long syncedVersion;
+
+        UserAgenda(long syncedVersion) {
+            this.syncedVersion = syncedVersion;
+        }
+
+        synchronized void put(UUID id, LocalDateTime startAt, LocalDateTime endAt) {
+            tree.put(id, startAt, endAt);
+        }
+
+        synchronized void remove(UUID id) {
+            tree.remove(id);
+        }
+
+        synchronized List<UUID> overlapping(LocalDateTime from, LocalDateTime to) {
+            return tree.overlapping(from, to);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package br.com.pablotzeliks.todolist.task.agenda;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Árvore de intervalos aumentada com os períodos ({@code startAt}, {@code endAt}) das tarefas.
+ * <p>
+ * É uma treap ordenada por {@code (startAt, id)} em que cada nó guarda também o maior
+ * {@code endAt} da sua subárvore. A busca por sobreposição descarta subárvores inteiras
+ * cujo maior término é anterior à janela e para ao alcançar inícios posteriores a ela,
+ * custando O(log n + k) para k resultados, já em ordem de início.
+ * </p>
+ * <p>
+ * Não é thread-safe; o acesso concorrente é sincronizado por {@link TaskAgendaIndex}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskAgendaIndex
+ */
+final class TaskIntervalTree {
+
+    private final Map<UUID, Node> nodes = new HashMap<>();
+
+    private Node root;
+
+    /**
+     * Insere ou substitui o período de uma tarefa.
+     * <p>
+     * Tarefas sem início ou término não fazem parte da agenda e são apenas removidas.
+     * </p>
+     */
+    void put(UUID id, LocalDateTime startAt, LocalDateTime endAt) {
+
+        remove(id);
+
+        if (startAt == null || endAt == null) return;
+
+        Node node = new Node(id, toMicros(startAt), toMicros(endAt), ThreadLocalRandom.current().nextInt());
+
+        nodes.put(id, node);
+        root = insert(root, node);
+    }
+
+    void remove(UUID id) {
+
+        Node node = nodes.remove(id);
+
+        if (node != null) root = delete(root, node);
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Lista as tarefas cujo período sobrepõe a janela {@code [from, to)}, isto é,
+     * {@code startAt < to} e {@code endAt > from}, em ordem de {@code (startAt, id)}.
+     */
+    List<UUID> overlapping(LocalDateTime from, LocalDateTime to) {
+
+        List<UUID> found = new ArrayList<>();
+
+        collect(root, toMicros(from), toMicros(to), found);
+
+        return found;
+    }
+
+    private static void collect(Node node, long from, long to, List<UUID> found) {
+
+        // Nothing below ends after the window starts
+        if (node == null || node.maxEnd <= from) return;
+
+        collect(node.left, from, to, found);
+
+        // This node and its right subtree start at or after the window ends
+        if (node.start >= to) return;
+
+        if (node.end > from) found.add(node.id);
+
+        collect(node.right, from, to, found);
+    }
+
+    private static Node insert(Node root, Node node) {
+
+        if (root == null) return node;
+
+        if (node.priority > root.priority) {
+
+            Node[] parts = split(root, node);
+            node.left = parts[0];
+            node.right = parts[1];
+
+            return update(node);
+        }
+
+        if (compare(node, root) < 0) {
+            root.left = insert(root.left, node);
+        } else {
+            root.right = insert(root.right, node);
+        }
+
+        return update(root);
+    }
+
+    private static Node delete(Node root, Node node) {
+
+        int comparison = compare(node, root);
+
+        if (comparison == 0) return merge(root.left, root.right);
+
+        if (comparison < 0) {
+            root.left = delete(root.left, node);
+        } else {
+            root.right = delete(root.right, node);
+        }
+
+        return update(root);
+    }
+
+    /**
+     * Divide a árvore em nós menores que {@code key} e nós maiores ou iguais a ele.
+     */
+    private static Node[] split(Node root, Node key) {
+
+        if (root == null) return new Node[]{null, null};
+
+        if (compare(root, key) < 0) {
+
+            Node[] parts = split(root.right, key);
+            root.right = parts[0];
+
+            return new Node[]{update(root), parts[1]};
+        }
+
+        Node[] parts = split(root.left, key);
+        root.left = parts[1];
+
+        return new Node[]{parts[0], update(root)};
+    }
+
+    private static Node merge(Node left, Node right) {
+
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node update(Node node) {
+
+        long maxEnd = node.end;
+
+        if (node.left != null) maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        if (node.right != null) maxEnd = Math.max(maxEnd, node.right.maxEnd);
+
+        node.maxEnd = maxEnd;
+
+        return node;
+    }
+
+    private static int compare(Node a, Node b) {
+
+        int comparison = Long.compare(a.start, b.start);
+
+        return comparison != 0 ? comparison : a.id.compareTo(b.id);
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static final class Node {
+
+        private final UUID id;
+
+        private final long start;
+
+        private final long end;
+
+        private final int priority;
+
+        private long maxEnd;
+
+        private Node left;
+
+        private Node right;
+
+        private Node(UUID id, long start, long end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.pablotzeliks.todolist.task.cache;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Canal de invalidação dos dados de tarefas mantidos em memória.
+ * <p>
+ * Toda escrita em tarefas publica o {@code userId} afetado. Os assinantes, como o
+ * {@link TaskListCache} e o {@link br.com.pablotzeliks.todolist.task.service.TaskListVersions},
+ * descartam ou avançam o que guardam para aquele usuário.
+ * </p>
+ * <p>
+ * A implementação padrão, {@link LocalCacheInvalidationBus}, entrega as mensagens apenas
+ * dentro da própria JVM. Com várias instâncias atrás de um balanceador de carga, registre
+ * um bean {@code @Primary} que também repasse as mensagens às demais instâncias (por
+ * exemplo, via Redis Pub/Sub ou {@code LISTEN/NOTIFY} do PostgreSQL).
+ * </p>
+ * <p>
+ * <strong>Contrato:</strong> {@link #publish(UUID)} deve notificar os assinantes locais de
+ * forma síncrona, antes de retornar. Assim, quem escreveu nunca lê dados anteriores à
+ * própria escrita nesta instância.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see LocalCacheInvalidationBus
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Publica que as tarefas de um usuário mudaram.
+     *
+     * @param userId Identificador do usuário cujas tarefas mudaram
+     */
+    void publish(UUID userId);
+
+    /**
+     * Registra um assinante das invalidações.
+     *
+     * @param listener Ação executada com o {@code userId} de cada invalidação recebida
+     */
+    void subscribe(Consumer<UUID> listener);
+}
@@ -0,0 +1,64 @@
+package br.com.pablotzeliks.todolist.task.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Implementação em memória do {@link CacheInvalidationBus}, restrita à própria JVM.
+ * <p>
+ * Entrega cada invalidação de forma síncrona a todos os assinantes registrados. É
+ * suficiente para uma única instância da aplicação e serve de base para implementações
+ * distribuídas, que devem repassar as mensagens recebidas de outras instâncias a
+ * {@link #deliver(UUID)}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see CacheInvalidationBus
+ */
+@Component
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalCacheInvalidationBus.class);
+
+    private final List<Consumer<UUID>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UUID userId) {
+
+        deliver(userId);
+    }
+
+    @Override
+    public void subscribe(Consumer<UUID> listener) {
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Notifica os assinantes locais.
+     * <p>
+     * A falha de um assinante não impede que os demais sejam notificados.
+     * </p>
+     *
+     * @param userId Identificador do usuário cujas tarefas mudaram
+     */
+    protected void deliver(UUID userId) {
+
+        for (Consumer<UUID> listener : listeners) {
+
+            try {
+                listener.accept(userId);
+            } catch (RuntimeException e) {
+                log.error("Falha ao processar invalidação de cache do usuário {}.", userId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.pablotzeliks.todolist.task.cache;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cache limitado, em memória, da lista completa de tarefas de cada usuário.
+ * <p>
+ * Fica na frente de {@link br.com.pablotzeliks.todolist.task.service.TaskService#list(UUID)},
+ * chaveado pelo {@code userId}, com expiração após a escrita ({@code todolist.tasks.list-cache.ttl}).
+ * </p>
+ * <p>
+ * <strong>Memória:</strong> o limite é o total de tarefas guardadas
+ * ({@code todolist.tasks.list-cache.max-tasks}), e não a quantidade de usuários: cada
+ * entrada pesa o tamanho da sua lista. Listas maiores que
+ * {@code todolist.tasks.list-cache.max-list-size} não são guardadas, para que poucos
+ * usuários com muitas tarefas não despejem as entradas de todos os outros.
+ * </p>
+ * <p>
+ * <strong>Consistência:</strong> cada entrada guarda a versão da lista lida antes da consulta
+ * ao banco ({@link br.com.pablotzeliks.todolist.task.service.TaskListVersions}) e só é
+ * devolvida se essa versão ainda for a atual. Além disso, toda escrita publicada no
+ * {@link CacheInvalidationBus} remove a entrada do usuário. Com isso, um leitor nunca
+ * recebe uma lista anterior às próprias escritas, mesmo que uma leitura concorrente
+ * tente gravar dados antigos no cache.
+ * </p>
+ * <p>
+ * As métricas de acerto, falha e despejo são publicadas no Micrometer com o nome
+ * {@code taskListCache}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see CacheInvalidationBus
+ */
+@Component
+public class TaskListCache implements MeterBinder {
+
+    private final boolean enabled;
+
+    private final int maxListSize;
+
+    private final Cache<UUID, Entry> cache;
+
+    @Autowired
+    public TaskListCache(@Value("${todolist.tasks.list-cache.enabled:true}") boolean enabled,
+                         @Value("${todolist.tasks.list-cache.max-tasks:200000}") long maxTasks,
+                         @Value("${todolist.tasks.list-cache.max-list-size:1000}") int maxListSize,
+                         @Value("${todolist.tasks.list-cache.ttl:5m}") Duration ttl,
+                         CacheInvalidationBus invalidationBus) {
+
+        this.enabled = enabled;
+        this.maxListSize = maxListSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxTasks)
+                // An empty list still costs its key and version
+                .weigher((UUID userId, Entry entry) -> entry.tasks().size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        invalidationBus.subscribe(this::invalidate);
+    }
+
+    /**
+     * Busca a lista de tarefas do usuário, se ainda estiver na versão informada.
+     *
+     * @param userId  Identificador do usuário
+     * @param version Versão atual da lista do usuário
+     * @return a lista em cache, ou {@code null} se não houver entrada válida
+     */
+    public List<TaskResponseDTO> get(UUID userId, long version) {
+
+        if (!enabled) return null;
+
+        Entry entry = cache.getIfPresent(userId);
+
+        return entry != null && entry.version() == version ? entry.tasks() : null;
+    }
+
+    /**
+     * Armazena a lista de tarefas lida do banco de dados, se não passar de
+     * {@code todolist.tasks.list-cache.max-list-size} tarefas.
+     *
+     * @param userId  Identificador do usuário
+     * @param version Versão da lista lida <strong>antes</strong> da consulta
+     * @param tasks   Tarefas do usuário
+     */
+    public void put(UUID userId, long version, List<TaskResponseDTO> tasks) {
+
+        if (!enabled || tasks.size() > maxListSize) return;
+
+        Entry entry = new Entry(version, List.copyOf(tasks));
+
+        // Never replaces a newer list with one read before a later write
+        cache.asMap().merge(userId, entry, (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+    }
+
+    /**
+     * Remove a lista em cache de um usuário.
+     *
+     * @param userId Identificador do usuário cujas tarefas mudaram
+     */
+    public void invalidate(UUID userId) {
+
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        CaffeineCacheMetrics.monitor(registry, cache, "taskListCache");
+    }
+
+    private record Entry(long version, List<TaskResponseDTO> tasks) { }
+}
@@ -1,19 +1,43 @@
 package br.com.pablotzeliks.todolist.task.controller;
 
+import br.com.pablotzeliks.todolist.exception.general.PreconditionFailedException;
+import br.com.pablotzeliks.todolist.idempotency.IdempotencyStore;
+import br.com.pablotzeliks.todolist.task.dto.TaskAcceptedDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskBatchResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskChangesDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskDeleteResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskPageDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskStatsDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
+import br.com.pablotzeliks.todolist.task.ingest.PendingTask;
+import br.com.pablotzeliks.todolist.task.ingest.TaskWriteBehindQueue;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.repository.TaskFilter;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
 import br.com.pablotzeliks.todolist.task.service.TaskService;
+import br.com.pablotzeliks.todolist.task.service.TaskStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -54,6 +78,36 @@ public class TaskController {
     @Autowired
     private TaskService service;
 
+    /**
+     * Versões das listas de tarefas, usadas como ETag da listagem.
+     */
+    @Autowired
+    private TaskListVersions versions;
+
+    /**
+     * Service das estatísticas de tarefas mantidas incrementalmente.
+     */
+    @Autowired
+    private TaskStatsService statsService;
+
+    /**
+     * Fila de escrita postergada, usada na criação quando o modo write-behind está ativo.
+     */
+    @Autowired
+    private TaskWriteBehindQueue writeBehindQueue;
+
+    /**
+     * Respostas guardadas por {@code Idempotency-Key}, para reenvios da criação.
+     */
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    /**
+     * Serializador JSON do Spring, reutilizado na listagem em streaming.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Endpoint para criação de uma nova tarefa.
      * <p>
@@ -61,10 +115,26 @@ public class TaskController {
      * e toda a lógica de criação ao {@link TaskService}. Retorna HTTP 201 (Created)
      * com o DTO da tarefa criada no corpo da resposta.
      * </p>
+     * <p>
+     * Com o modo write-behind ativo ({@code todolist.tasks.write-behind.enabled}), a tarefa
+     * é gravada em grupo com outras criações concorrentes. A resposta 201 só é enviada após
+     * o commit do grupo; com {@code Prefer: respond-async}, a resposta é imediata (HTTP 202)
+     * e traz apenas o id já atribuído.
+     * </p>
+     * <p>
+     * Com o cabeçalho {@code Idempotency-Key}, reenvios com a mesma chave recebem a resposta
+     * da primeira execução, sem criar outra tarefa ({@link IdempotencyStore}). No modo
+     * write-behind, a chave fica presa à tarefa enfileirada até a gravação terminar, mesmo
+     * que a espera pela resposta 201 se esgote com HTTP 503. O 202 só é guardado depois do
+     * commit: se a gravação falhar, o reenvio cria a tarefa de novo em vez de repetir um id
+     * que nunca existiu.
+     * </p>
      *
-     * @param requestDTO DTO validado contendo os dados da tarefa
-     * @param request    Requisição HTTP contendo o userId injetado pelo filtro de autenticação
-     * @return ResponseEntity com status 201 e o DTO da tarefa criada
+     * @param requestDTO     DTO validado contendo os dados da tarefa
+     * @param request        Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param prefer         Valor do cabeçalho {@code Prefer} (opcional)
+     * @param idempotencyKey Valor do cabeçalho {@code Idempotency-Key} (opcional)
+     * @return ResponseEntity com status 201 e o DTO da tarefa criada, ou 202 com o id
      */
     @Operation(
             summary = "Cria uma nova tarefa",
@@ -74,14 +144,73 @@ public class TaskController {
             responseCode = "201",
             description = "Tarefa criada com sucesso"
     )
-
+    @ApiResponse(
+            responseCode = "202",
+            description = "Tarefa aceita para gravação em grupo (modo write-behind com Prefer: respond-async)"
+    )
     @PostMapping("/create")
-    public ResponseEntity<Object> create(@Valid @RequestBody TaskRequestDTO requestDTO, HttpServletRequest request) {
+    public ResponseEntity<Object> create(@Valid @RequestBody TaskRequestDTO requestDTO, HttpServletRequest request,
+                                         @RequestHeader(value = "Prefer", required = false) String prefer,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
         var userId = (UUID) request.getAttribute("userId");
 
-        TaskResponseDTO responseDTO = service.create(requestDTO, userId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
+        if (!writeBehindQueue.isEnabled()) {
+
+            return idempotencyStore.execute("tasks.create", userId, idempotencyKey, requestDTO,
+                    () -> created(service.create(requestDTO, userId)));
+        }
+
+        boolean respondAsync = prefer != null && prefer.toLowerCase().contains("respond-async");
+
+        // The key is released or stored only when the queued Task is written, not when the client is answered
+        return idempotencyStore.execute("tasks.create", userId, idempotencyKey, requestDTO,
+                () -> service.enqueue(requestDTO, userId),
+                pending -> respondAsync
+                        ? pending.durable().thenApply(task -> accepted(pending))
+                        : pending.durable().thenApply(this::created),
+                pending -> respondAsync ? accepted(pending) : created(writeBehindQueue.await(pending)));
+    }
+
+    private ResponseEntity<Object> created(TaskResponseDTO responseDTO) {
+
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(versionTag(responseDTO)).body(responseDTO);
+    }
+
+    private ResponseEntity<Object> accepted(PendingTask pending) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header("Preference-Applied", "respond-async")
+                .body(new TaskAcceptedDTO(pending.id()));
+    }
+
+    /**
+     * Endpoint para criação de tarefas em lote, destinado a importadores.
+     * <p>
+     * Cada item é validado individualmente; os válidos são criados juntos em uma única
+     * transação e os inválidos são devolvidos com seus erros, na posição em que foram
+     * enviados. Aceita até {@value TaskService#MAX_BATCH_SIZE} itens por requisição.
+     * </p>
+     *
+     * @param requestDTOs DTOs das tarefas a criar
+     * @param request     Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @return ResponseEntity com status 200 e o resultado de cada item
+     */
+    @Operation(
+            summary = "Cria tarefas em lote",
+            description = "Cria até 1000 tarefas em uma única transação, retornando o resultado de cada item."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; consulte o resultado de cada item"
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createBatch(@RequestBody List<TaskRequestDTO> requestDTOs, HttpServletRequest request) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        TaskBatchResponseDTO responseDTO = service.createBatch(requestDTOs, userId);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
     }
 
     /**
@@ -90,24 +219,292 @@ public class TaskController {
      * Delega a busca ao {@link TaskService}, que filtra as tarefas pelo userId
      * extraído do filtro de autenticação. Retorna HTTP 200 (OK) com a lista de tarefas.
      * </p>
+     * <p>
+     * Quando {@code limit} ou {@code cursor} são informados, a resposta passa a ser uma
+     * página ({@link TaskPageDTO}) obtida por paginação por keyset. Sem esses parâmetros,
+     * todas as tarefas são retornadas, mantendo a compatibilidade com clientes existentes.
+     * </p>
+     * <p>
+     * Os filtros ({@code priority}, intervalos de {@code startAt}/{@code endAt}) e a ordenação
+     * ({@code sort}, {@code direction}) são aplicados no banco de dados, evitando que o
+     * cliente precise baixar todas as tarefas para filtrá-las localmente.
+     * </p>
+     * <p>
+     * Toda resposta traz um {@code ETag} com a versão atual das tarefas do usuário. Se o
+     * cliente reenviar esse valor em {@code If-None-Match} e nada tiver mudado, a resposta é
+     * {@code 304 Not Modified}, sem consulta ao banco de dados e sem corpo.
+     * </p>
      *
-     * @param request Requisição HTTP contendo o userId injetado pelo filtro de autenticação
-     * @return Lista de DTOs das tarefas do usuário
+     * @param request    Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param webRequest Requisição usada na verificação do {@code If-None-Match}
+     * @param limit      Tamanho da página (opcional)
+     * @param cursor     Cursor opaco da página anterior (opcional)
+     * @param priority   Prioridades aceitas, repetidas ou separadas por vírgula (opcional)
+     * @param startFrom  Limite inferior de {@code startAt}, em ISO-8601 (opcional)
+     * @param startTo    Limite superior de {@code startAt}, em ISO-8601 (opcional)
+     * @param endFrom    Limite inferior de {@code endAt}, em ISO-8601 (opcional)
+     * @param endTo      Limite superior de {@code endAt}, em ISO-8601 (opcional)
+     * @param sort       Ordenação: {@code priority}, {@code endAt} ou {@code createdAt} (padrão)
+     * @param direction  Direção da ordenação: {@code asc} (padrão) ou {@code desc}
+     * @return ResponseEntity com status 200 e a lista ou a página de tarefas do usuário,
+     *         ou {@code null} quando a resposta 304 já foi preparada
      */
     @Operation(
             summary = "Lista tarefas do usuário",
-            description = "Retorna todas as tarefas pertencentes ao usuário autenticado."
+            description = "Retorna as tarefas do usuário autenticado. Aceita filtros por prioridade e datas, "
+                    + "ordenação por priority/endAt/createdAt e limit/cursor para paginar."
     )
     @ApiResponse(
             responseCode = "200",
             description = "Lista de tarefas retornada com sucesso"
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Nenhuma alteração desde o ETag informado em If-None-Match"
+    )
     @GetMapping("/list")
-    public List<TaskResponseDTO> list(HttpServletRequest request) {
+    public ResponseEntity<Object> list(HttpServletRequest request,
+                                       WebRequest webRequest,
+                                       @RequestParam(required = false) Integer limit,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) List<Priority> priority,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startFrom,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTo,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endFrom,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTo,
+                                       @RequestParam(required = false) String sort,
+                                       @RequestParam(required = false) String direction) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        // Read before querying: a concurrent write can only make the tag older than the body, never newer
+        String eTag = versions.eTag(userId);
+
+        if (webRequest.checkNotModified(eTag)) {
+
+            return null;
+        }
+
+        TaskFilter filter = TaskFilter.of(priority, startFrom, startTo, endFrom, endTo, sort, direction);
+        int pageSize = limit != null ? limit : TaskService.DEFAULT_PAGE_SIZE;
+
+        Object body;
+
+        if (filter.isDefault()) {
+
+            body = limit == null && cursor == null
+                    ? service.list(userId)
+                    : service.listPage(userId, pageSize, cursor);
+        } else {
+
+            body = limit == null && cursor == null
+                    ? service.list(userId, filter)
+                    : service.listPage(userId, filter, pageSize, cursor);
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(body);
+    }
+
+    /**
+     * Endpoint de busca textual nas tarefas do usuário autenticado.
+     * <p>
+     * Busca os termos de {@code q} no título e na descrição das tarefas e retorna os
+     * resultados ordenados por relevância, com o título pesando mais que a descrição.
+     * </p>
+     *
+     * @param request Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param q       Texto buscado
+     * @param limit   Quantidade máxima de resultados (opcional)
+     * @return ResponseEntity com status 200 e as tarefas encontradas
+     */
+    @Operation(
+            summary = "Busca tarefas por texto",
+            description = "Busca ranqueada por termos no título e na descrição das tarefas do usuário autenticado."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Resultados da busca retornados com sucesso"
+    )
+    @GetMapping("/search")
+    public ResponseEntity<Object> search(HttpServletRequest request,
+                                         @RequestParam(required = false) String q,
+                                         @RequestParam(required = false) Integer limit) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        List<TaskResponseDTO> results = service.search(userId, q, limit != null ? limit : TaskService.DEFAULT_SEARCH_SIZE);
+        return ResponseEntity.status(HttpStatus.OK).body(results);
+    }
+
+    /**
+     * Endpoint do feed de alterações (sincronização incremental).
+     * <p>
+     * Retorna apenas as tarefas criadas ou alteradas após o cursor {@code since}. Na primeira
+     * sincronização, omita {@code since}; nas seguintes, envie o {@code nextCursor} recebido.
+     * Enquanto {@code hasMore} for {@code true}, repita a chamada imediatamente.
+     * </p>
+     *
+     * @param request Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param since   Cursor opaco da sincronização anterior (opcional)
+     * @param limit   Quantidade máxima de alterações (opcional)
+     * @return ResponseEntity com status 200 e as alterações desde o cursor
+     */
+    @Operation(
+            summary = "Lista alterações de tarefas",
+            description = "Retorna as tarefas criadas ou alteradas desde o cursor informado em since."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Alterações retornadas com sucesso"
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<Object> changes(HttpServletRequest request,
+                                          @RequestParam(required = false) String since,
+                                          @RequestParam(required = false) Integer limit) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        TaskChangesDTO changes = service.changes(userId, since, limit != null ? limit : TaskService.DEFAULT_PAGE_SIZE);
+        return ResponseEntity.status(HttpStatus.OK).body(changes);
+    }
+
+    /**
+     * Endpoint de agenda, para visões de calendário.
+     * <p>
+     * Retorna as tarefas cujo período sobrepõe a janela {@code [from, to)}, ordenadas por
+     * início. A janela pode ter até {@value TaskService#MAX_AGENDA_DAYS} dias.
+     * </p>
+     *
+     * @param request Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param from    Início da janela, ISO-8601 (inclusivo)
+     * @param to      Fim da janela, ISO-8601 (exclusivo)
+     * @return ResponseEntity com status 200 e as tarefas da janela
+     */
+    @Operation(
+            summary = "Agenda de tarefas",
+            description = "Retorna as tarefas que sobrepõem a janela [from, to), ordenadas por data de início."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Tarefas da janela retornadas com sucesso"
+    )
+    @GetMapping("/agenda")
+    public ResponseEntity<Object> agenda(HttpServletRequest request,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        List<TaskResponseDTO> tasks = service.agenda(userId, from, to);
+        return ResponseEntity.status(HttpStatus.OK).body(tasks);
+    }
+
+    /**
+     * Endpoint de próximas tarefas.
+     * <p>
+     * Retorna as {@code n} tarefas mais prioritárias (URGENT, HIGH, MEDIUM, LOW) e, dentro
+     * de cada prioridade, as de término mais próximo.
+     * </p>
+     *
+     * @param request Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param n       Quantidade de tarefas (opcional, padrão 10, máximo 50)
+     * @return ResponseEntity com status 200 e as próximas tarefas
+     */
+    @Operation(
+            summary = "Próximas tarefas",
+            description = "Retorna as N tarefas mais prioritárias, desempatadas pelo término mais próximo."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Próximas tarefas retornadas com sucesso"
+    )
+    @GetMapping("/next")
+    public ResponseEntity<Object> next(HttpServletRequest request,
+                                       @RequestParam(required = false) Integer n) {
 
         var userId = (UUID) request.getAttribute("userId");
 
-        return service.list(userId);
+        List<TaskResponseDTO> tasks = service.next(userId, n != null ? n : TaskService.DEFAULT_NEXT_SIZE);
+        return ResponseEntity.status(HttpStatus.OK).body(tasks);
+    }
+
+    /**
+     * Endpoint de estatísticas das tarefas do usuário.
+     * <p>
+     * Retorna o total, a quantidade por prioridade, as tarefas vencidas e as que vencem
+     * nos próximos {@code upcomingDays} dias. Os contadores são mantidos a cada escrita,
+     * então a resposta não percorre as tarefas do usuário.
+     * </p>
+     *
+     * @param request      Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param upcomingDays Janela, em dias, das tarefas próximas do vencimento (opcional, padrão 7)
+     * @return ResponseEntity com status 200 e as estatísticas
+     */
+    @Operation(
+            summary = "Estatísticas de tarefas",
+            description = "Retorna contagens por prioridade, tarefas vencidas e tarefas que vencem nos próximos dias."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Estatísticas retornadas com sucesso"
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<Object> stats(HttpServletRequest request,
+                                        @RequestParam(required = false) Integer upcomingDays) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        TaskStatsDTO stats = statsService.get(userId, upcomingDays != null ? upcomingDays : TaskStatsService.DEFAULT_UPCOMING_DAYS);
+        return ResponseEntity.status(HttpStatus.OK).body(stats);
+    }
+
+    /**
+     * Endpoint para listagem completa em streaming (NDJSON).
+     * <p>
+     * Destinado a clientes que realmente precisam de todas as tarefas, como agentes de
+     * sincronização e exportações. Cada tarefa é escrita na resposta como uma linha JSON
+     * ({@code application/x-ndjson}) assim que é lida do banco, sem montar a lista completa
+     * em memória.
+     * </p>
+     *
+     * @param request  Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param response Resposta HTTP onde as linhas NDJSON são escritas
+     * @throws IOException se a escrita na resposta falhar
+     */
+    @Operation(
+            summary = "Lista todas as tarefas em streaming",
+            description = "Retorna todas as tarefas do usuário autenticado como NDJSON, uma tarefa por linha."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Tarefas transmitidas com sucesso"
+    )
+    @GetMapping(value = "/list/stream", produces = "application/x-ndjson")
+    public void listStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ObjectWriter writer = objectMapper.writerFor(TaskResponseDTO.class);
+        OutputStream out = response.getOutputStream();
+
+        try {
+            service.stream(userId, task -> {
+                try {
+                    out.write(writer.writeValueAsBytes(task));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        out.flush();
     }
 
     /**
@@ -117,10 +514,17 @@ public class TaskController {
      * Permite atualização parcial (apenas os campos fornecidos são alterados).
      * Retorna HTTP 200 (OK) com o DTO da tarefa atualizada.
      * </p>
+     * <p>
+     * A resposta traz um {@code ETag} com a versão da tarefa. Se o cliente o reenviar em
+     * {@code If-Match}, a edição só é aplicada se ninguém tiver alterado a tarefa desde
+     * então; caso contrário, retorna HTTP 412 (Precondition Failed). Sem o cabeçalho (ou
+     * com {@code If-Match: *}), vale a última escrita.
+     * </p>
      *
      * @param requestDTO DTO validado contendo os dados a serem atualizados
      * @param request    Requisição HTTP contendo o userId injetado pelo filtro de autenticação
      * @param id         Identificador da tarefa a ser atualizada
+     * @param ifMatch    Valor do cabeçalho {@code If-Match} (opcional)
      * @return ResponseEntity com status 200 e o DTO da tarefa atualizada
      */
     @Operation(
@@ -131,12 +535,107 @@ public class TaskController {
             responseCode = "200",
             description = "Tarefa atualizada com sucesso"
     )
+    @ApiResponse(
+            responseCode = "412",
+            description = "A tarefa não está mais na versão informada em If-Match"
+    )
     @PutMapping("/update/{id}")
-    public ResponseEntity<Object> update(@Valid @RequestBody TaskUpdateDTO requestDTO, HttpServletRequest request, @PathVariable UUID id) {
+    public ResponseEntity<Object> update(@Valid @RequestBody TaskUpdateDTO requestDTO, HttpServletRequest request, @PathVariable UUID id,
+                                         @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        TaskResponseDTO responseDTO = service.update(id, requestDTO, userId, parseIfMatch(ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(versionTag(responseDTO)).body(responseDTO);
+    }
+
+    /**
+     * Endpoint para remoção de uma tarefa.
+     * <p>
+     * A remoção é lógica e barata: a tarefa deixa de aparecer nas consultas e é informada no
+     * feed de alterações ({@code deleted}); a linha é apagada depois, em segundo plano.
+     * Aceita {@code If-Match} com o ETag da tarefa, como a atualização.
+     * </p>
+     *
+     * @param request Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @param id      Identificador da tarefa a ser removida
+     * @param ifMatch Valor do cabeçalho {@code If-Match} (opcional)
+     * @return ResponseEntity com status 204 e sem corpo
+     */
+    @Operation(
+            summary = "Remove uma tarefa",
+            description = "Remove uma tarefa do usuário autenticado. A remoção aparece no feed de alterações."
+    )
+    @ApiResponse(
+            responseCode = "204",
+            description = "Tarefa removida com sucesso"
+    )
+    @ApiResponse(
+            responseCode = "412",
+            description = "A tarefa não está mais na versão informada em If-Match"
+    )
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Object> delete(HttpServletRequest request, @PathVariable UUID id,
+                                         @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+
+        var userId = (UUID) request.getAttribute("userId");
+
+        service.delete(id, userId, parseIfMatch(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Endpoint para remoção de tarefas em lote.
+     * <p>
+     * Remove até {@value TaskService#MAX_BATCH_SIZE} tarefas em uma única transação. IDs
+     * inexistentes, já removidos ou de outros usuários são devolvidos em {@code notFound}.
+     * </p>
+     *
+     * @param ids     Identificadores das tarefas a remover
+     * @param request Requisição HTTP contendo o userId injetado pelo filtro de autenticação
+     * @return ResponseEntity com status 200, as tarefas removidas e as não encontradas
+     */
+    @Operation(
+            summary = "Remove tarefas em lote",
+            description = "Remove até 1000 tarefas do usuário autenticado em uma única transação."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; consulte as tarefas removidas e as não encontradas"
+    )
+    @PostMapping("/batch/delete")
+    public ResponseEntity<Object> deleteBatch(@RequestBody List<UUID> ids, HttpServletRequest request) {
 
         var userId = (UUID) request.getAttribute("userId");
 
-        TaskResponseDTO responseDTO = service.update(id, requestDTO, userId);
+        TaskDeleteResponseDTO responseDTO = service.deleteBatch(ids, userId);
         return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
     }
+
+    private static String versionTag(TaskResponseDTO task) {
+
+        return "\"" + (task.version() != null ? task.version() : 0L) + "\"";
+    }
+
+    /**
+     * Extrai a versão esperada do {@code If-Match}; {@code null} quando não há pré-condição.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+
+        String tag = ifMatch.trim();
+
+        if (tag.startsWith("W/")) tag = tag.substring(2);
+
+        tag = tag.replace("\"", "");
+
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+
+            // A tag this server never issued cannot match the current version
+            throw new PreconditionFailedException("ETag inválido em If-Match: " + ifMatch);
+        }
+    }
 }
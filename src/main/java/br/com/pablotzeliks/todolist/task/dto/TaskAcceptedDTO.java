@@ -0,0 +1,23 @@
+package br.com.pablotzeliks.todolist.task.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) imutável devolvido quando a criação de uma tarefa é aceita
+ * para gravação posterior (HTTP 202).
+ * <p>
+ * O id já é definitivo: a tarefa passa a aparecer nas consultas assim que o grupo da
+ * fila de escrita postergada em que ela entrou for confirmado no banco.
+ * </p>
+ *
+ * @param id Identificador atribuído à tarefa
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.task.ingest.TaskWriteBehindQueue
+ */
+public record TaskAcceptedDTO(
+
+        UUID id
+) { }
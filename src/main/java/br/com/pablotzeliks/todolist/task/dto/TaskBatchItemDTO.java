@@ -0,0 +1,28 @@
+package br.com.pablotzeliks.todolist.task.dto;
+
+import br.com.pablotzeliks.todolist.exception.dto.ValidationErrorDTO;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) imutável com o resultado de um item da criação em lote.
+ * <p>
+ * Exatamente um de {@code task} e {@code errors} é preenchido: a tarefa criada, quando o
+ * item foi aceito, ou os erros de validação, quando foi recusado.
+ * </p>
+ *
+ * @param index  Posição do item na requisição, a partir de 0
+ * @param task   Tarefa criada, ou {@code null} se o item foi recusado
+ * @param errors Erros de validação do item, ou {@code null} se foi aceito
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskBatchResponseDTO
+ */
+public record TaskBatchItemDTO(
+
+        int index,
+        TaskResponseDTO task,
+        List<ValidationErrorDTO> errors
+) { }
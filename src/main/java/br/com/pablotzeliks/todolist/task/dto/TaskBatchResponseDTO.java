@@ -0,0 +1,26 @@
+package br.com.pablotzeliks.todolist.task.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) imutável com o resultado de {@code POST /tasks/batch}.
+ * <p>
+ * Os itens válidos são criados juntos, em uma única transação; os inválidos são recusados
+ * individualmente, sem impedir a criação dos demais.
+ * </p>
+ *
+ * @param created  Quantidade de tarefas criadas
+ * @param rejected Quantidade de itens recusados
+ * @param items    Resultado de cada item, na ordem da requisição
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskBatchItemDTO
+ */
+public record TaskBatchResponseDTO(
+
+        int created,
+        int rejected,
+        List<TaskBatchItemDTO> items
+) { }
@@ -0,0 +1,31 @@
+package br.com.pablotzeliks.todolist.task.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) imutável para uma página do feed de alterações de tarefas.
+ * <p>
+ * Retornado por {@code GET /tasks/changes}. O cliente aplica {@code changed} (inserindo ou
+ * substituindo pelo {@code id}) e remove as tarefas listadas em {@code deleted}. Em seguida,
+ * guarda {@code nextCursor} e o envia no parâmetro {@code since} da próxima sincronização.
+ * Enquanto {@code hasMore} for {@code true}, há mais alterações a buscar imediatamente.
+ * </p>
+ *
+ * @param changed    Tarefas criadas ou alteradas após o cursor, em ordem de alteração
+ * @param deleted    Identificadores das tarefas removidas após o cursor
+ * @param nextCursor Cursor opaco para a próxima sincronização, ou {@code null} se ainda não houver alterações
+ * @param hasMore    Indica se há mais alterações além desta página
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskResponseDTO
+ */
+public record TaskChangesDTO(
+
+        List<TaskResponseDTO> changed,
+        List<UUID> deleted,
+        String nextCursor,
+        boolean hasMore
+) { }
@@ -0,0 +1,24 @@
+package br.com.pablotzeliks.todolist.task.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) imutável com o resultado de {@code POST /tasks/batch/delete}.
+ * <p>
+ * Tarefas inexistentes, já removidas ou de outro usuário são listadas em {@code notFound},
+ * sem impedir a remoção das demais.
+ * </p>
+ *
+ * @param deleted  Identificadores das tarefas removidas
+ * @param notFound Identificadores que não correspondem a uma tarefa ativa do usuário
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public record TaskDeleteResponseDTO(
+
+        List<UUID> deleted,
+        List<UUID> notFound
+) { }
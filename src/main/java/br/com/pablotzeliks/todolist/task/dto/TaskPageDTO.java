@@ -0,0 +1,25 @@
+package br.com.pablotzeliks.todolist.task.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) imutável para uma página da listagem de tarefas.
+ * <p>
+ * Utilizado pela paginação por cursor de {@code GET /tasks/list}. O cliente deve
+ * repassar {@code nextCursor} no parâmetro {@code cursor} para obter a próxima página;
+ * quando {@code nextCursor} é {@code null}, não há mais tarefas.
+ * </p>
+ *
+ * @param items      Tarefas da página, em ordem de criação
+ * @param nextCursor Cursor opaco para a próxima página, ou {@code null} na última página
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskResponseDTO
+ */
+public record TaskPageDTO(
+
+        List<TaskResponseDTO> items,
+        String nextCursor
+) { }
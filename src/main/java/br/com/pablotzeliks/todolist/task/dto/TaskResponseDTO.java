@@ -28,6 +28,7 @@ import java.util.UUID;
  * @param userId      Identificador do usuário proprietário
  * @param createdAt   Data/hora de criação do registro
  * @param updatedAt   Data/hora da última atualização
+ * @param version     Versão da tarefa, usada como ETag e no cabeçalho {@code If-Match}
  *
  * @author Pablo Tzeliks
  * @version 2.0.0
@@ -45,5 +46,6 @@ public record TaskResponseDTO(
         Priority priority,
         UUID userId,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) { }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package br.com.pablotzeliks.todolist.task.dto;
+
+import br.com.pablotzeliks.todolist.task.model.Priority;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO (Data Transfer Object) imutável para as estatísticas de tarefas do usuário.
+ * <p>
+ * Retornado por {@code GET /tasks/stats}, destinado a dashboards.
+ * </p>
+ *
+ * @param total         Total de tarefas
+ * @param byPriority    Quantidade de tarefas por prioridade
+ * @param overdue       Tarefas com término ({@code endAt}) já vencido
+ * @param upcoming      Tarefas com término entre agora e {@code upcomingUntil}
+ * @param upcomingUntil Limite da janela de tarefas próximas do vencimento
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.task.service.TaskStatsService
+ */
+public record TaskStatsDTO(
+
+        long total,
+        Map<Priority, Long> byPriority,
+        long overdue,
+        long upcoming,
+        LocalDateTime upcomingUntil
+) { }
@@ -0,0 +1,22 @@
+package br.com.pablotzeliks.todolist.task.ingest;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tarefa aceita pelo {@link TaskWriteBehindQueue} e ainda não necessariamente persistida.
+ *
+ * @param id      Identificador já atribuído à tarefa
+ * @param durable Concluído com a tarefa quando o grupo que a contém for confirmado no
+ *                banco, ou com a exceção que impediu a gravação
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ */
+public record PendingTask(
+        UUID id,
+        CompletableFuture<TaskResponseDTO> durable
+) { }
@@ -0,0 +1,25 @@
+package br.com.pablotzeliks.todolist.task.ingest;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Task;
+
+import java.util.List;
+
+/**
+ * Persiste um grupo de tarefas enfileiradas pelo {@link TaskWriteBehindQueue}.
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.task.service.TaskService
+ */
+public interface TaskGroupWriter {
+
+    /**
+     * Insere todas as tarefas do grupo em uma única transação.
+     *
+     * @param tasks Tarefas já validadas e com id atribuído, possivelmente de vários usuários
+     * @return DTOs das tarefas persistidas, na mesma ordem
+     */
+    List<TaskResponseDTO> createGroup(List<Task> tasks);
+}
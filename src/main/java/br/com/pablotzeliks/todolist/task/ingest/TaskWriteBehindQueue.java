@@ -0,0 +1,380 @@
+package br.com.pablotzeliks.todolist.task.ingest;
+
+import br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fila de escrita postergada (write-behind) com commit em grupo para a criação de tarefas.
+ * <p>
+ * Com {@code todolist.tasks.write-behind.enabled=true}, as tarefas já validadas são
+ * colocadas em uma fila limitada em memória. Uma thread dedicada esvazia a fila em grupos
+ * de até {@code group-size} tarefas, ou o que houver após {@code max-delay} da chegada da
+ * primeira, e grava cada grupo em uma única transação com INSERTs em lote. Muitas
+ * transações de uma linha viram poucas transações grandes: o custo do commit (fsync do
+ * WAL no PostgreSQL) e das idas ao banco é dividido pelo grupo inteiro.
+ * </p>
+ * <p>
+ * <strong>Durabilidade:</strong> cada tarefa recebe um {@link PendingTask} com o id já
+ * atribuído e um futuro concluído somente após o commit do seu grupo. Quem responder antes
+ * disso (HTTP 202) aceita perder as tarefas ainda na fila se a instância cair.
+ * </p>
+ * <p>
+ * <strong>Encerramento:</strong> a fila é um {@link SmartLifecycle} da fase {@value #PHASE}.
+ * O Spring a para depois do servidor web, que já terminou as requisições em andamento, e
+ * antes de destruir os beans, então o JPA e o DataSource ainda estão abertos enquanto a fila
+ * é esvaziada. A espera é limitada por {@code spring.lifecycle.timeout-per-shutdown-phase}.
+ * </p>
+ * <p>
+ * <strong>Falhas:</strong> se a transação de um grupo falhar, as tarefas são regravadas uma
+ * a uma, para que um único item problemático não derrube as demais. Com a fila cheia, a
+ * tarefa é recusada imediatamente com {@link ServiceOverloadedException} (HTTP 503).
+ * </p>
+ * <p>
+ * Métricas publicadas no Micrometer:
+ * <ul>
+ *   <li>{@code tasks.write-behind.queue.depth}: tarefas aguardando na fila</li>
+ *   <li>{@code tasks.write-behind.group.size}: tamanho dos grupos gravados</li>
+ *   <li>{@code tasks.write-behind.rejected}: tarefas recusadas com a fila cheia</li>
+ *   <li>{@code tasks.write-behind.failed}: tarefas que não puderam ser gravadas</li>
+ * </ul>
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskGroupWriter
+ * @see br.com.pablotzeliks.todolist.task.service.TaskService
+ */
+@Component
+public class TaskWriteBehindQueue implements MeterBinder, SmartLifecycle {
+
+    /**
+     * Fase do ciclo de vida: abaixo das fases do servidor web, que param antes desta.
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehindQueue.class);
+
+    private final TaskGroupWriter writer;
+
+    private final boolean enabled;
+
+    private final int groupSize;
+
+    private final long maxDelayNanos;
+
+    private final Duration awaitTimeout;
+
+    private final BlockingQueue<Entry> queue;
+
+    private volatile Thread committer;
+
+    private volatile boolean running;
+
+    private volatile Runnable stopCallback;
+
+    private volatile DistributionSummary groupSizeSummary;
+
+    private volatile Counter rejectedCounter;
+
+    private volatile Counter failedCounter;
+
+    @Autowired
+    public TaskWriteBehindQueue(@Lazy TaskGroupWriter writer,
+                                @Value("${todolist.tasks.write-behind.enabled:false}") boolean enabled,
+                                @Value("${todolist.tasks.write-behind.queue-capacity:10000}") int queueCapacity,
+                                @Value("${todolist.tasks.write-behind.group-size:500}") int groupSize,
+                                @Value("${todolist.tasks.write-behind.max-delay:10ms}") Duration maxDelay,
+                                @Value("${todolist.tasks.write-behind.await-timeout:10s}") Duration awaitTimeout) {
+
+        this.writer = writer;
+        this.enabled = enabled;
+        this.groupSize = groupSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.awaitTimeout = awaitTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Indica se a criação de tarefas deve passar pela fila.
+     *
+     * @return {@code true} se o modo write-behind estiver habilitado
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enfileira uma tarefa para gravação no próximo grupo.
+     *
+     * @param task Tarefa validada e com id atribuído
+     * @return a tarefa pendente, com o futuro concluído após o commit do grupo
+     * @throws ServiceOverloadedException se a fila estiver cheia ou em encerramento
+     */
+    public PendingTask submit(Task task) {
+
+        Entry entry = new Entry(task, new CompletableFuture<>());
+
+        // Taken back if the committer stopped meanwhile; otherwise it is still written
+        if (!running || !queue.offer(entry) || (!running && queue.remove(entry))) {
+
+            Counter counter = rejectedCounter;
+            if (counter != null) counter.increment();
+
+            throw new ServiceOverloadedException("Fila de criação de tarefas cheia. Tente novamente em instantes.", 1);
+        }
+
+        return new PendingTask(task.getId(), entry.durable());
+    }
+
+    /**
+     * Aguarda a gravação de uma tarefa pendente, até {@code todolist.tasks.write-behind.await-timeout}.
+     *
+     * @param pending Tarefa devolvida por {@link #submit(Task)}
+     * @return a tarefa persistida
+     * @throws ServiceOverloadedException se o tempo de espera se esgotar
+     */
+    public TaskResponseDTO await(PendingTask pending) {
+
+        try {
+            return pending.durable().get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+
+            // The Task stays queued and may still be written
+            throw new ServiceOverloadedException("Tempo de gravação da tarefa esgotado. Tente novamente em instantes.", 1);
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera pela gravação da tarefa interrompida.", e);
+
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Falha ao gravar a tarefa.", e.getCause());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("tasks.write-behind.queue.depth", queue, BlockingQueue::size)
+                .description("Tarefas aguardando gravação em grupo")
+                .register(registry);
+
+        this.groupSizeSummary = DistributionSummary.builder("tasks.write-behind.group.size")
+                .description("Tarefas gravadas por transação")
+                .register(registry);
+
+        this.rejectedCounter = Counter.builder("tasks.write-behind.rejected")
+                .description("Tarefas recusadas com a fila cheia")
+                .register(registry);
+
+        this.failedCounter = Counter.builder("tasks.write-behind.failed")
+                .description("Tarefas que não puderam ser gravadas")
+                .register(registry);
+    }
+
+    /**
+     * Inicia a thread de commit em grupo, se o modo write-behind estiver habilitado.
+     */
+    @Override
+    public void start() {
+
+        if (!enabled || running) return;
+
+        Thread thread = new Thread(this::run, "task-write-behind");
+        thread.setDaemon(true);
+
+        this.stopCallback = null;
+        this.committer = thread;
+        this.running = true;
+
+        thread.start();
+    }
+
+    /**
+     * Para de aceitar tarefas e aguarda a gravação das que já estão na fila.
+     */
+    @Override
+    public void stop() {
+
+        if (!running) return;
+
+        running = false;
+
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Para de aceitar tarefas e avisa o Spring quando a fila estiver vazia, sem bloquear as
+     * demais paradas da mesma fase.
+     */
+    @Override
+    public void stop(Runnable callback) {
+
+        if (!running) {
+
+            callback.run();
+            return;
+        }
+
+        this.stopCallback = callback;
+        this.running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+
+        try {
+            drain();
+
+        } finally {
+
+            Runnable callback = stopCallback;
+            if (callback != null) callback.run();
+        }
+    }
+
+    private void drain() {
+
+        List<Entry> group = new ArrayList<>(groupSize);
+
+        while (running || !queue.isEmpty()) {
+
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+
+                if (first == null) continue;
+
+                group.add(first);
+                collect(group, first.enqueuedAt() + maxDelayNanos);
+
+                flush(group);
+
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+                return;
+
+            } catch (RuntimeException e) {
+
+                // Keeps the committer alive; futures already completed are not affected
+                log.error("Falha inesperada no commit em grupo de tarefas.", e);
+                group.forEach(entry -> entry.durable().completeExceptionally(e));
+
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    /**
+     * Completa o grupo até {@code group-size} tarefas ou até o prazo da primeira.
+     */
+    private void collect(List<Entry> group, long deadline) throws InterruptedException {
+
+        while (group.size() < groupSize) {
+
+            queue.drainTo(group, groupSize - group.size());
+
+            long remaining = deadline - System.nanoTime();
+
+            if (group.size() >= groupSize || remaining <= 0) return;
+
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+            if (next == null) return;
+
+            group.add(next);
+        }
+    }
+
+    private void flush(List<Entry> group) {
+
+        List<TaskResponseDTO> responses;
+
+        try {
+            responses = writer.createGroup(group.stream().map(Entry::task).toList());
+
+        } catch (RuntimeException e) {
+
+            if (group.size() == 1) {
+
+                fail(group.get(0), e);
+                return;
+            }
+
+            log.warn("Falha ao gravar grupo de {} tarefas; gravando individualmente.", group.size(), e);
+
+            for (Entry entry : group) {
+
+                // The rolled back persist may have seeded the version, which would turn the retry into a merge
+                entry.task().setVersion(null);
+                flush(List.of(entry));
+            }
+            return;
+        }
+
+        DistributionSummary summary = groupSizeSummary;
+        if (summary != null) summary.record(group.size());
+
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).durable().complete(responses.get(i));
+        }
+    }
+
+    private void fail(Entry entry, RuntimeException e) {
+
+        log.error("Falha ao gravar a tarefa {}.", entry.task().getId(), e);
+
+        Counter counter = failedCounter;
+        if (counter != null) counter.increment();
+
+        entry.durable().completeExceptionally(e);
+    }
+
+    private record Entry(Task task, CompletableFuture<TaskResponseDTO> durable, long enqueuedAt) {
+
+        Entry(Task task, CompletableFuture<TaskResponseDTO> durable) {
+            this(task, durable, System.nanoTime());
+        }
+    }
+}
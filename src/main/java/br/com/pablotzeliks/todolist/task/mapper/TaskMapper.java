@@ -2,9 +2,12 @@ package br.com.pablotzeliks.todolist.task.mapper;
 
 import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
 import br.com.pablotzeliks.todolist.task.model.Task;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 /**
  * Mapper responsável pela conversão entre DTOs e Entidades de Tarefa.
  * <p>
@@ -52,7 +55,8 @@ public class TaskMapper {
                 task.getPriority(),
                 task.getUserId(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
         );
     }
 
@@ -80,4 +84,35 @@ public class TaskMapper {
 
         return task;
     }
-}
\ No newline at end of file
+
+    /**
+     * Aplica uma atualização parcial sobre o estado anterior de uma tarefa.
+     * <p>
+     * Segue a mesma regra do UPDATE condicional: campos nulos no DTO mantêm o valor
+     * anterior, e a versão é incrementada. Permite montar a resposta da atualização sem
+     * reler a tarefa.
+     * </p>
+     *
+     * @param previous  Estado da tarefa antes da atualização
+     * @param changes   DTO com os campos alterados
+     * @param updatedAt Data da atualização
+     * @return DTO de resposta com o estado atualizado, ou null se o estado anterior for null
+     */
+    public TaskResponseDTO applyUpdate(TaskResponseDTO previous, TaskUpdateDTO changes, LocalDateTime updatedAt) {
+
+        if (previous == null) return null;
+
+        return new TaskResponseDTO(
+                previous.id(),
+                changes.title() != null ? changes.title() : previous.title(),
+                changes.description() != null ? changes.description() : previous.description(),
+                changes.startAt() != null ? changes.startAt() : previous.startAt(),
+                changes.endAt() != null ? changes.endAt() : previous.endAt(),
+                changes.priority() != null ? changes.priority() : previous.priority(),
+                previous.userId(),
+                previous.createdAt(),
+                updatedAt,
+                previous.version() != null ? previous.version() + 1 : 1L
+        );
+    }
+}
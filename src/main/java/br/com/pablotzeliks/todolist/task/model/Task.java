@@ -1,8 +1,11 @@
 package br.com.pablotzeliks.todolist.task.model;
 
+import br.com.pablotzeliks.todolist.persistence.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -18,6 +21,26 @@ import java.util.UUID;
  * A anotação {@code @Data} do Lombok gera automaticamente os métodos getters, setters,
  * {@code toString()}, {@code equals()} e {@code hashCode()}.
  * </p>
+ * <p>
+ * O índice {@code idx_task_user_created} em {@code (user_id, created_at, id)} atende a
+ * listagem por usuário e a paginação por keyset na mesma ordem. Os índices
+ * {@code idx_task_user_priority_end} em {@code (user_id, priority, end_at)} e
+ * {@code idx_task_user_end} em {@code (user_id, end_at)} atendem os filtros por
+ * prioridade e por prazo da listagem filtrada. O índice {@code idx_task_user_change} em
+ * {@code (user_id, change_seq, id)} atende o feed de alterações. Os índices são criados
+ * pelas migrações do Flyway ({@code db/migration/{vendor}/V3} e {@code V4}), e não declarados
+ * aqui: com {@code ddl-auto=validate}, o Hibernate não os cria nem os confere.
+ * </p>
+ * <p>
+ * <strong>Remoção lógica:</strong> remover uma tarefa apenas preenche {@code deletedAt}. A
+ * restrição {@code deleted_at is null} ({@code @SQLRestriction}) esconde a tarefa de todas as
+ * consultas JPA; somente o feed de alterações, em SQL nativo, ainda a enxerga para informar a
+ * remoção aos clientes. A linha é apagada depois pelo
+ * {@link br.com.pablotzeliks.todolist.task.purge.TaskPurger}, que no PostgreSQL percorre o
+ * índice parcial {@code idx_task_deleted} (migração V4). O H2 não tem índices parciais e
+ * escolheria um índice em {@code deleted_at} para o filtro {@code deleted_at is null} de toda
+ * listagem, por isso nele o índice começa por {@code user_id}.
+ * </p>
  *
  * @author Pablo Tzeliks
  * @version 1.0.0
@@ -27,13 +50,19 @@ import java.util.UUID;
  */
 @Data
 @Entity(name = "tb_task")
+@Table(name = "tb_task")
+@SQLRestriction("deleted_at is null")
 public class Task {
 
     /**
-     * Identificador único da tarefa, gerado automaticamente como UUID.
+     * Identificador único da tarefa, gerado automaticamente como UUID v7.
+     * <p>
+     * Ids ordenados pelo instante de criação mantêm as inserções no fim do índice da
+     * chave primária; ids v4 de registros antigos continuam válidos.
+     * </p>
      */
     @Id
-    @GeneratedValue(generator = "UUID")
+    @UuidV7Id
     private UUID id;
 
     /**
@@ -90,11 +119,39 @@ public class Task {
     /**
      * Data e hora da última atualização da tarefa.
      * <p>
-     * Este campo é atualizado manualmente durante operações de update.
+     * Este campo é preenchido manualmente na criação e a cada operação de update.
      * </p>
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * Posição da última alteração da tarefa no feed de alterações do usuário ({@code GET /tasks/changes}).
+     * <p>
+     * Atribuída pela transação que cria, altera ou remove a tarefa, a partir da sequência de
+     * {@link TaskStats#getChangeSeq()}; tarefas anteriores ao feed ficam com {@code 0}.
+     * </p>
+     */
+    @ColumnDefault("0")
+    private long changeSeq;
+
+    /**
+     * Versão da tarefa para controle de concorrência otimista.
+     * <p>
+     * Incrementada a cada atualização e exposta como ETag; um {@code PUT} com
+     * {@code If-Match} só é aplicado se a versão ainda for a informada.
+     * </p>
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Data e hora da remoção da tarefa, ou {@code null} enquanto ela estiver ativa.
+     * <p>
+     * A remoção também atualiza {@code updatedAt}, para que o feed de alterações a entregue.
+     * </p>
+     */
+    private LocalDateTime deletedAt;
+
     /**
      * Define o título da tarefa com validação de tamanho.
      * <p>
@@ -0,0 +1,76 @@
+package br.com.pablotzeliks.todolist.task.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.UUID;
+
+/**
+ * Contadores de tarefas por usuário, mantidos incrementalmente.
+ * <p>
+ * Esta classe é mapeada para a tabela {@code tb_task_stats}, com uma linha por usuário.
+ * Os contadores são ajustados na mesma transação de cada criação ou alteração de tarefa,
+ * permitindo responder {@code GET /tasks/stats} com a leitura de uma única linha, sem
+ * varrer {@code tb_task}.
+ * </p>
+ * <p>
+ * A mesma linha guarda a sequência de alterações do usuário ({@code changeSeq}), que ordena
+ * o feed de alterações: cada escrita a incrementa enquanto mantém a linha travada, então a
+ * ordem da sequência é a ordem de commit das escritas do usuário.
+ * </p>
+ * <p>
+ * A anotação {@code @Data} do Lombok gera automaticamente os métodos getters, setters,
+ * {@code toString()}, {@code equals()} e {@code hashCode()}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see Task
+ * @see br.com.pablotzeliks.todolist.task.service.TaskStatsService
+ */
+@Data
+@Entity(name = "tb_task_stats")
+@Table(name = "tb_task_stats")
+public class TaskStats {
+
+    /**
+     * Identificador do usuário dono dos contadores.
+     */
+    @Id
+    private UUID userId;
+
+    /**
+     * Total de tarefas do usuário.
+     */
+    private long total;
+
+    /**
+     * Tarefas com prioridade {@link Priority#LOW}.
+     */
+    private long low;
+
+    /**
+     * Tarefas com prioridade {@link Priority#MEDIUM}.
+     */
+    private long medium;
+
+    /**
+     * Tarefas com prioridade {@link Priority#HIGH}.
+     */
+    private long high;
+
+    /**
+     * Tarefas com prioridade {@link Priority#URGENT}.
+     */
+    private long urgent;
+
+    /**
+     * Última posição atribuída no feed de alterações do usuário.
+     */
+    @ColumnDefault("0")
+    private long changeSeq;
+}
@@ -0,0 +1,250 @@
+package br.com.pablotzeliks.todolist.task.next;
+
+import br.com.pablotzeliks.todolist.persistence.ReadWriteRoutingDataSource;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Fila de prioridade em memória, uma por usuário, para o endpoint "próximas tarefas".
+ * <p>
+ * Cada usuário tem uma skip list ordenada por prioridade ({@link Priority#URGENT} primeiro,
+ * tarefas sem prioridade por último), depois pelo término mais próximo e, por fim, pelo ID.
+ * As N primeiras tarefas são lidas percorrendo apenas os N primeiros elementos, sem
+ * ordenar o conjunto do usuário a cada requisição; uma escrita reposiciona só a tarefa
+ * alterada, em O(log n).
+ * </p>
+ * <p>
+ * A leitura não usa trava: a skip list é concorrente e as escritas de um mesmo usuário são
+ * serializadas entre si.
+ * </p>
+ * <p>
+ * <strong>Tarefas vencidas:</strong> só tarefas com término no futuro entram na fila. Uma
+ * tarefa que vence depois de indexada sai na primeira leitura que passar por ela; como a
+ * fila é ordenada pelo término dentro de cada prioridade, as vencidas estão sempre no início
+ * do grupo e a leitura não percorre mais que elas além das N pedidas.
+ * </p>
+ * <p>
+ * <strong>Memória e consistência:</strong> as filas guardam apenas ID, prioridade e término,
+ * ficam em um cache limitado pelo total de tarefas enfileiradas
+ * ({@code todolist.tasks.next.max-tasks}), e não pelo número de usuários: cada fila pesa o
+ * seu tamanho ao ser montada. Elas são descartadas após {@code todolist.tasks.next.rebuild-after},
+ * o que também limita por quanto tempo o crescimento por escritas fica fora do peso. Cada fila guarda a versão
+ * da lista do usuário ({@link TaskListVersions}) com que está sincronizada e é reconstruída
+ * quando a versão muda por uma escrita de outra instância.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.task.agenda.TaskAgendaIndex
+ */
+@Component
+public class TaskNextUpIndex implements MeterBinder {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::rank)
+            .thenComparing(Entry::endAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Entry::id);
+
+    private final ITaskRepository repository;
+
+    private final TaskListVersions versions;
+
+    private final Cache<UUID, UserQueue> queues;
+
+    @Autowired
+    public TaskNextUpIndex(ITaskRepository repository,
+                           TaskListVersions versions,
+                           @Value("${todolist.tasks.next.max-tasks:1000000}") long maxTasks,
+                           @Value("${todolist.tasks.next.rebuild-after:10m}") Duration rebuildAfter) {
+
+        this.repository = repository;
+        this.versions = versions;
+        this.queues = Caffeine.newBuilder()
+                .maximumWeight(maxTasks)
+                .weigher((UUID userId, UserQueue queue) -> queue.size() + 1)
+                .expireAfterWrite(rebuildAfter)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Retorna as N próximas tarefas do usuário.
+     *
+     * @param userId Identificador do usuário
+     * @param n      Quantidade de tarefas
+     * @return identificadores das tarefas, da mais prioritária para a menos
+     */
+    public List<UUID> top(UUID userId, int n) {
+
+        return queueFor(userId).top(n, LocalDateTime.now());
+    }
+
+    /**
+     * Reposiciona uma tarefa criada ou alterada, ou a retira da fila se já estiver vencida.
+     *
+     * @param task Tarefa já persistida
+     */
+    public void index(TaskResponseDTO task) {
+
+        UserQueue queue = queues.getIfPresent(task.userId());
+
+        // Not loaded yet: the next query builds it from the database, change included
+        if (queue == null) return;
+
+        if (isPast(task.endAt(), LocalDateTime.now())) {
+            queue.remove(task.id());
+        } else {
+            queue.put(task.id(), task.priority(), task.endAt());
+        }
+
+        queue.syncedVersion = Math.max(queue.syncedVersion, versions.current(task.userId()));
+    }
+
+    /**
+     * Retira da fila uma tarefa removida.
+     *
+     * @param userId Identificador do dono da tarefa
+     * @param taskId Identificador da tarefa removida
+     */
+    public void remove(UUID userId, UUID taskId) {
+
+        UserQueue queue = queues.getIfPresent(userId);
+
+        if (queue == null) return;
+
+        queue.remove(taskId);
+        queue.syncedVersion = Math.max(queue.syncedVersion, versions.current(userId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        CaffeineCacheMetrics.monitor(registry, queues, "taskNextUpIndex");
+    }
+
+    private UserQueue queueFor(UUID userId) {
+
+        long version = versions.current(userId);
+
+        UserQueue queue = queues.getIfPresent(userId);
+
+        if (queue != null && queue.syncedVersion >= version) return queue;
+
+        // Version read before loading, so a concurrent write triggers another rebuild instead of being lost.
+        // Loaded from the primary: a lagging replica would miss writes already covered by that version
+        UserQueue rebuilt = new UserQueue(version);
+        ReadWriteRoutingDataSource.onPrimary(() -> repository.findUpcomingUrgenciesByUserId(userId, LocalDateTime.now()))
+                .forEach(urgency -> rebuilt.put(urgency.id(), urgency.priority(), urgency.endAt()));
+
+        queues.put(userId, rebuilt);
+
+        return rebuilt;
+    }
+
+    private static boolean isPast(LocalDateTime endAt, LocalDateTime now) {
+
+        return endAt != null && !endAt.isAfter(now);
+    }
+
+    /**
+     * Posição de uma tarefa na fila; {@code rank} 0 é {@link Priority#URGENT}.
+     */
+    private record Entry(int rank, LocalDateTime endAt, UUID id) {
+
+        static Entry of(UUID id, Priority priority, LocalDateTime endAt) {
+
+            int rank = priority == null ? Priority.values().length : Priority.values().length - 1 - priority.ordinal();
+
+            return new Entry(rank, endAt, id);
+        }
+    }
+
+    /**
+     * Fila de um único usuário.
+     */
+    private static final class UserQueue {
+
+        private final ConcurrentSkipListSet<Entry> ordered = new ConcurrentSkipListSet<>(ORDER);
+
+        private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+        volatile long syncedVersion;
+
+        UserQueue(long syncedVersion) {
+            this.syncedVersion = syncedVersion;
+        }
+
+        synchronized void put(UUID id, Priority priority, LocalDateTime endAt) {
+
+            Entry entry = Entry.of(id, priority, endAt);
+            Entry previous = entries.put(id, entry);
+
+            if (previous != null) ordered.remove(previous);
+
+            ordered.add(entry);
+        }
+
+        synchronized void remove(UUID id) {
+
+            Entry previous = entries.remove(id);
+
+            if (previous != null) ordered.remove(previous);
+        }
+
+        /**
+         * Retira uma entrada vencida, a menos que a tarefa tenha sido reposicionada desde a leitura.
+         */
+        synchronized void expire(Entry entry) {
+
+            if (entries.remove(entry.id(), entry)) ordered.remove(entry);
+        }
+
+        int size() {
+
+            return entries.size();
+        }
+
+        List<UUID> top(int n, LocalDateTime now) {
+
+            List<UUID> top = new ArrayList<>(n);
+            List<Entry> expired = new ArrayList<>();
+            Iterator<Entry> iterator = ordered.iterator();
+
+            while (top.size() < n && iterator.hasNext()) {
+
+                Entry entry = iterator.next();
+
+                if (isPast(entry.endAt(), now)) {
+                    expired.add(entry);
+                } else {
+                    top.add(entry.id());
+                }
+            }
+
+            expired.forEach(this::expire);
+
+            return top;
+        }
+    }
+}
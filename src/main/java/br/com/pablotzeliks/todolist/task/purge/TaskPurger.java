@@ -0,0 +1,154 @@
+package br.com.pablotzeliks.todolist.task.purge;
+
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expurgo em segundo plano das tarefas removidas logicamente.
+ * <p>
+ * {@code DELETE /tasks/{id}} apenas preenche {@code deletedAt}, mantendo a requisição
+ * barata e permitindo que o feed de alterações informe a remoção. Passado
+ * {@code todolist.tasks.purge.retention}, as linhas são apagadas por esta tarefa agendada
+ * ({@code todolist.tasks.purge.interval}).
+ * </p>
+ * <p>
+ * <strong>Lotes curtos:</strong> cada execução apaga no máximo {@code chunk-size} linhas por
+ * transação, com uma pausa ({@code pause}) entre os lotes. Assim nenhuma transação segura
+ * travas por muito tempo nem gera um pico de WAL no PostgreSQL, mesmo após a remoção de
+ * muitas tarefas de uma vez.
+ * </p>
+ * <p>
+ * Métricas publicadas no Micrometer:
+ * <ul>
+ *   <li>{@code tasks.purge.purged}: tarefas apagadas (a taxa de expurgo vem deste contador)</li>
+ *   <li>{@code tasks.purge.backlog}: tarefas já vencidas aguardando o expurgo, medido a cada execução</li>
+ *   <li>{@code tasks.purge.chunk}: duração de cada lote</li>
+ * </ul>
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.task.service.TaskService#delete(java.util.UUID, java.util.UUID, Long)
+ */
+@Component
+public class TaskPurger implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskPurger.class);
+
+    private final ITaskRepository repository;
+
+    private final boolean enabled;
+
+    private final Duration retention;
+
+    private final int chunkSize;
+
+    private final Duration pause;
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    private volatile Counter purgedCounter;
+
+    private volatile Timer chunkTimer;
+
+    @Autowired
+    public TaskPurger(ITaskRepository repository,
+                      @Value("${todolist.tasks.purge.enabled:true}") boolean enabled,
+                      @Value("${todolist.tasks.purge.retention:7d}") Duration retention,
+                      @Value("${todolist.tasks.purge.chunk-size:500}") int chunkSize,
+                      @Value("${todolist.tasks.purge.pause:50ms}") Duration pause) {
+
+        this.repository = repository;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+    }
+
+    /**
+     * Apaga, em lotes, as tarefas removidas há mais tempo que a retenção.
+     *
+     * @return quantidade de tarefas apagadas nesta execução
+     */
+    @Scheduled(initialDelayString = "${todolist.tasks.purge.interval:1m}",
+               fixedDelayString = "${todolist.tasks.purge.interval:1m}")
+    public long purge() {
+
+        if (!enabled) return 0;
+
+        // Fixed cutoff, so rows removed during the run wait for the next one
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        backlog.set(repository.countPurgeable(cutoff));
+
+        long purged = 0;
+
+        while (true) {
+
+            long start = System.nanoTime();
+            int deleted = repository.purgeDeleted(cutoff, chunkSize);
+
+            record(deleted, System.nanoTime() - start);
+            purged += deleted;
+
+            if (deleted < chunkSize) break;
+
+            try {
+                Thread.sleep(pause.toMillis());
+
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("Expurgo apagou {} tarefas removidas antes de {}.", purged, cutoff);
+        }
+
+        return purged;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("tasks.purge.backlog", backlog, AtomicLong::get)
+                .description("Tarefas removidas aguardando o expurgo")
+                .register(registry);
+
+        this.purgedCounter = Counter.builder("tasks.purge.purged")
+                .description("Tarefas removidas apagadas pelo expurgo")
+                .register(registry);
+
+        this.chunkTimer = Timer.builder("tasks.purge.chunk")
+                .description("Duração de cada lote do expurgo")
+                .register(registry);
+    }
+
+    private void record(int deleted, long nanos) {
+
+        backlog.updateAndGet(current -> Math.max(0, current - deleted));
+
+        Counter counter = purgedCounter;
+        if (counter != null) counter.increment(deleted);
+
+        Timer timer = chunkTimer;
+        if (timer != null) timer.record(Duration.ofNanos(nanos));
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fragmento do repositório de tarefas para o feed de alterações ({@code GET /tasks/changes}).
+ * <p>
+ * O feed precisa enxergar as tarefas removidas logicamente, que a restrição
+ * {@code deleted_at is null} de {@link br.com.pablotzeliks.todolist.task.model.Task} esconde de
+ * toda consulta JPA. Por isso as consultas ficam em SQL nativo, em
+ * {@link ITaskChangeRepositoryImpl}, e percorrem o índice {@code (user_id, change_seq, id)}.
+ * </p>
+ * <p>
+ * A ordem é a da sequência de alterações do usuário, atribuída sob a trava da linha de
+ * {@code tb_task_stats} e não pelo relógio da aplicação: uma escrita só pode receber uma
+ * posição anterior a outra se também for confirmada antes dela, então nenhuma alteração
+ * confirmada depois fica para trás de um cursor já entregue.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskRepository
+ */
+public interface ITaskChangeRepository {
+
+    /**
+     * Busca as primeiras alterações de tarefas de um usuário, em ordem de alteração.
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @param limit  quantidade máxima de alterações retornadas
+     * @return as tarefas criadas, alteradas ou removidas
+     */
+    List<TaskChange> findChanges(UUID userId, Limit limit);
+
+    /**
+     * Busca as alterações de tarefas de um usuário posteriores a uma posição {@code (changeSeq, id)}.
+     * <p>
+     * O custo é proporcional à quantidade de alterações, não ao total de tarefas do usuário.
+     * </p>
+     *
+     * @param userId    o identificador único do usuário proprietário das tarefas
+     * @param changeSeq posição da última alteração já entregue ao cliente
+     * @param id        identificador da última tarefa já entregue ao cliente
+     * @param limit     quantidade máxima de alterações retornadas
+     * @return as tarefas criadas, alteradas ou removidas após a posição informada
+     */
+    List<TaskChange> findChangesAfter(UUID userId, long changeSeq, UUID id, Limit limit);
+}
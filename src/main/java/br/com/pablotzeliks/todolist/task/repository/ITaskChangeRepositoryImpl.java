@@ -0,0 +1,55 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação do {@link ITaskChangeRepository} com SQL nativo, executado pelo
+ * {@link JdbcTemplate} na mesma conexão e transação do JPA.
+ * <p>
+ * A comparação de linha {@code (change_seq, id) > (?, ?)} é aceita pelo PostgreSQL e pelo H2
+ * e permite ao banco posicionar-se direto no índice a partir do cursor.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskChangeRepository
+ */
+class ITaskChangeRepositoryImpl implements ITaskChangeRepository {
+
+    private static final String SELECT = "SELECT " + ITaskUpdateRepositoryImpl.COLUMNS + ", deleted_at, change_seq"
+            + " FROM tb_task WHERE user_id = ?";
+
+    private static final String ORDER = " ORDER BY change_seq, id LIMIT ?";
+
+    private static final String FIRST_SQL = SELECT + ORDER;
+
+    private static final String AFTER_SQL = SELECT + " AND (change_seq, id) > (?, ?)" + ORDER;
+
+    private static final RowMapper<TaskChange> ROW_MAPPER = (resultSet, rowNumber) -> new TaskChange(
+            ITaskUpdateRepositoryImpl.mapRow(resultSet, rowNumber),
+            resultSet.getObject("deleted_at", LocalDateTime.class) != null,
+            resultSet.getLong("change_seq"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskChange> findChanges(UUID userId, Limit limit) {
+
+        return jdbcTemplate.query(FIRST_SQL, ROW_MAPPER, userId, limit.max());
+    }
+
+    @Override
+    public List<TaskChange> findChangesAfter(UUID userId, long changeSeq, UUID id, Limit limit) {
+
+        return jdbcTemplate.query(AFTER_SQL, ROW_MAPPER, userId, changeSeq, id, limit.max());
+    }
+}
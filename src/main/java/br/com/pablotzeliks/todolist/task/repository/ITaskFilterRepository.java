@@ -0,0 +1,41 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fragmento do repositório de tarefas para consultas com filtros dinâmicos.
+ * <p>
+ * Os filtros de {@link TaskFilter} variam a cada requisição, por isso a consulta é montada
+ * com a Criteria API em {@link ITaskFilterRepositoryImpl} em vez de um método derivado para
+ * cada combinação. Todos os predicados são enviados ao banco, que pode usar os índices
+ * compostos de {@code tb_task}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskRepository
+ */
+public interface ITaskFilterRepository {
+
+    /**
+     * Busca as tarefas de um usuário que atendem ao filtro, na ordem solicitada.
+     * <p>
+     * A posição {@code (afterCreatedAt, afterId)} só é considerada na ordenação por
+     * {@link TaskSort#CREATED_AT}, para paginação por keyset.
+     * </p>
+     *
+     * @param userId         o identificador único do usuário proprietário das tarefas
+     * @param filter         filtros e ordenação
+     * @param afterCreatedAt data de criação da última tarefa da página anterior, ou {@code null}
+     * @param afterId        identificador da última tarefa da página anterior, ou {@code null}
+     * @param limit          quantidade máxima de tarefas a retornar
+     * @return lista com as tarefas encontradas, projetadas no DTO de resposta
+     */
+    List<TaskResponseDTO> findByFilter(UUID userId, TaskFilter filter, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
+}
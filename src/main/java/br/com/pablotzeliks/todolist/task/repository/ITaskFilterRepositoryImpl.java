@@ -0,0 +1,162 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação do {@link ITaskFilterRepository} com a Criteria API.
+ * <p>
+ * Apenas os filtros informados viram predicados, de modo que cada combinação gera o SQL
+ * mais simples possível para o planejador do banco. Os índices
+ * {@code (user_id, priority, end_at)} e {@code (user_id, end_at)} atendem os filtros de
+ * prioridade e prazo; {@code (user_id, created_at, id)} atende a ordem padrão.
+ * </p>
+ * <p>
+ * A prioridade é gravada como texto, e a ordem alfabética não é a de importância. Em vez de
+ * ordenar por um {@code CASE}, que nenhum índice atende, a ordenação por prioridade lê um
+ * grupo por vez ({@code priority = ?}), na ordem de {@link Priority}, cada um já ordenado por
+ * {@code endAt} pelo índice {@code (user_id, priority, end_at)}, até completar o limite.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskFilterRepository
+ */
+class ITaskFilterRepositoryImpl implements ITaskFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponseDTO> findByFilter(UUID userId, TaskFilter filter, LocalDateTime afterCreatedAt, UUID afterId, Limit limit) {
+
+        if (filter.sort() == TaskSort.PRIORITY) return findByPriority(userId, filter, limit);
+
+        return find(userId, filter, null, afterCreatedAt, afterId, limit);
+    }
+
+    /**
+     * A direção vale só para a prioridade; dentro de cada grupo o prazo mais próximo vem
+     * primeiro. Tarefas sem prioridade ficam depois de {@code URGENT} na ordem crescente.
+     */
+    private List<TaskResponseDTO> findByPriority(UUID userId, TaskFilter filter, Limit limit) {
+
+        List<PriorityGroup> groups = new ArrayList<>();
+
+        for (Priority priority : Priority.values()) {
+            if (filter.priorities().isEmpty() || filter.priorities().contains(priority)) groups.add(new PriorityGroup(priority));
+        }
+
+        if (filter.priorities().isEmpty()) groups.add(new PriorityGroup(null));
+
+        if (filter.descending()) Collections.reverse(groups);
+
+        List<TaskResponseDTO> tasks = new ArrayList<>();
+
+        for (PriorityGroup group : groups) {
+
+            Limit remaining = limit;
+
+            if (limit != null && limit.isLimited()) {
+
+                if (tasks.size() >= limit.max()) break;
+                remaining = Limit.of(limit.max() - tasks.size());
+            }
+
+            tasks.addAll(find(userId, filter, group, null, null, remaining));
+        }
+
+        return tasks;
+    }
+
+    private List<TaskResponseDTO> find(UUID userId, TaskFilter filter, PriorityGroup group,
+                                       LocalDateTime afterCreatedAt, UUID afterId, Limit limit) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponseDTO> query = cb.createQuery(TaskResponseDTO.class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        predicates.add(cb.equal(task.get("userId"), userId));
+
+        Path<Priority> priority = task.get("priority");
+
+        if (group != null) {
+            predicates.add(group.priority() != null ? cb.equal(priority, group.priority()) : cb.isNull(priority));
+        } else if (!filter.priorities().isEmpty()) {
+            predicates.add(priority.in(filter.priorities()));
+        }
+        Path<LocalDateTime> startAt = task.get("startAt");
+        Path<LocalDateTime> endAt = task.get("endAt");
+        Path<LocalDateTime> createdAt = task.get("createdAt");
+        Path<UUID> id = task.get("id");
+
+        if (filter.startFrom() != null) predicates.add(cb.greaterThanOrEqualTo(startAt, filter.startFrom()));
+        if (filter.startTo() != null) predicates.add(cb.lessThanOrEqualTo(startAt, filter.startTo()));
+        if (filter.endFrom() != null) predicates.add(cb.greaterThanOrEqualTo(endAt, filter.endFrom()));
+        if (filter.endTo() != null) predicates.add(cb.lessThanOrEqualTo(endAt, filter.endTo()));
+
+        if (filter.sort() == TaskSort.CREATED_AT && afterCreatedAt != null && afterId != null) {
+
+            // Row-value comparison (createdAt, id) > (:createdAt, :id), expanded for the Criteria API
+            predicates.add(filter.descending()
+                    ? cb.or(cb.lessThan(createdAt, afterCreatedAt),
+                            cb.and(cb.equal(createdAt, afterCreatedAt), cb.lessThan(id, afterId)))
+                    : cb.or(cb.greaterThan(createdAt, afterCreatedAt),
+                            cb.and(cb.equal(createdAt, afterCreatedAt), cb.greaterThan(id, afterId))));
+        }
+
+        // Constructor projection: no managed entities, no dirty-checking snapshots
+        query.select(cb.construct(TaskResponseDTO.class,
+                        id, task.get("title"), task.get("description"), startAt, endAt,
+                        priority, task.get("userId"), createdAt, task.get("updatedAt"), task.get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders(cb, task, filter));
+
+        TypedQuery<TaskResponseDTO> typedQuery = entityManager.createQuery(query);
+
+        if (limit != null && limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+
+        return typedQuery.getResultList();
+    }
+
+    private List<Order> orders(CriteriaBuilder cb, Root<Task> task, TaskFilter filter) {
+
+        // Within a priority group the nearest deadline comes first, whatever the direction
+        if (filter.sort() == TaskSort.PRIORITY) return List.of(cb.asc(task.get("endAt")), cb.asc(task.get("id")));
+
+        Expression<?> key = filter.sort() == TaskSort.END_AT ? task.get("endAt") : task.get("createdAt");
+
+        return filter.descending()
+                ? List.of(cb.desc(key), cb.desc(task.get("id")))
+                : List.of(cb.asc(key), cb.asc(task.get("id")));
+    }
+
+    /**
+     * Um grupo da ordenação por prioridade; {@code priority} nulo é o grupo das tarefas sem prioridade.
+     */
+    private record PriorityGroup(Priority priority) {
+    }
+}
@@ -1,8 +1,17 @@
 package br.com.pablotzeliks.todolist.task.repository;
 
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
 import br.com.pablotzeliks.todolist.task.model.Task;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,14 +22,20 @@ import java.util.UUID;
  * e métodos de consulta personalizados para a tabela {@code tb_task}.
  * O Spring Data JPA gera automaticamente a implementação em tempo de execução.
  * </p>
+ * <p>
+ * As consultas com filtros dinâmicos vêm do fragmento {@link ITaskFilterRepository}, e o
+ * feed de alterações, que também enxerga as tarefas removidas, do {@link ITaskChangeRepository}.
+ * </p>
  *
  * @author Pablo Tzeliks
  * @version 1.0.0
  * @since 1.0.0
  * @see Task
  * @see JpaRepository
+ * @see ITaskFilterRepository
  */
-public interface ITaskRepository extends JpaRepository<Task, UUID> {
+public interface ITaskRepository extends JpaRepository<Task, UUID>, ITaskFilterRepository, ITaskUpdateRepository,
+        ITaskChangeRepository {
 
     /**
      * Busca todas as tarefas pertencentes a um usuário específico.
@@ -33,6 +48,222 @@ public interface ITaskRepository extends JpaRepository<Task, UUID> {
      */
     List<Task> findByUserId(UUID userId);
 
+    /**
+     * Expressão construtora JPQL que monta o {@link TaskResponseDTO} direto da consulta.
+     * <p>
+     * Consultas de leitura que usam esta projeção não instanciam entidades {@link Task}:
+     * nada entra no contexto de persistência, não há snapshots para dirty checking e
+     * não é necessário passar pelo {@link br.com.pablotzeliks.todolist.task.mapper.TaskMapper}.
+     * </p>
+     */
+    String RESPONSE_PROJECTION = "new br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO("
+            + "t.id, t.title, t.description, t.startAt, t.endAt, t.priority, t.userId, t.createdAt, t.updatedAt, t.version)";
+
+    /**
+     * Busca todas as tarefas de um usuário já projetadas no DTO de resposta.
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @return lista de DTOs com as tarefas do usuário, ou lista vazia se não houver tarefas
+     */
+    @Transactional(readOnly = true)
+    @Query("select " + RESPONSE_PROJECTION + " from tb_task t where t.userId = :userId")
+    List<TaskResponseDTO> findResponsesByUserId(UUID userId);
+
+    /**
+     * Busca tarefas específicas de um usuário já projetadas no DTO de resposta.
+     * <p>
+     * Tarefas de outros usuários nunca são retornadas, mesmo que o ID seja informado.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @param ids    identificadores das tarefas
+     * @return as tarefas encontradas, sem ordem definida
+     */
+    @Query("select " + RESPONSE_PROJECTION + " from tb_task t where t.userId = :userId and t.id in :ids")
+    List<TaskResponseDTO> findResponsesByUserIdAndIdIn(UUID userId, Collection<UUID> ids);
+
+    /**
+     * Busca apenas o período de cada tarefa de um usuário.
+     * <p>
+     * Carrega três colunas por tarefa, o suficiente para montar o índice de agenda
+     * sem trazer títulos e descrições para a memória.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @return o período de cada tarefa do usuário, sem ordem definida
+     */
+    @Query("select new br.com.pablotzeliks.todolist.task.repository.TaskInterval(t.id, t.startAt, t.endAt)"
+            + " from tb_task t where t.userId = :userId")
+    List<TaskInterval> findIntervalsByUserId(UUID userId);
+
+    /**
+     * Busca apenas a prioridade e o término de cada tarefa ainda não vencida de um usuário.
+     * <p>
+     * Usada para montar a fila de próximas tarefas sem trazer títulos e descrições
+     * para a memória. As vencidas não entram na fila, e o índice {@code (user_id, end_at)}
+     * lê só as posteriores a {@code now}.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @param now    instante de referência; tarefas com término até ele ficam de fora
+     * @return a prioridade e o término de cada tarefa não vencida do usuário, sem ordem definida
+     */
+    @Query("select new br.com.pablotzeliks.todolist.task.repository.TaskUrgency(t.id, t.priority, t.endAt)"
+            + " from tb_task t where t.userId = :userId and t.endAt > :now")
+    List<TaskUrgency> findUpcomingUrgenciesByUserId(UUID userId, LocalDateTime now);
+
+    /**
+     * Busca a primeira página de tarefas de um usuário, em ordem de criação.
+     * <p>
+     * Percorre o índice {@code (user_id, created_at, id)} e para após {@code limit} linhas.
+     * Fora de uma transação, roda em uma transação somente leitura própria.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @param limit  quantidade máxima de tarefas retornadas
+     * @return as primeiras tarefas do usuário, projetadas no DTO de resposta
+     */
+    @Transactional(readOnly = true)
+    @Query("select " + RESPONSE_PROJECTION + " from tb_task t where t.userId = :userId order by t.createdAt asc, t.id asc")
+    List<TaskResponseDTO> findFirstPage(UUID userId, Limit limit);
+
+    /**
+     * Busca a página de tarefas seguinte a uma posição de keyset {@code (createdAt, id)}.
+     * <p>
+     * Diferente de paginação por offset, o custo não cresce com o número da página:
+     * o banco posiciona-se direto no índice e lê apenas {@code limit} linhas. Fora de uma
+     * transação, roda em uma transação somente leitura própria.
+     * </p>
+     *
+     * @param userId    o identificador único do usuário proprietário das tarefas
+     * @param createdAt data de criação da última tarefa da página anterior
+     * @param id        identificador da última tarefa da página anterior
+     * @param limit     quantidade máxima de tarefas retornadas
+     * @return as tarefas posteriores à posição informada, projetadas no DTO de resposta
+     */
+    @Transactional(readOnly = true)
+    @Query("select " + RESPONSE_PROJECTION + " from tb_task t where t.userId = :userId and (t.createdAt, t.id) > (:createdAt, :id) order by t.createdAt asc, t.id asc")
+    List<TaskResponseDTO> findPageAfter(UUID userId, LocalDateTime createdAt, UUID id, Limit limit);
+
+    /**
+     * Conta as tarefas de um usuário por prioridade.
+     * <p>
+     * Resolvida pelo índice {@code (user_id, priority, end_at)}. Usada apenas para
+     * inicializar e reconciliar os contadores de {@code tb_task_stats}.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @return uma contagem por prioridade presente nas tarefas do usuário
+     */
+    @Query("select new br.com.pablotzeliks.todolist.task.repository.PriorityCount(t.priority, count(t))"
+            + " from tb_task t where t.userId = :userId group by t.priority")
+    List<PriorityCount> countByPriority(UUID userId);
+
+    /**
+     * Conta as tarefas de um usuário com término anterior ao instante informado.
+     * <p>
+     * Contagem por intervalo no índice {@code (user_id, end_at)}.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @param now    instante de referência
+     * @return quantidade de tarefas vencidas
+     */
+    long countByUserIdAndEndAtBefore(UUID userId, LocalDateTime now);
+
+    /**
+     * Conta as tarefas de um usuário com término dentro da janela informada (inclusiva).
+     * <p>
+     * Contagem por intervalo no índice {@code (user_id, end_at)}.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @param from   início da janela
+     * @param to     fim da janela
+     * @return quantidade de tarefas com término na janela
+     */
+    long countByUserIdAndEndAtBetween(UUID userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Lista a primeira página dos usuários que possuem tarefas, em ordem de identificador.
+     *
+     * @param limit quantidade máxima de usuários retornados
+     * @return identificadores distintos dos donos de tarefas
+     */
+    @Query("select distinct t.userId from tb_task t order by t.userId")
+    List<UUID> findUserIds(Limit limit);
+
+    /**
+     * Lista os usuários que possuem tarefas seguintes a um identificador, em ordem de identificador.
+     * <p>
+     * Percorre o índice {@code (user_id, ...)} a partir da posição, sem reler as páginas anteriores.
+     * </p>
+     *
+     * @param after identificador do último usuário da página anterior
+     * @param limit quantidade máxima de usuários retornados
+     * @return identificadores distintos dos donos de tarefas posteriores a {@code after}
+     */
+    @Query("select distinct t.userId from tb_task t where t.userId > :after order by t.userId")
+    List<UUID> findUserIdsAfter(UUID after, Limit limit);
+
+    /**
+     * Busca e trava ({@code SELECT ... FOR UPDATE}) tarefas ativas de um usuário para removê-las.
+     * <p>
+     * A trava impede que uma remoção concorrente da mesma tarefa seja contabilizada duas
+     * vezes nas estatísticas.
+     * </p>
+     *
+     * @param userId o identificador único do usuário proprietário das tarefas
+     * @param ids    identificadores das tarefas
+     * @return as tarefas encontradas, sem ordem definida
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from tb_task t where t.userId = :userId and t.id in :ids")
+    List<Task> findForDelete(UUID userId, Collection<UUID> ids);
+
+    /**
+     * Grava a posição da última alteração de uma tarefa no feed de alterações do usuário.
+     * <p>
+     * Usado pela edição, cujo UPDATE trava a tarefa antes de a posição ser reservada em
+     * {@code tb_task_stats}; a linha já está travada por esta transação.
+     * </p>
+     *
+     * @param id        o identificador único da tarefa
+     * @param changeSeq posição reservada pela transação
+     * @return quantidade de linhas alteradas
+     */
+    @Modifying
+    @Query("update tb_task t set t.changeSeq = :changeSeq where t.id = :id")
+    int updateChangeSeq(UUID id, long changeSeq);
+
+    /**
+     * Apaga fisicamente até {@code limit} tarefas removidas antes de {@code cutoff}.
+     * <p>
+     * Cada chamada é uma transação curta que percorre o índice {@code idx_task_deleted} a
+     * partir das remoções mais antigas; lotes pequenos mantêm as travas e o volume de WAL
+     * de cada commit limitados.
+     * </p>
+     *
+     * @param cutoff instante máximo de remoção
+     * @param limit  quantidade máxima de tarefas apagadas
+     * @return quantidade de tarefas apagadas
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = "delete from tb_task where id in"
+            + " (select id from tb_task where deleted_at < :cutoff order by deleted_at limit :limit)")
+    int purgeDeleted(LocalDateTime cutoff, int limit);
+
+    /**
+     * Conta as tarefas removidas antes de {@code cutoff} que ainda não foram apagadas.
+     *
+     * @param cutoff instante máximo de remoção
+     * @return quantidade de tarefas aguardando o expurgo
+     */
+    @Transactional(readOnly = true)
+    @Query(nativeQuery = true, value = "select count(*) from tb_task where deleted_at < :cutoff")
+    long countPurgeable(LocalDateTime cutoff);
+
     /**
      * Busca uma tarefa específica pelo seu ID e pelo ID do usuário proprietário.
      * <p>
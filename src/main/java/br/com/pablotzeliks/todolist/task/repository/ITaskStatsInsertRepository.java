@@ -0,0 +1,36 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import java.util.UUID;
+
+/**
+ * Fragmento do repositório de contadores para a criação concorrente da linha de um usuário.
+ * <p>
+ * O {@code insert ... on conflict do nothing} do HQL é traduzido para cada banco
+ * ({@code ON CONFLICT} no PostgreSQL, {@code MERGE} no H2), mas não é aceito pelo
+ * {@code @Query} do Spring Data, por isso fica em {@link ITaskStatsInsertRepositoryImpl}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskStatsRepository
+ */
+public interface ITaskStatsInsertRepository {
+
+    /**
+     * Cria a linha de contadores do usuário, a menos que outra transação já a tenha criado.
+     * <p>
+     * Roda na transação da escrita, sem abrir outra conexão. Se uma transação concorrente
+     * estiver criando a mesma linha, aguarda o commit dela e não insere nada.
+     * </p>
+     *
+     * @param userId o identificador único do usuário
+     * @param total  total de tarefas
+     * @param low    tarefas {@code LOW}
+     * @param medium tarefas {@code MEDIUM}
+     * @param high   tarefas {@code HIGH}
+     * @param urgent tarefas {@code URGENT}
+     * @return quantidade de linhas inseridas ({@code 0} se a linha já existir)
+     */
+    int insertIfAbsent(UUID userId, long total, long low, long medium, long high, long urgent);
+}
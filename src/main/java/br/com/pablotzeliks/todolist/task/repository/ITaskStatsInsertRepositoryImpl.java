@@ -0,0 +1,35 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.UUID;
+
+/**
+ * Implementação do {@link ITaskStatsInsertRepository} com uma consulta HQL executada
+ * diretamente no {@link EntityManager}.
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskStatsInsertRepository
+ */
+class ITaskStatsInsertRepositoryImpl implements ITaskStatsInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertIfAbsent(UUID userId, long total, long low, long medium, long high, long urgent) {
+
+        return entityManager.createQuery("insert into tb_task_stats (userId, total, low, medium, high, urgent, changeSeq)"
+                        + " values (:userId, :total, :low, :medium, :high, :urgent, 0) on conflict do nothing")
+                .setParameter("userId", userId)
+                .setParameter("total", total)
+                .setParameter("low", low)
+                .setParameter("medium", medium)
+                .setParameter("high", high)
+                .setParameter("urgent", urgent)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.model.TaskStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório de acesso a dados para a entidade {@link TaskStats}.
+ * <p>
+ * Os ajustes dos contadores são feitos com {@code UPDATE} relativo
+ * ({@code coluna = coluna + delta}), que o banco aplica de forma atômica sem
+ * leitura prévia, evitando atualizações perdidas entre escritas concorrentes.
+ * </p>
+ * <p>
+ * Cada ajuste também avança a sequência de alterações do usuário ({@code changeSeq}). O
+ * {@code UPDATE} trava a linha até o fim da transação, então uma escrita concorrente do
+ * mesmo usuário só recebe a próxima posição depois do commit desta.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskStats
+ */
+public interface ITaskStatsRepository extends JpaRepository<TaskStats, UUID>, ITaskStatsInsertRepository {
+
+    /**
+     * Soma os deltas aos contadores do usuário e avança a sua sequência de alterações.
+     *
+     * @param userId o identificador único do usuário
+     * @param total  variação do total de tarefas
+     * @param low    variação das tarefas {@code LOW}
+     * @param medium variação das tarefas {@code MEDIUM}
+     * @param high   variação das tarefas {@code HIGH}
+     * @param urgent variação das tarefas {@code URGENT}
+     * @return quantidade de linhas alteradas ({@code 0} se o usuário ainda não tiver contadores)
+     */
+    @Modifying
+    @Query("update tb_task_stats s set s.total = s.total + :total, s.low = s.low + :low, s.medium = s.medium + :medium,"
+            + " s.high = s.high + :high, s.urgent = s.urgent + :urgent, s.changeSeq = s.changeSeq + 1 where s.userId = :userId")
+    int increment(UUID userId, long total, long low, long medium, long high, long urgent);
+
+    /**
+     * Lista a primeira página dos usuários com contadores e sem nenhuma tarefa.
+     * <p>
+     * Os demais são percorridos pela reconciliação a partir de {@code tb_task}.
+     * </p>
+     *
+     * @param limit quantidade máxima de usuários retornados
+     * @return identificadores dos usuários, em ordem
+     */
+    @Query("select s.userId from tb_task_stats s where not exists (select 1 from tb_task t where t.userId = s.userId)"
+            + " order by s.userId")
+    List<UUID> findUserIdsWithoutTasks(Limit limit);
+
+    /**
+     * Lista os usuários com contadores e sem nenhuma tarefa seguintes a um identificador.
+     *
+     * @param after identificador do último usuário da página anterior
+     * @param limit quantidade máxima de usuários retornados
+     * @return identificadores dos usuários posteriores a {@code after}, em ordem
+     */
+    @Query("select s.userId from tb_task_stats s where s.userId > :after"
+            + " and not exists (select 1 from tb_task t where t.userId = s.userId) order by s.userId")
+    List<UUID> findUserIdsWithoutTasksAfter(UUID after, Limit limit);
+
+    /**
+     * Lê a sequência de alterações do usuário.
+     * <p>
+     * Após o {@link #increment} na mesma transação, é a posição reservada para ela.
+     * </p>
+     *
+     * @param userId o identificador único do usuário
+     * @return a última posição atribuída no feed de alterações do usuário
+     */
+    @Query("select s.changeSeq from tb_task_stats s where s.userId = :userId")
+    long findChangeSeq(UUID userId);
+
+    /**
+     * Busca os contadores do usuário travando a linha até o fim da transação.
+     * <p>
+     * Usado pela reconciliação: enquanto a linha estiver travada, as escritas concorrentes
+     * aguardam no {@link #increment}, de modo que a recontagem e os incrementos não se
+     * sobrepõem.
+     * </p>
+     *
+     * @param userId o identificador único do usuário
+     * @return os contadores travados, se existirem
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from tb_task_stats s where s.userId = :userId")
+    Optional<TaskStats> findForUpdate(UUID userId);
+}
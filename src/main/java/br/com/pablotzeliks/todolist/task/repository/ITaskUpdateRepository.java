@@ -0,0 +1,45 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Fragmento do repositório de tarefas para a atualização parcial em um único comando.
+ * <p>
+ * A atualização é um {@code UPDATE ... WHERE id = ? AND user_id = ?} condicional que
+ * também devolve o estado anterior da linha, evitando o {@code SELECT} prévio da entidade.
+ * Como o retorno de linhas de um UPDATE não é padronizado, o SQL de cada banco fica em
+ * {@link ITaskUpdateRepositoryImpl}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskRepository
+ */
+public interface ITaskUpdateRepository {
+
+    /**
+     * Aplica os campos não nulos de {@code changes} à tarefa, se ela pertencer ao usuário e
+     * as datas resultantes forem válidas ({@code startAt} anterior a {@code endAt}).
+     * <p>
+     * A versão da tarefa é incrementada na mesma instrução. Com {@code expectedVersion}
+     * informado, a linha só é alterada se ainda estiver nessa versão (concorrência
+     * otimista, sem manter trava entre a leitura do cliente e a escrita).
+     * </p>
+     *
+     * @param id              o identificador único da tarefa
+     * @param userId          o identificador único do usuário proprietário
+     * @param changes         campos a alterar; nulos mantêm o valor atual
+     * @param updatedAt       data da atualização
+     * @param expectedVersion versão esperada da tarefa, ou {@code null} para não verificar
+     * @return o estado da tarefa antes da atualização, ou vazio se nenhuma linha foi alterada
+     *         (tarefa inexistente, de outro usuário, com datas inválidas ou em outra versão)
+     */
+    Optional<TaskResponseDTO> updatePartially(UUID id, UUID userId, TaskUpdateDTO changes,
+                                              LocalDateTime updatedAt, Long expectedVersion);
+}
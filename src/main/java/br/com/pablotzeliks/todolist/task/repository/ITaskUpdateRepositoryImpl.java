@@ -0,0 +1,181 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementação do {@link ITaskUpdateRepository} com SQL nativo por banco de dados.
+ * <p>
+ * <ul>
+ *   <li><strong>PostgreSQL:</strong> {@code UPDATE ... FROM (SELECT ... FOR UPDATE) old ... RETURNING old.*};
+ *       o subselect trava a linha e expõe os valores anteriores</li>
+ *   <li><strong>H2:</strong> {@code SELECT ... FROM OLD TABLE (UPDATE ...)}</li>
+ *   <li><strong>Demais bancos:</strong> {@code SELECT ... FOR UPDATE} seguido do {@code UPDATE}</li>
+ * </ul>
+ * Nos dois primeiros casos a edição custa uma única ida ao banco. O comando roda pelo
+ * {@link JdbcTemplate}, na mesma conexão e transação do JPA. Por ser SQL nativo, a restrição
+ * de tarefas removidas ({@code deleted_at IS NULL}) é repetida em cada comando.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskUpdateRepository
+ */
+class ITaskUpdateRepositoryImpl implements ITaskUpdateRepository {
+
+    static final String COLUMNS = "id, title, description, start_at, end_at, priority, user_id, created_at, updated_at, version";
+
+    private static final String SET = "title = COALESCE(?, %1$stitle), description = COALESCE(?, %1$sdescription),"
+            + " start_at = COALESCE(?, %1$sstart_at), end_at = COALESCE(?, %1$send_at),"
+            + " priority = COALESCE(?, %1$spriority), updated_at = ?, version = COALESCE(%1$sversion, 0) + 1";
+
+    /**
+     * Guarda de versão esperada: ignorada quando o parâmetro é nulo.
+     */
+    private static final String VERSION_GUARD = " AND (CAST(? AS BIGINT) IS NULL OR COALESCE(%1$sversion, 0) = ?)";
+
+    private static final String POSTGRES_SQL = "UPDATE tb_task t SET " + SET.formatted("t.")
+            + " FROM (SELECT " + COLUMNS + " FROM tb_task WHERE id = ? AND user_id = ? AND deleted_at IS NULL FOR UPDATE) old"
+            + " WHERE t.id = old.id AND COALESCE(?, old.start_at) < COALESCE(?, old.end_at)" + VERSION_GUARD.formatted("old.")
+            + " RETURNING " + qualified("old.");
+
+    private static final String H2_SQL = "SELECT " + COLUMNS + " FROM OLD TABLE (UPDATE tb_task SET " + SET.formatted("")
+            + " WHERE id = ? AND user_id = ? AND deleted_at IS NULL AND COALESCE(?, start_at) < COALESCE(?, end_at)" + VERSION_GUARD.formatted("") + ")";
+
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT " + COLUMNS + " FROM tb_task WHERE id = ? AND user_id = ? AND deleted_at IS NULL FOR UPDATE";
+
+    private static final String UPDATE_SQL = "UPDATE tb_task SET " + SET.formatted("") + " WHERE id = ? AND user_id = ?";
+
+    private static final RowMapper<TaskResponseDTO> ROW_MAPPER = ITaskUpdateRepositoryImpl::mapRow;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile String databaseProduct;
+
+    @Override
+    public Optional<TaskResponseDTO> updatePartially(UUID id, UUID userId, TaskUpdateDTO changes,
+                                                     LocalDateTime updatedAt, Long expectedVersion) {
+
+        String product = databaseProduct();
+
+        if (product.startsWith("PostgreSQL") || product.equals("H2")) {
+
+            String sql = product.equals("H2") ? H2_SQL : POSTGRES_SQL;
+
+            // Both statements take the SET values, then (id, user_id), then the date and version guards
+            List<TaskResponseDTO> previous = jdbcTemplate.query(sql, statement -> {
+                setChanges(statement, changes, updatedAt);
+                statement.setObject(7, id);
+                statement.setObject(8, userId);
+                setNullable(statement, 9, changes.startAt(), Types.TIMESTAMP);
+                setNullable(statement, 10, changes.endAt(), Types.TIMESTAMP);
+                setNullable(statement, 11, expectedVersion, Types.BIGINT);
+                setNullable(statement, 12, expectedVersion, Types.BIGINT);
+            }, ROW_MAPPER);
+
+            return previous.stream().findFirst();
+        }
+
+        return updateWithTwoStatements(id, userId, changes, updatedAt, expectedVersion);
+    }
+
+    private Optional<TaskResponseDTO> updateWithTwoStatements(UUID id, UUID userId, TaskUpdateDTO changes,
+                                                              LocalDateTime updatedAt, Long expectedVersion) {
+
+        Optional<TaskResponseDTO> previous = jdbcTemplate.query(SELECT_FOR_UPDATE_SQL, ROW_MAPPER, id, userId)
+                .stream()
+                .findFirst();
+
+        if (previous.isEmpty()) return previous;
+
+        long currentVersion = previous.get().version() != null ? previous.get().version() : 0L;
+
+        if (expectedVersion != null && expectedVersion != currentVersion) return Optional.empty();
+
+        LocalDateTime startAt = changes.startAt() != null ? changes.startAt() : previous.get().startAt();
+        LocalDateTime endAt = changes.endAt() != null ? changes.endAt() : previous.get().endAt();
+
+        if (!startAt.isBefore(endAt)) return Optional.empty();
+
+        PreparedStatementSetter setter = statement -> {
+            setChanges(statement, changes, updatedAt);
+            statement.setObject(7, id);
+            statement.setObject(8, userId);
+        };
+
+        jdbcTemplate.update(UPDATE_SQL, setter);
+
+        return previous;
+    }
+
+    private String databaseProduct() {
+
+        String product = databaseProduct;
+
+        if (product == null) {
+            product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            databaseProduct = product;
+        }
+
+        return product;
+    }
+
+    private static void setChanges(PreparedStatement statement, TaskUpdateDTO changes, LocalDateTime updatedAt) throws SQLException {
+
+        setNullable(statement, 1, changes.title(), Types.VARCHAR);
+        setNullable(statement, 2, changes.description(), Types.VARCHAR);
+        setNullable(statement, 3, changes.startAt(), Types.TIMESTAMP);
+        setNullable(statement, 4, changes.endAt(), Types.TIMESTAMP);
+        setNullable(statement, 5, changes.priority() != null ? changes.priority().name() : null, Types.VARCHAR);
+        statement.setObject(6, updatedAt);
+    }
+
+    private static void setNullable(PreparedStatement statement, int index, Object value, int sqlType) throws SQLException {
+
+        if (value == null) {
+            statement.setNull(index, sqlType);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    static TaskResponseDTO mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
+
+        String priority = resultSet.getString("priority");
+
+        return new TaskResponseDTO(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("title"),
+                resultSet.getString("description"),
+                resultSet.getObject("start_at", LocalDateTime.class),
+                resultSet.getObject("end_at", LocalDateTime.class),
+                priority != null ? Priority.valueOf(priority) : null,
+                resultSet.getObject("user_id", UUID.class),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class),
+                resultSet.getObject("version", Long.class)
+        );
+    }
+
+    private static String qualified(String alias) {
+
+        return alias + COLUMNS.replace(", ", ", " + alias);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.model.Priority;
+
+/**
+ * Quantidade de tarefas de uma prioridade, resultado de uma contagem agrupada.
+ *
+ * @param priority Prioridade contada ({@code null} para tarefas sem prioridade)
+ * @param count    Quantidade de tarefas
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskRepository#countByPriority(java.util.UUID)
+ */
+public record PriorityCount(
+
+        Priority priority,
+        long count
+) { }
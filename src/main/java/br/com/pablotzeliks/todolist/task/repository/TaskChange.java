@@ -0,0 +1,22 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+
+/**
+ * Uma entrada do feed de alterações: a tarefa no estado atual e se ela foi removida.
+ *
+ * @param task      Tarefa criada, alterada ou removida, projetada no DTO de resposta
+ * @param deleted   Indica se a tarefa foi removida (remoção lógica ainda não expurgada)
+ * @param changeSeq Posição da alteração no feed do usuário
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskChangeRepository
+ */
+public record TaskChange(
+
+        TaskResponseDTO task,
+        boolean deleted,
+        long changeSeq
+) { }
@@ -0,0 +1,108 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Filtros e ordenação da listagem de tarefas, aplicados diretamente no banco de dados.
+ * <p>
+ * Todos os filtros são opcionais e combinados com {@code AND}. Os intervalos de datas
+ * são inclusivos e podem ser abertos em qualquer um dos lados.
+ * </p>
+ *
+ * @param priorities Prioridades aceitas; vazio aceita todas
+ * @param startFrom  Limite inferior de {@code startAt} (opcional)
+ * @param startTo    Limite superior de {@code startAt} (opcional)
+ * @param endFrom    Limite inferior de {@code endAt} (opcional)
+ * @param endTo      Limite superior de {@code endAt} (opcional)
+ * @param sort       Critério de ordenação
+ * @param descending {@code true} para ordem decrescente
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskFilterRepository
+ */
+public record TaskFilter(
+
+        Set<Priority> priorities,
+        LocalDateTime startFrom,
+        LocalDateTime startTo,
+        LocalDateTime endFrom,
+        LocalDateTime endTo,
+        TaskSort sort,
+        boolean descending
+) {
+
+    /**
+     * Listagem sem filtros, em ordem crescente de criação.
+     */
+    public static final TaskFilter NONE = new TaskFilter(Set.of(), null, null, null, null, TaskSort.CREATED_AT, false);
+
+    public TaskFilter {
+
+        priorities = priorities == null || priorities.isEmpty() ? Set.of() : Set.copyOf(priorities);
+        sort = sort == null ? TaskSort.CREATED_AT : sort;
+
+        if (startFrom != null && startTo != null && startFrom.isAfter(startTo)) {
+
+            throw new BusinessRuleException("startFrom não pode ser posterior a startTo.");
+        }
+
+        if (endFrom != null && endTo != null && endFrom.isAfter(endTo)) {
+
+            throw new BusinessRuleException("endFrom não pode ser posterior a endTo.");
+        }
+    }
+
+    /**
+     * Monta o filtro a partir dos parâmetros da requisição.
+     *
+     * @param priorities Prioridades aceitas (opcional)
+     * @param startFrom  Limite inferior de {@code startAt} (opcional)
+     * @param startTo    Limite superior de {@code startAt} (opcional)
+     * @param endFrom    Limite inferior de {@code endAt} (opcional)
+     * @param endTo      Limite superior de {@code endAt} (opcional)
+     * @param sort       Critério de ordenação ({@code priority}, {@code endAt} ou {@code createdAt})
+     * @param direction  Direção da ordenação ({@code asc} ou {@code desc})
+     * @return o filtro correspondente
+     * @throws BusinessRuleException se a ordenação, a direção ou algum intervalo forem inválidos
+     */
+    public static TaskFilter of(Collection<Priority> priorities,
+                                LocalDateTime startFrom, LocalDateTime startTo,
+                                LocalDateTime endFrom, LocalDateTime endTo,
+                                String sort, String direction) {
+
+        boolean descending;
+
+        if (direction == null || direction.isBlank() || direction.trim().equalsIgnoreCase("asc")) {
+
+            descending = false;
+        } else if (direction.trim().equalsIgnoreCase("desc")) {
+
+            descending = true;
+        } else {
+
+            throw new BusinessRuleException("Direção de ordenação inválida. Use asc ou desc.");
+        }
+
+        Set<Priority> prioritySet = priorities == null || priorities.isEmpty() ? Set.of() : EnumSet.copyOf(priorities);
+
+        return new TaskFilter(prioritySet, startFrom, startTo, endFrom, endTo, TaskSort.from(sort), descending);
+    }
+
+    /**
+     * Indica se o filtro equivale à listagem padrão (sem filtros, por criação crescente).
+     *
+     * @return {@code true} se nenhum filtro ou ordenação diferente do padrão foi informado
+     */
+    public boolean isDefault() {
+
+        return this.equals(NONE);
+    }
+}
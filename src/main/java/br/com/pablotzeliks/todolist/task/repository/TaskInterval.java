@@ -0,0 +1,23 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Período de uma tarefa, sem os demais campos, usado para montar o índice de agenda.
+ *
+ * @param id      Identificador da tarefa
+ * @param startAt Início da tarefa
+ * @param endAt   Término da tarefa
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskRepository#findIntervalsByUserId(java.util.UUID)
+ */
+public record TaskInterval(
+
+        UUID id,
+        LocalDateTime startAt,
+        LocalDateTime endAt
+) { }
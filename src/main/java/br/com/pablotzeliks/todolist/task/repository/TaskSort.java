@@ -0,0 +1,66 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+
+/**
+ * Critérios de ordenação aceitos na listagem filtrada de tarefas.
+ * <p>
+ * Todos os critérios usam o {@code id} da tarefa como desempate, garantindo uma
+ * ordem total e estável entre requisições.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskFilter
+ */
+public enum TaskSort {
+
+    /**
+     * Ordena pela prioridade ({@code LOW} &lt; {@code MEDIUM} &lt; {@code HIGH} &lt; {@code URGENT}),
+     * seguida da data de término.
+     * <p>
+     * A direção se aplica apenas à prioridade: dentro de cada prioridade, a data de término é
+     * sempre crescente (o prazo mais próximo primeiro).
+     * </p>
+     */
+    PRIORITY("priority"),
+
+    /**
+     * Ordena pela data de término da tarefa.
+     */
+    END_AT("endAt"),
+
+    /**
+     * Ordena pela data de criação da tarefa (ordem padrão da listagem).
+     */
+    CREATED_AT("createdAt");
+
+    private final String parameter;
+
+    TaskSort(String parameter) {
+        this.parameter = parameter;
+    }
+
+    /**
+     * Converte o valor recebido no parâmetro {@code sort} da requisição.
+     *
+     * @param value valor informado pelo cliente ({@code priority}, {@code endAt} ou {@code createdAt}),
+     *              ou {@code null} para a ordenação padrão
+     * @return o critério correspondente
+     * @throws BusinessRuleException se o valor não corresponder a nenhum critério
+     */
+    public static TaskSort from(String value) {
+
+        if (value == null || value.isBlank()) return CREATED_AT;
+
+        for (TaskSort sort : values()) {
+
+            if (sort.parameter.equalsIgnoreCase(value.trim()) || sort.name().equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+
+        throw new BusinessRuleException("Ordenação inválida. Use priority, endAt ou createdAt.");
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.model.Priority;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Campos que definem a posição de uma tarefa na fila "próximas tarefas".
+ *
+ * @param id       Identificador da tarefa
+ * @param priority Prioridade da tarefa
+ * @param endAt    Término da tarefa
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see ITaskRepository#findUpcomingUrgenciesByUserId(java.util.UUID, java.time.LocalDateTime)
+ */
+public record TaskUrgency(
+
+        UUID id,
+        Priority priority,
+        LocalDateTime endAt
+) { }
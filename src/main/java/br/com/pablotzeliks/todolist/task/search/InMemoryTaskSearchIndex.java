@@ -0,0 +1,242 @@
+package br.com.pablotzeliks.todolist.task.search;
+
+import br.com.pablotzeliks.todolist.persistence.ReadWriteRoutingDataSource;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Índice invertido em memória, um por usuário, ranqueado com BM25.
+ * <p>
+ * O índice de um usuário é montado na primeira busca, a partir de {@code tb_task}, e depois
+ * mantido incrementalmente por {@link #index(TaskResponseDTO)} a cada criação ou alteração.
+ * Uma busca consulta apenas as listas de ocorrência dos termos pesquisados, então a
+ * latência fica em milissegundos mesmo com dezenas de milhares de tarefas.
+ * </p>
+ * <p>
+ * Termos do título pesam o dobro dos termos da descrição.
+ * </p>
+ * <p>
+ * <strong>Memória e consistência:</strong> os índices ficam em um cache limitado por número
+ * de usuários ({@code todolist.search.memory.max-users}) e são descartados após
+ * {@code todolist.search.memory.rebuild-after}. Cada índice guarda a versão da lista do
+ * usuário ({@link TaskListVersions}) com que está sincronizado; se a versão mudar sem passar
+ * por {@link #index(TaskResponseDTO)} (por exemplo, uma escrita em outra instância), o
+ * índice é reconstruído na busca seguinte.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskSearchIndex
+ */
+@Component
+@ConditionalOnProperty(name = "todolist.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskSearchIndex implements TaskSearchIndex, MeterBinder {
+
+    private final ITaskRepository repository;
+
+    private final TaskListVersions versions;
+
+    private final Cache<UUID, UserIndex> indexes;
+
+    @Autowired
+    public InMemoryTaskSearchIndex(ITaskRepository repository,
+                                   TaskListVersions versions,
+                                   @Value("${todolist.search.memory.max-users:1000}") long maxUsers,
+                                   @Value("${todolist.search.memory.rebuild-after:10m}") Duration rebuildAfter) {
+
+        this.repository = repository;
+        this.versions = versions;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(rebuildAfter)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public List<UUID> search(UUID userId, String query, int limit) {
+
+        List<String> terms = TaskTokenizer.tokenize(query);
+
+        if (terms.isEmpty()) return List.of();
+
+        return indexFor(userId).search(new LinkedHashSet<>(terms), limit);
+    }
+
+    @Override
+    public void index(TaskResponseDTO task) {
+
+        UserIndex index = indexes.getIfPresent(task.userId());
+
+        // Not loaded yet: the next search builds it from the database, change included
+        if (index == null) return;
+
+        index.put(task);
+        index.syncedVersion = Math.max(index.syncedVersion, versions.current(task.userId()));
+    }
+
+    @Override
+    public void remove(UUID userId, UUID taskId) {
+
+        UserIndex index = indexes.getIfPresent(userId);
+
+        if (index == null) return;
+
+        index.delete(taskId);
+        index.syncedVersion = Math.max(index.syncedVersion, versions.current(userId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        CaffeineCacheMetrics.monitor(registry, indexes, "taskSearchIndex");
+    }
+
+    private UserIndex indexFor(UUID userId) {
+
+        long version = versions.current(userId);
+
+        UserIndex index = indexes.getIfPresent(userId);
+
+        if (index != null && index.syncedVersion >= version) return index;
+
+        // Version read before loading, so a concurrent write triggers another rebuild instead of being lost.
+        // Loaded from the primary: a lagging replica would miss writes already covered by that version
+        UserIndex rebuilt = new UserIndex(version);
+        ReadWriteRoutingDataSource.onPrimary(() -> repository.findResponsesByUserId(userId)).forEach(rebuilt::put);
+
+        indexes.put(userId, rebuilt);
+
+        return rebuilt;
+    }
+
+    /**
+     * Índice invertido das tarefas de um único usuário.
+     */
+    static final class UserIndex {
+
+        private static final double K1 = 1.2;
+
+        private static final double B = 0.75;
+
+        private static final int TITLE_WEIGHT = 2;
+
+        /**
+         * Termo para (tarefa, frequência ponderada do termo na tarefa).
+         */
+        private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+
+        /**
+         * Tarefa para (termo, frequência), usado para remover a versão anterior na atualização.
+         */
+        private final Map<UUID, Map<String, Integer>> documents = new HashMap<>();
+
+        /**
+         * Tamanho ponderado de cada tarefa (soma das frequências), usado na normalização do BM25.
+         */
+        private final Map<UUID, Integer> lengths = new HashMap<>();
+
+        private long totalLength;
+
+        volatile long syncedVersion;
+
+        UserIndex(long syncedVersion) {
+            this.syncedVersion = syncedVersion;
+        }
+
+        synchronized void put(TaskResponseDTO task) {
+
+            remove(task.id());
+
+            Map<String, Integer> frequencies = new HashMap<>();
+
+            TaskTokenizer.tokenize(task.title()).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+            TaskTokenizer.tokenize(task.description()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+
+            int length = 0;
+
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+
+                postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(task.id(), entry.getValue());
+                length += entry.getValue();
+            }
+
+            documents.put(task.id(), frequencies);
+            lengths.put(task.id(), length);
+            totalLength += length;
+        }
+
+        synchronized void delete(UUID taskId) {
+            remove(taskId);
+        }
+
+        synchronized List<UUID> search(Iterable<String> terms, int limit) {
+
+            int documentCount = documents.size();
+
+            if (documentCount == 0) return List.of();
+
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<UUID, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+
+                Map<UUID, Integer> matches = postings.get(term);
+
+                if (matches == null) continue;
+
+                double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+
+                matches.forEach((taskId, frequency) -> {
+
+                    double norm = K1 * (1 - B + B * lengths.get(taskId) / averageLength);
+
+                    scores.merge(taskId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        private void remove(UUID taskId) {
+
+            Map<String, Integer> previous = documents.remove(taskId);
+
+            if (previous == null) return;
+
+            previous.keySet().forEach(term -> {
+
+                Map<UUID, Integer> matches = postings.get(term);
+                matches.remove(taskId);
+                if (matches.isEmpty()) postings.remove(term);
+            });
+
+            totalLength -= lengths.remove(taskId);
+        }
+    }
+}
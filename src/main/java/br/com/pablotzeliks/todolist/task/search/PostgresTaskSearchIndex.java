@@ -0,0 +1,82 @@
+package br.com.pablotzeliks.todolist.task.search;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Busca textual delegada ao PostgreSQL ({@code tsvector}/{@code tsquery}).
+ * <p>
+ * O título e a descrição são indexados pelo índice GIN de expressão {@code idx_task_search},
+ * criado pela migração {@code db/migration/postgresql/V5}. O ranqueamento usa {@code ts_rank} com peso maior
+ * para o título. Como o banco é a fonte da verdade, não há estado a manter:
+ * {@link #index(TaskResponseDTO)} não faz nada e o resultado é coerente entre instâncias.
+ * </p>
+ * <p>
+ * A configuração textual ({@code todolist.search.postgres.config}, padrão {@code simple})
+ * define stemming e stop words; deve ser a mesma usada na criação do índice.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskSearchIndex
+ */
+@Component
+@ConditionalOnProperty(name = "todolist.search.engine", havingValue = "postgres")
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    private static final Pattern CONFIG_NAME = Pattern.compile("[a-z_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String document;
+
+    private final String searchSql;
+
+    @Autowired
+    public PostgresTaskSearchIndex(JdbcTemplate jdbcTemplate,
+                                   @Value("${todolist.search.postgres.config:simple}") String config) {
+
+        if (!CONFIG_NAME.matcher(config).matches()) {
+
+            throw new IllegalArgumentException("todolist.search.postgres.config inválido: " + config);
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+
+        // Must match the expression of idx_task_search exactly for the planner to use the GIN index
+        this.document = "(setweight(to_tsvector('" + config + "', coalesce(title, '')), 'A')"
+                + " || setweight(to_tsvector('" + config + "', coalesce(description, '')), 'B'))";
+
+        this.searchSql = "select id from tb_task"
+                + " where user_id = ? and deleted_at is null and " + document + " @@ plainto_tsquery('" + config + "', ?)"
+                + " order by ts_rank(" + document + ", plainto_tsquery('" + config + "', ?)) desc, id"
+                + " limit ?";
+    }
+
+    @Override
+    public List<UUID> search(UUID userId, String query, int limit) {
+
+        return jdbcTemplate.queryForList(searchSql, UUID.class, userId, query, query, limit);
+    }
+
+    @Override
+    public void index(TaskResponseDTO task) {
+
+        // The database keeps the GIN index up to date on every write
+    }
+
+    @Override
+    public void remove(UUID userId, UUID taskId) {
+
+        // Removed Tasks are filtered out by the search query itself
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.pablotzeliks.todolist.task.search;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Índice de busca textual sobre o título e a descrição das tarefas.
+ * <p>
+ * Usado por {@code GET /tasks/search}. A implementação é escolhida pela propriedade
+ * {@code todolist.search.engine}:
+ * <ul>
+ *   <li>{@code memory} (padrão): {@link InMemoryTaskSearchIndex}, índice invertido por usuário na JVM</li>
+ *   <li>{@code postgres}: {@link PostgresTaskSearchIndex}, busca textual nativa do PostgreSQL</li>
+ * </ul>
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.task.service.TaskService#search(UUID, String, int)
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * Busca as tarefas do usuário que correspondem ao texto informado.
+     *
+     * @param userId Identificador do usuário dono das tarefas
+     * @param query  Texto buscado
+     * @param limit  Quantidade máxima de resultados
+     * @return identificadores das tarefas encontradas, da mais para a menos relevante
+     */
+    List<UUID> search(UUID userId, String query, int limit);
+
+    /**
+     * Registra a versão atual de uma tarefa recém-criada ou alterada.
+     * <p>
+     * Implementações que consultam o banco de dados diretamente podem ignorar a chamada.
+     * </p>
+     *
+     * @param task Tarefa no estado já persistido
+     */
+    void index(TaskResponseDTO task);
+
+    /**
+     * Retira do índice uma tarefa removida.
+     * <p>
+     * Implementações que consultam o banco de dados diretamente podem ignorar a chamada.
+     * </p>
+     *
+     * @param userId Identificador do usuário dono da tarefa
+     * @param taskId Identificador da tarefa removida
+     */
+    void remove(UUID userId, UUID taskId);
+}
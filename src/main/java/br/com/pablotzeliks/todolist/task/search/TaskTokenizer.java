@@ -0,0 +1,38 @@
+package br.com.pablotzeliks.todolist.task.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Quebra textos em termos de busca: minúsculas, sem acentos, apenas letras e dígitos.
+ * <p>
+ * Termos de um único caractere são descartados, pois quase sempre são ruído.
+ * </p>
+ */
+final class TaskTokenizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TaskTokenizer() { }
+
+    static List<String> tokenize(String text) {
+
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null || text.isBlank()) return tokens;
+
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+
+        for (String token : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+
+            if (token.length() > 1) tokens.add(token);
+        }
+
+        return tokens;
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição no feed de alterações de tarefas ({@code GET /tasks/changes}).
+ * <p>
+ * Representa a última alteração entregue ao cliente, identificada pelo par
+ * {@code (changeSeq, id)}, na mesma ordem do índice {@code (user_id, change_seq, id)}.
+ * Para o cliente, o cursor é uma String opaca em Base64 URL-safe.
+ * </p>
+ *
+ * @param changeSeq Posição da última alteração entregue no feed do usuário
+ * @param id        Identificador da tarefa alterada (desempate entre tarefas da mesma transação)
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskService#changes(UUID, String, int)
+ */
+public record TaskChangeCursor(
+
+        long changeSeq,
+        UUID id
+) {
+
+    /**
+     * Prefixo que impede que um cursor de paginação seja aceito como cursor do feed.
+     */
+    private static final String PREFIX = "c|";
+
+    /**
+     * Codifica o cursor em uma String opaca.
+     *
+     * @return cursor codificado
+     */
+    public String encode() {
+
+        String raw = PREFIX + changeSeq + "|" + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param cursor cursor opaco
+     * @return a posição representada pelo cursor
+     * @throws BusinessRuleException se o cursor for inválido
+     */
+    public static TaskChangeCursor decode(String cursor) {
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (!raw.startsWith(PREFIX)) throw new IllegalArgumentException();
+
+            int separator = raw.lastIndexOf('|');
+
+            return new TaskChangeCursor(
+                    Long.parseLong(raw.substring(PREFIX.length(), separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+
+        } catch (RuntimeException e) {
+
+            throw new BusinessRuleException("Cursor de alterações inválido.");
+        }
+    }
+}
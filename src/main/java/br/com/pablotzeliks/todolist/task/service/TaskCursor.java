@@ -0,0 +1,64 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de paginação por keyset na listagem de tarefas.
+ * <p>
+ * Representa a última tarefa entregue na página anterior, identificada pelo par
+ * {@code (createdAt, id)}, que segue a mesma ordem do índice {@code (user_id, created_at, id)}.
+ * Para o cliente, o cursor é uma String opaca em Base64 URL-safe.
+ * </p>
+ *
+ * @param createdAt Data/hora de criação da última tarefa entregue
+ * @param id        Identificador da última tarefa entregue (desempate)
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskService
+ */
+public record TaskCursor(
+
+        LocalDateTime createdAt,
+        UUID id
+) {
+
+    /**
+     * Codifica o cursor em uma String opaca.
+     *
+     * @return cursor codificado
+     */
+    public String encode() {
+
+        String raw = createdAt + "|" + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param cursor cursor opaco
+     * @return a posição representada pelo cursor
+     * @throws BusinessRuleException se o cursor for inválido
+     */
+    public static TaskCursor decode(String cursor) {
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+
+            return new TaskCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+
+        } catch (RuntimeException e) {
+
+            throw new BusinessRuleException("Cursor de paginação inválido.");
+        }
+    }
+}
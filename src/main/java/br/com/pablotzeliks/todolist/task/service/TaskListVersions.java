@@ -0,0 +1,112 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.task.cache.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão da lista de tarefas de cada usuário, usada como ETag na listagem.
+ * <p>
+ * Toda escrita em tarefas de um usuário ({@link TaskService#create} e {@link TaskService#update})
+ * é publicada no {@link CacheInvalidationBus}, e cada invalidação recebida avança a versão dele. Assim, {@code GET /tasks/list} pode responder
+ * {@code 304 Not Modified} a um {@code If-None-Match} com a versão atual sem consultar
+ * {@code tb_task} e sem serializar nada.
+ * </p>
+ * <p>
+ * As versões vêm de um único contador global, portanto são estritamente crescentes para
+ * cada usuário. O ETag inclui também uma época gerada na inicialização: após um restart,
+ * todos os ETags anteriores deixam de corresponder e os clientes recebem a lista completa
+ * uma vez.
+ * </p>
+ * <p>
+ * <strong>Memória limitada:</strong> as versões ficam em um cache Caffeine com tamanho máximo
+ * ({@code todolist.tasks.list-versions.max-users}) e expiração por inatividade
+ * ({@code todolist.tasks.list-versions.idle-timeout}). Um usuário sem entrada recebe um novo
+ * valor do contador global, maior que qualquer versão já emitida, de modo que um ETag
+ * anterior ao despejo nunca volta a corresponder; no pior caso o cliente recebe a lista
+ * completa mais uma vez.
+ * </p>
+ * <p>
+ * <strong>Múltiplas instâncias:</strong> a versão é mantida em memória; escritas feitas em outra
+ * instância só são vistas se o {@link CacheInvalidationBus} configurado as repassar.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskService
+ * @see CacheInvalidationBus
+ * @see br.com.pablotzeliks.todolist.task.controller.TaskController
+ */
+@Component
+public class TaskListVersions {
+
+    /**
+     * Identifica esta execução da aplicação dentro do ETag.
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Cache<UUID, Long> versions;
+
+    @Autowired
+    public TaskListVersions(CacheInvalidationBus invalidationBus,
+                            @Value("${todolist.tasks.list-versions.max-users:100000}") long maxUsers,
+                            @Value("${todolist.tasks.list-versions.idle-timeout:1h}") Duration idleTimeout) {
+
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(idleTimeout)
+                .build();
+
+        invalidationBus.subscribe(this::bump);
+    }
+
+    /**
+     * Versão atual da lista de tarefas do usuário.
+     *
+     * @param userId Identificador do usuário
+     * @return a versão atual; um usuário sem entrada recebe uma versão nova do contador global
+     */
+    public long current(UUID userId) {
+
+        // Seeded from the global counter, so an entry evicted after a write never falls back to an issued ETag
+        return versions.get(userId, key -> sequence.incrementAndGet());
+    }
+
+    /**
+     * Avança a versão da lista de tarefas do usuário.
+     * <p>
+     * Deve ser chamado após a escrita ser confirmada no banco de dados, para que uma
+     * leitura concorrente nunca associe dados antigos a uma versão nova.
+     * </p>
+     *
+     * @param userId Identificador do usuário cujas tarefas mudaram
+     * @return a nova versão
+     */
+    public long bump(UUID userId) {
+
+        long next = sequence.incrementAndGet();
+
+        return versions.asMap().merge(userId, next, Math::max);
+    }
+
+    /**
+     * ETag forte correspondente à versão atual da lista de tarefas do usuário.
+     *
+     * @param userId Identificador do usuário
+     * @return o ETag, já entre aspas
+     */
+    public String eTag(UUID userId) {
+
+        return "\"" + epoch + "-" + current(userId) + "\"";
+    }
+}
@@ -1,20 +1,54 @@
 package br.com.pablotzeliks.todolist.task.service;
 
+import br.com.pablotzeliks.todolist.exception.dto.ValidationErrorDTO;
 import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+import br.com.pablotzeliks.todolist.exception.general.PreconditionFailedException;
 import br.com.pablotzeliks.todolist.exception.general.ResourceNotFoundException;
+import br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException;
+import br.com.pablotzeliks.todolist.persistence.UuidV7;
+import br.com.pablotzeliks.todolist.task.agenda.TaskAgendaIndex;
+import br.com.pablotzeliks.todolist.task.cache.CacheInvalidationBus;
+import br.com.pablotzeliks.todolist.task.cache.TaskListCache;
+import br.com.pablotzeliks.todolist.task.dto.TaskBatchItemDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskBatchResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskChangesDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskDeleteResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskPageDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
+import br.com.pablotzeliks.todolist.task.ingest.PendingTask;
+import br.com.pablotzeliks.todolist.task.ingest.TaskGroupWriter;
+import br.com.pablotzeliks.todolist.task.ingest.TaskWriteBehindQueue;
 import br.com.pablotzeliks.todolist.task.mapper.TaskMapper;
 import br.com.pablotzeliks.todolist.task.model.Task;
+import br.com.pablotzeliks.todolist.task.next.TaskNextUpIndex;
 import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.repository.TaskChange;
+import br.com.pablotzeliks.todolist.task.repository.TaskFilter;
+import br.com.pablotzeliks.todolist.task.repository.TaskSort;
+import br.com.pablotzeliks.todolist.task.search.TaskSearchIndex;
 import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Camada de serviço responsável pelas regras de negócio relacionadas a Tarefas.
@@ -39,7 +73,62 @@ import java.util.UUID;
  * @see br.com.pablotzeliks.todolist.task.repository.ITaskRepository
  */
 @Service
-public class TaskService {
+public class TaskService implements TaskGroupWriter {
+
+    /**
+     * Tamanho de página usado quando o cliente informa apenas o cursor.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Tamanho máximo de página aceito na listagem paginada.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Quantidade de resultados da busca textual quando o cliente não informa o limite.
+     */
+    public static final int DEFAULT_SEARCH_SIZE = 20;
+
+    /**
+     * Tamanho máximo aceito para o texto da busca.
+     */
+    public static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
+    /**
+     * Tamanho máximo de página aceito no feed de alterações.
+     */
+    public static final int MAX_CHANGES_PAGE_SIZE = 500;
+
+    /**
+     * Janela máxima, em dias, aceita na consulta de agenda.
+     */
+    public static final int MAX_AGENDA_DAYS = 366;
+
+    /**
+     * Quantidade de próximas tarefas retornada quando o cliente não informa {@code n}.
+     */
+    public static final int DEFAULT_NEXT_SIZE = 10;
+
+    /**
+     * Quantidade máxima de próximas tarefas por requisição.
+     */
+    public static final int MAX_NEXT_SIZE = 50;
+
+    /**
+     * Quantidade máxima de itens aceita na criação em lote.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Quantidade de tarefas lidas por consulta na listagem em streaming.
+     */
+    public static final int STREAM_CHUNK_SIZE = 500;
+
+    /**
+     * Quantidade de IDs por consulta ao carregar as tarefas da agenda.
+     */
+    private static final int AGENDA_LOAD_CHUNK = 1000;
 
     @Autowired
     private ITaskRepository repository;
@@ -47,6 +136,33 @@ public class TaskService {
     @Autowired
     private TaskMapper mapper;
 
+    @Autowired
+    private TaskListVersions versions;
+
+    @Autowired
+    private TaskListCache listCache;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+
+    @Autowired
+    private TaskStatsService statsService;
+
+    @Autowired
+    private TaskAgendaIndex agendaIndex;
+
+    @Autowired
+    private TaskNextUpIndex nextUpIndex;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TaskWriteBehindQueue writeBehindQueue;
+
     /**
      * Cria uma nova tarefa no sistema.
      * <p>
@@ -59,6 +175,7 @@ public class TaskService {
      * @return DTO de resposta com os dados da tarefa criada
      * @throws BusinessRuleException se as datas forem inválidas
      */
+    @Transactional
     public TaskResponseDTO create(TaskRequestDTO taskRequestDTO, UUID userId) {
 
         // DateTime Validation
@@ -68,11 +185,165 @@ public class TaskService {
         Task entity = mapper.toEntity(taskRequestDTO);
         entity.setUserId(userId);
 
+        entity.setUpdatedAt(LocalDateTime.now());
+
+        // A new Task is also a change for the change feed
+        entity.setChangeSeq(statsService.onCreated(userId, entity.getPriority()));
+
         // Persistency
         Task persistencyTask = repository.save(entity);
 
         // Map to Response DTO
-        return mapper.toResponse(persistencyTask);
+        TaskResponseDTO response = mapper.toResponse(persistencyTask);
+
+        afterCommit(userId, List.of(response));
+
+        return response;
+    }
+
+    /**
+     * Valida uma tarefa e a entrega à fila de escrita postergada ({@link TaskWriteBehindQueue}).
+     * <p>
+     * Alternativa a {@link #create(TaskRequestDTO, UUID)} para cargas de ingestão intensas:
+     * a tarefa recebe o id na aplicação e é gravada junto com as demais do mesmo grupo, em
+     * uma única transação. O chamador pode aguardar o futuro de {@link PendingTask} (que
+     * conclui após o commit) ou responder de imediato com o id já atribuído.
+     * </p>
+     *
+     * @param taskRequestDTO DTO contendo os dados da tarefa a ser criada
+     * @param userId         Identificador do usuário autenticado
+     * @return a tarefa pendente de gravação
+     * @throws BusinessRuleException       se as datas forem inválidas
+     * @throws ServiceOverloadedException se a fila estiver cheia
+     */
+    public PendingTask enqueue(TaskRequestDTO taskRequestDTO, UUID userId) {
+
+        validatesDate(taskRequestDTO);
+
+        Task entity = mapper.toEntity(taskRequestDTO);
+        entity.setId(UuidV7.generate());
+        entity.setUserId(userId);
+
+        return writeBehindQueue.submit(entity);
+    }
+
+    /**
+     * Grava um grupo da fila de escrita postergada em uma única transação.
+     * <p>
+     * O grupo pode conter tarefas de vários usuários: os INSERTs são agrupados em lotes
+     * JDBC, e as estatísticas, a posição no feed de alterações e a propagação pós-commit são
+     * feitas uma vez por usuário. O {@code updatedAt} é marcado aqui, na gravação do grupo, e
+     * não na entrada da fila.
+     * </p>
+     *
+     * @param tasks Tarefas já validadas e com id atribuído
+     * @return DTOs das tarefas persistidas, na mesma ordem
+     */
+    @Override
+    @Transactional
+    public List<TaskResponseDTO> createGroup(List<Task> tasks) {
+
+        var currentDate = LocalDateTime.now();
+        Map<UUID, List<Task>> tasksByUser = new LinkedHashMap<>();
+
+        for (Task task : tasks) {
+            task.setUpdatedAt(currentDate);
+            tasksByUser.computeIfAbsent(task.getUserId(), userId -> new ArrayList<>()).add(task);
+        }
+
+        tasksByUser.forEach((userId, userTasks) -> {
+
+            long changeSeq = statsService.onCreated(userId, userTasks.stream().map(Task::getPriority).toList());
+            userTasks.forEach(task -> task.setChangeSeq(changeSeq));
+        });
+
+        List<Task> saved = repository.saveAll(tasks);
+
+        List<TaskResponseDTO> responses = new ArrayList<>(saved.size());
+        Map<UUID, List<TaskResponseDTO>> byUser = new LinkedHashMap<>();
+
+        for (Task task : saved) {
+
+            TaskResponseDTO response = mapper.toResponse(task);
+
+            responses.add(response);
+            byUser.computeIfAbsent(task.getUserId(), userId -> new ArrayList<>()).add(response);
+        }
+
+        byUser.forEach(this::afterCommit);
+
+        return responses;
+    }
+
+    /**
+     * Cria várias tarefas em uma única transação, para importadores.
+     * <p>
+     * Cada item passa pelas mesmas validações de {@code POST /tasks/create} (Bean Validation
+     * e datas); itens inválidos são recusados individualmente e os válidos são inseridos
+     * juntos. Os IDs são UUIDs gerados na aplicação, então o Hibernate agrupa os INSERTs em
+     * lotes JDBC ({@code hibernate.jdbc.batch_size}), e os contadores de estatística são
+     * ajustados uma única vez para o lote inteiro.
+     * </p>
+     *
+     * @param requests DTOs das tarefas a criar (1 a {@value #MAX_BATCH_SIZE})
+     * @param userId   Identificador do usuário autenticado
+     * @return resultado de cada item, na ordem da requisição
+     * @throws BusinessRuleException se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    @Transactional
+    public TaskBatchResponseDTO createBatch(List<TaskRequestDTO> requests, UUID userId) {
+
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+
+            throw new BusinessRuleException("O lote deve ter entre 1 e " + MAX_BATCH_SIZE + " tarefas.");
+        }
+
+        TaskBatchItemDTO[] items = new TaskBatchItemDTO[requests.size()];
+
+        List<Task> accepted = new ArrayList<>(requests.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+
+        var currentDate = LocalDateTime.now();
+
+        for (int i = 0; i < requests.size(); i++) {
+
+            TaskRequestDTO request = requests.get(i);
+            List<ValidationErrorDTO> errors = validate(request);
+
+            if (!errors.isEmpty()) {
+
+                items[i] = new TaskBatchItemDTO(i, null, errors);
+                continue;
+            }
+
+            Task entity = mapper.toEntity(request);
+            entity.setUserId(userId);
+            entity.setUpdatedAt(currentDate);
+
+            accepted.add(entity);
+            acceptedIndexes.add(i);
+        }
+
+        if (accepted.isEmpty()) return new TaskBatchResponseDTO(0, requests.size(), List.of(items));
+
+        long changeSeq = statsService.onCreated(userId, accepted.stream().map(Task::getPriority).toList());
+        accepted.forEach(task -> task.setChangeSeq(changeSeq));
+
+        List<Task> saved = repository.saveAll(accepted);
+
+        List<TaskResponseDTO> responses = new ArrayList<>(saved.size());
+
+        for (int i = 0; i < saved.size(); i++) {
+
+            TaskResponseDTO response = mapper.toResponse(saved.get(i));
+
+            responses.add(response);
+            items[acceptedIndexes.get(i)] = new TaskBatchItemDTO(acceptedIndexes.get(i), response, null);
+        }
+
+        afterCommit(userId, responses);
+
+        return new TaskBatchResponseDTO(saved.size(), requests.size() - saved.size(), List.of(items));
     }
 
     /**
@@ -80,60 +351,624 @@ public class TaskService {
      * <p>
      * Retorna uma lista vazia caso o usuário não possua tarefas cadastradas.
      * </p>
+     * <p>
+     * Os DTOs são montados diretamente pela consulta (projeção), sem carregar entidades
+     * gerenciadas no contexto de persistência, e a transação é somente leitura.
+     * </p>
+     * <p>
+     * O resultado passa pelo {@link TaskListCache}: enquanto a versão da lista do usuário
+     * não mudar, as leituras seguintes não consultam o banco de dados. Por isso este método
+     * não abre transação; a consulta usa a transação somente leitura do repositório.
+     * </p>
      *
      * @param userId Identificador do usuário autenticado
      * @return Lista de DTOs de resposta com as tarefas do usuário
      */
     public List<TaskResponseDTO> list(UUID userId) {
 
-        var taskList = repository.findByUserId(userId);
+        // Read before querying, so a concurrent write makes this entry stale instead of hiding it
+        long version = versions.current(userId);
+
+        List<TaskResponseDTO> cached = listCache.get(userId, version);
+
+        if (cached != null) return cached;
+
+        List<TaskResponseDTO> tasks = repository.findResponsesByUserId(userId);
+
+        listCache.put(userId, version, tasks);
+
+        return tasks;
+    }
+
+    /**
+     * Lista as tarefas de um usuário que atendem aos filtros informados.
+     * <p>
+     * Os filtros e a ordenação são aplicados pelo banco de dados, de modo que apenas as
+     * tarefas pedidas trafegam entre o banco, a aplicação e o cliente.
+     * </p>
+     *
+     * @param userId Identificador do usuário autenticado
+     * @param filter Filtros e ordenação
+     * @return Lista de DTOs de resposta com as tarefas encontradas
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> list(UUID userId, TaskFilter filter) {
+
+        return repository.findByFilter(userId, filter, null, null, Limit.unlimited());
+    }
+
+    /**
+     * Entrega todas as tarefas de um usuário, uma a uma, conforme são lidas do banco.
+     * <p>
+     * Diferente de {@link #list(UUID)}, nenhuma lista completa é montada: as tarefas são lidas
+     * em blocos de {@value #STREAM_CHUNK_SIZE} por keyset {@code (createdAt, id)}, projetadas
+     * no DTO, mantendo o uso de heap constante independentemente da quantidade de tarefas.
+     * </p>
+     * <p>
+     * O método não é transacional: cada bloco é lido em uma transação curta, e o
+     * {@code consumer} roda entre elas, sem conexão presa. Um cliente lento na rede não
+     * segura uma conexão do pool nem um snapshot aberto no banco. Em troca, a listagem não é
+     * uma foto única: uma tarefa criada ou removida durante a transmissão pode ou não aparecer,
+     * mas as demais saem exatamente uma vez, na ordem de criação.
+     * </p>
+     *
+     * @param userId   Identificador do usuário autenticado
+     * @param consumer Destino de cada tarefa convertida (por exemplo, a resposta HTTP)
+     */
+    public void stream(UUID userId, Consumer<TaskResponseDTO> consumer) {
+
+        Limit chunk = Limit.of(STREAM_CHUNK_SIZE);
+
+        List<TaskResponseDTO> tasks = repository.findFirstPage(userId, chunk);
+
+        while (true) {
+
+            tasks.forEach(consumer);
+
+            if (tasks.size() < STREAM_CHUNK_SIZE) return;
+
+            TaskResponseDTO last = tasks.get(tasks.size() - 1);
+            tasks = repository.findPageAfter(userId, last.createdAt(), last.id(), chunk);
+        }
+    }
+
+    /**
+     * Lista uma página de tarefas de um usuário usando paginação por keyset.
+     * <p>
+     * As tarefas são ordenadas por {@code (createdAt, id)}. Cada página é lida direto do
+     * índice a partir da posição do cursor, com custo proporcional ao tamanho da página
+     * e não à quantidade total de tarefas do usuário.
+     * </p>
+     *
+     * @param userId Identificador do usuário autenticado
+     * @param limit  Quantidade máxima de tarefas na página (1 a {@value #MAX_PAGE_SIZE})
+     * @param cursor Cursor opaco retornado pela página anterior, ou {@code null} para a primeira
+     * @return DTO com as tarefas da página e o cursor da próxima
+     * @throws BusinessRuleException se o limite estiver fora do intervalo ou o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public TaskPageDTO listPage(UUID userId, int limit, String cursor) {
+
+        return listPage(userId, TaskFilter.NONE, limit, cursor);
+    }
+
+    /**
+     * Lista uma página de tarefas de um usuário que atendem aos filtros informados.
+     * <p>
+     * A paginação por cursor só está disponível na ordenação por {@code createdAt}. Nas
+     * demais ordenações, {@code limit} retorna apenas as primeiras tarefas (por exemplo,
+     * as {@code N} com prazo mais próximo) e a página não traz {@code nextCursor}.
+     * </p>
+     *
+     * @param userId Identificador do usuário autenticado
+     * @param filter Filtros e ordenação
+     * @param limit  Quantidade máxima de tarefas na página (1 a {@value #MAX_PAGE_SIZE})
+     * @param cursor Cursor opaco retornado pela página anterior, ou {@code null} para a primeira
+     * @return DTO com as tarefas da página e o cursor da próxima
+     * @throws BusinessRuleException se o limite estiver fora do intervalo, o cursor for inválido
+     *                               ou for usado com uma ordenação diferente de {@code createdAt}
+     */
+    @Transactional(readOnly = true)
+    public TaskPageDTO listPage(UUID userId, TaskFilter filter, int limit, String cursor) {
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+
+            throw new BusinessRuleException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+
+        boolean keyset = filter.sort() == TaskSort.CREATED_AT;
+
+        if (cursor != null && !keyset) {
+
+            throw new BusinessRuleException("A paginação por cursor só é suportada na ordenação por createdAt.");
+        }
+
+        // Reads one extra row to know whether there is a next page
+        Limit fetch = Limit.of(limit + 1);
+
+        List<TaskResponseDTO> tasks;
+
+        if (!filter.isDefault()) {
+
+            TaskCursor position = cursor != null ? TaskCursor.decode(cursor) : null;
+
+            tasks = repository.findByFilter(userId, filter,
+                    position != null ? position.createdAt() : null,
+                    position != null ? position.id() : null,
+                    fetch);
+        } else if (cursor == null) {
+
+            tasks = repository.findFirstPage(userId, fetch);
+        } else {
+
+            TaskCursor position = TaskCursor.decode(cursor);
+            tasks = repository.findPageAfter(userId, position.createdAt(), position.id(), fetch);
+        }
+
+        boolean hasNext = tasks.size() > limit;
+        List<TaskResponseDTO> page = hasNext ? tasks.subList(0, limit) : tasks;
+
+        String nextCursor = null;
 
-        return taskList.stream()
-                .map(mapper::toResponse)
+        if (hasNext && keyset) {
+
+            TaskResponseDTO last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new TaskPageDTO(List.copyOf(page), nextCursor);
+    }
+
+    /**
+     * Lista as tarefas criadas ou alteradas após um cursor (feed de alterações).
+     * <p>
+     * Permite que clientes sincronizem apenas o que mudou, em vez de baixar a lista completa.
+     * A consulta percorre o índice {@code (user_id, change_seq, id)} a partir do cursor, então
+     * o custo acompanha a quantidade de alterações e não o total de tarefas do usuário.
+     * </p>
+     * <p>
+     * A ordem é a sequência de alterações de {@code tb_task_stats}, reservada por cada escrita
+     * com a linha do usuário travada até o commit, e não {@code updatedAt}: uma transação lenta
+     * para confirmar não pode acabar atrás de um cursor já entregue ao cliente.
+     * </p>
+     * <p>
+     * Pelo mesmo motivo o feed é lido do primário, mesmo com a réplica habilitada (a transação
+     * não é somente leitura): uma alteração ainda não replicada ficaria para trás de outra mais
+     * recente já entregue.
+     * </p>
+     * <p>
+     * Tarefas removidas aparecem em {@code deleted} enquanto não forem expurgadas
+     * ({@code todolist.tasks.purge.retention}); um cliente que fique mais tempo que isso sem
+     * sincronizar deve recarregar a lista completa.
+     * </p>
+     *
+     * @param userId Identificador do usuário autenticado
+     * @param since  Cursor devolvido pela sincronização anterior, ou {@code null} para começar do início
+     * @param limit  Quantidade máxima de alterações (1 a {@value #MAX_CHANGES_PAGE_SIZE})
+     * @return DTO com as alterações e o cursor da próxima sincronização
+     * @throws BusinessRuleException se o limite estiver fora do intervalo ou o cursor for inválido
+     */
+    @Transactional
+    public TaskChangesDTO changes(UUID userId, String since, int limit) {
+
+        if (limit < 1 || limit > MAX_CHANGES_PAGE_SIZE) {
+
+            throw new BusinessRuleException("O limite deve estar entre 1 e " + MAX_CHANGES_PAGE_SIZE + ".");
+        }
+
+        // Reads one extra row to know whether there are more changes
+        Limit fetch = Limit.of(limit + 1);
+
+        List<TaskChange> changes;
+
+        if (since == null) {
+
+            changes = repository.findChanges(userId, fetch);
+        } else {
+
+            TaskChangeCursor position = TaskChangeCursor.decode(since);
+            changes = repository.findChangesAfter(userId, position.changeSeq(), position.id(), fetch);
+        }
+
+        boolean hasMore = changes.size() > limit;
+        List<TaskChange> page = hasMore ? changes.subList(0, limit) : changes;
+
+        List<TaskResponseDTO> changed = new ArrayList<>(page.size());
+        List<UUID> deleted = new ArrayList<>();
+
+        for (TaskChange change : page) {
+
+            if (change.deleted()) {
+                deleted.add(change.task().id());
+            } else {
+                changed.add(change.task());
+            }
+        }
+
+        // Without changes the client keeps its current position
+        String nextCursor = since;
+
+        if (!page.isEmpty()) {
+
+            TaskChange last = page.get(page.size() - 1);
+            nextCursor = new TaskChangeCursor(last.changeSeq(), last.task().id()).encode();
+        }
+
+        return new TaskChangesDTO(List.copyOf(changed), List.copyOf(deleted), nextCursor, hasMore);
+    }
+
+    /**
+     * Busca textual ranqueada sobre o título e a descrição das tarefas do usuário.
+     * <p>
+     * O texto é quebrado em termos e consultado no {@link TaskSearchIndex} configurado, que
+     * devolve os IDs em ordem de relevância. Em seguida, apenas essas tarefas são lidas do
+     * banco, sem varrer {@code tb_task} com {@code LIKE}.
+     * </p>
+     *
+     * @param userId Identificador do usuário autenticado
+     * @param query  Texto buscado
+     * @param limit  Quantidade máxima de resultados (1 a {@value #MAX_PAGE_SIZE})
+     * @return tarefas encontradas, da mais para a menos relevante
+     * @throws BusinessRuleException se o texto estiver vazio ou for longo demais, ou se o limite for inválido
+     */
+    public List<TaskResponseDTO> search(UUID userId, String query, int limit) {
+
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+
+            throw new BusinessRuleException("O texto da busca deve ter entre 1 e " + MAX_SEARCH_QUERY_LENGTH + " caracteres.");
+        }
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+
+            throw new BusinessRuleException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+
+        List<UUID> ranked = searchIndex.search(userId, query, limit);
+
+        if (ranked.isEmpty()) return List.of();
+
+        Map<UUID, TaskResponseDTO> found = new HashMap<>();
+        repository.findResponsesByUserIdAndIdIn(userId, ranked).forEach(task -> found.put(task.id(), task));
+
+        // Restores the index ranking, skipping tasks removed since they were indexed
+        return ranked.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Lista as tarefas do usuário que sobrepõem a janela {@code [from, to)}, para visões de calendário.
+     * <p>
+     * Uma tarefa sobrepõe a janela quando começa antes de {@code to} e termina depois de
+     * {@code from}. Os IDs vêm do {@link TaskAgendaIndex}, já em ordem de início, e as
+     * tarefas são carregadas por chave primária.
+     * </p>
+     *
+     * @param userId Identificador do usuário autenticado
+     * @param from   Início da janela (inclusivo)
+     * @param to     Fim da janela (exclusivo)
+     * @return tarefas da janela, ordenadas por {@code startAt}
+     * @throws BusinessRuleException se a janela for inválida ou maior que {@value #MAX_AGENDA_DAYS} dias
+     */
+    public List<TaskResponseDTO> agenda(UUID userId, LocalDateTime from, LocalDateTime to) {
+
+        if (from == null || to == null || !from.isBefore(to)) {
+
+            throw new BusinessRuleException("Informe uma janela válida: from deve ser anterior a to.");
+        }
+
+        if (from.plusDays(MAX_AGENDA_DAYS).isBefore(to)) {
+
+            throw new BusinessRuleException("A janela da agenda deve ter no máximo " + MAX_AGENDA_DAYS + " dias.");
+        }
+
+        List<UUID> ordered = agendaIndex.overlapping(userId, from, to);
+
+        if (ordered.isEmpty()) return List.of();
+
+        Map<UUID, TaskResponseDTO> found = new HashMap<>();
+
+        for (int start = 0; start < ordered.size(); start += AGENDA_LOAD_CHUNK) {
+
+            List<UUID> chunk = ordered.subList(start, Math.min(start + AGENDA_LOAD_CHUNK, ordered.size()));
+            repository.findResponsesByUserIdAndIdIn(userId, chunk).forEach(task -> found.put(task.id(), task));
+        }
+
+        // Restores the start order, skipping tasks removed since they were indexed
+        return ordered.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Retorna as próximas tarefas do usuário: as mais prioritárias e, entre elas, as de término mais próximo.
+     * <p>
+     * A ordem vem da fila mantida pelo {@link TaskNextUpIndex}, que lê apenas as {@code n}
+     * primeiras posições; as tarefas são carregadas por chave primária.
+     * </p>
+     *
+     * @param userId Identificador do usuário autenticado
+     * @param n      Quantidade de tarefas (1 a {@value #MAX_NEXT_SIZE})
+     * @return as próximas tarefas, da mais prioritária para a menos
+     * @throws BusinessRuleException se {@code n} estiver fora do intervalo
+     */
+    public List<TaskResponseDTO> next(UUID userId, int n) {
+
+        if (n < 1 || n > MAX_NEXT_SIZE) {
+
+            throw new BusinessRuleException("A quantidade deve estar entre 1 e " + MAX_NEXT_SIZE + ".");
+        }
+
+        List<UUID> ordered = nextUpIndex.top(userId, n);
+
+        if (ordered.isEmpty()) return List.of();
+
+        Map<UUID, TaskResponseDTO> found = new HashMap<>();
+        repository.findResponsesByUserIdAndIdIn(userId, ordered).forEach(task -> found.put(task.id(), task));
+
+        // Restores the queue order, skipping tasks removed since they were indexed
+        return ordered.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
     /**
      * Atualiza uma tarefa existente no sistema.
      * <p>
-     * Este método verifica se a tarefa existe, valida a propriedade do usuário,
-     * aplica validações de datas e atualiza apenas os campos fornecidos no DTO.
-     * Utiliza o padrão de atualização parcial (PATCH-like), permitindo que o
-     * cliente envie apenas os campos que deseja alterar.
+     * Utiliza o padrão de atualização parcial (PATCH-like), permitindo que o cliente envie
+     * apenas os campos que deseja alterar. A alteração é um único UPDATE condicional
+     * ({@code WHERE id = ? AND user_id = ?} e datas resultantes válidas) que devolve o estado
+     * anterior da tarefa; a resposta é montada a partir dele, sem reler a tarefa.
+     * </p>
+     * <p>
+     * Somente quando nenhuma linha é alterada a tarefa é consultada, para informar o motivo:
+     * inexistente, de outro usuário, em outra versão ou com datas inválidas.
+     * </p>
+     * <p>
+     * <strong>Concorrência otimista:</strong> com {@code expectedVersion} informado (cabeçalho
+     * {@code If-Match}), a versão é conferida no próprio UPDATE, sem trava pessimista entre a
+     * leitura do cliente e a escrita. Uma edição feita sobre uma versão desatualizada é
+     * recusada em vez de sobrescrever silenciosamente a edição concorrente.
      * </p>
      *
      * @param id             Identificador da tarefa a ser atualizada
      * @param taskRequestDTO DTO contendo os dados a serem atualizados
-     * @param userId         Identificador do usuário autenticado
+     * @param userId          Identificador do usuário autenticado
+     * @param expectedVersion Versão esperada da tarefa, ou {@code null} para não verificar
      * @return DTO de resposta com os dados da tarefa atualizada
      * @throws ResourceNotFoundException     se a tarefa não for encontrada
      * @throws UserNotAuthorizedException    se o usuário não for o proprietário da tarefa
+     * @throws PreconditionFailedException   se a tarefa não estiver na versão esperada
      * @throws BusinessRuleException         se as datas forem inválidas
      */
-    public TaskResponseDTO update(UUID id, TaskUpdateDTO taskRequestDTO, UUID userId) {
+    @Transactional
+    public TaskResponseDTO update(UUID id, TaskUpdateDTO taskRequestDTO, UUID userId, Long expectedVersion) {
+
+        var currentDate = LocalDateTime.now();
+
+        TaskResponseDTO previous = repository.updatePartially(id, userId, taskRequestDTO, currentDate, expectedVersion)
+                .orElseThrow(() -> updateRejected(id, taskRequestDTO, userId, expectedVersion));
+
+        TaskResponseDTO response = mapper.applyUpdate(previous, taskRequestDTO, currentDate);
+
+        // The Task is locked by the UPDATE before the user's stats row, the same order as in delete
+        repository.updateChangeSeq(id, statsService.onUpdated(userId, previous.priority(), response.priority()));
+
+        afterCommit(userId, List.of(response));
+
+        return response;
+    }
+
+    /**
+     * Remove uma tarefa do usuário.
+     * <p>
+     * A remoção é lógica: a tarefa recebe {@code deletedAt} e sai de todas as consultas, e uma
+     * nova posição no feed de alterações leva a remoção aos clientes. A linha é apagada depois,
+     * em segundo plano, pelo {@link br.com.pablotzeliks.todolist.task.purge.TaskPurger}.
+     * </p>
+     *
+     * @param id              Identificador da tarefa a ser removida
+     * @param userId          Identificador do usuário autenticado
+     * @param expectedVersion Versão esperada da tarefa, ou {@code null} para não verificar
+     * @throws ResourceNotFoundException   se a tarefa não for encontrada ou já tiver sido removida
+     * @throws UserNotAuthorizedException  se o usuário não for o proprietário da tarefa
+     * @throws PreconditionFailedException se a tarefa não estiver na versão esperada
+     */
+    @Transactional
+    public void delete(UUID id, UUID userId, Long expectedVersion) {
+
+        List<Task> found = repository.findForDelete(userId, List.of(id));
+
+        if (found.isEmpty()) {
+
+            if (repository.existsById(id)) {
+
+                throw new UserNotAuthorizedException("Usuário não tem permissão para acessar essa Tarefa.");
+            }
+
+            throw new ResourceNotFoundException("Tarefa não encontrada.");
+        }
+
+        long currentVersion = found.get(0).getVersion() != null ? found.get(0).getVersion() : 0L;
+
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+
+            throw new PreconditionFailedException("A tarefa foi alterada por outra requisição (versão atual: " + currentVersion + ").");
+        }
+
+        markDeleted(userId, found);
+    }
+
+    /**
+     * Remove várias tarefas do usuário em uma única transação.
+     * <p>
+     * As tarefas são travadas e marcadas como removidas juntas, com os UPDATEs agrupados em
+     * lotes JDBC e os contadores de estatística ajustados uma única vez. IDs inexistentes,
+     * já removidos ou de outros usuários são devolvidos em {@code notFound}.
+     * </p>
+     *
+     * @param ids    Identificadores das tarefas (1 a {@value #MAX_BATCH_SIZE})
+     * @param userId Identificador do usuário autenticado
+     * @return as tarefas removidas e as não encontradas
+     * @throws BusinessRuleException se a lista estiver vazia ou exceder o tamanho máximo
+     */
+    @Transactional
+    public TaskDeleteResponseDTO deleteBatch(List<UUID> ids, UUID userId) {
+
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
 
-        Task task = repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada."));
+            throw new BusinessRuleException("O lote deve ter entre 1 e " + MAX_BATCH_SIZE + " tarefas.");
+        }
+
+        LinkedHashSet<UUID> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+
+        if (requested.isEmpty()) return new TaskDeleteResponseDTO(List.of(), List.of());
+
+        List<Task> found = repository.findForDelete(userId, requested);
+
+        if (!found.isEmpty()) markDeleted(userId, found);
+
+        List<UUID> deleted = new ArrayList<>(found.size());
+        List<UUID> notFound = new ArrayList<>();
 
-        if (!task.getUserId().equals(userId)) {
+        Set<UUID> foundIds = found.stream().map(Task::getId).collect(Collectors.toSet());
 
-            throw new UserNotAuthorizedException("Usuário não tem permissão para acessar essa Tarefa.");
+        for (UUID id : requested) {
+
+            if (foundIds.contains(id)) {
+                deleted.add(id);
+            } else {
+                notFound.add(id);
+            }
         }
 
-        validatesDateForUpdate(task, taskRequestDTO);
+        return new TaskDeleteResponseDTO(deleted, notFound);
+    }
 
-        if (taskRequestDTO.title() != null) task.setTitle(taskRequestDTO.title());
-        if (taskRequestDTO.description() != null) task.setDescription(taskRequestDTO.description());
-        if (taskRequestDTO.startAt() != null) task.setStartAt(taskRequestDTO.startAt());
-        if (taskRequestDTO.endAt() != null) task.setEndAt(taskRequestDTO.endAt());
-        if (taskRequestDTO.priority() != null) task.setPriority(taskRequestDTO.priority());
+    /**
+     * Marca tarefas já travadas como removidas; o flush do Hibernate grava os UPDATEs em lote.
+     */
+    private void markDeleted(UUID userId, List<Task> tasks) {
 
         var currentDate = LocalDateTime.now();
 
-        task.setUpdatedAt(currentDate);
+        long changeSeq = statsService.onDeleted(userId, tasks.stream().map(Task::getPriority).toList());
+
+        for (Task task : tasks) {
+            task.setDeletedAt(currentDate);
+            task.setUpdatedAt(currentDate);
+            task.setChangeSeq(changeSeq);
+        }
+
+        List<UUID> ids = tasks.stream().map(Task::getId).toList();
+
+        runAfterCommit(() -> {
+
+            invalidationBus.publish(userId);
+
+            for (UUID id : ids) {
+                searchIndex.remove(userId, id);
+                agendaIndex.remove(userId, id);
+                nextUpIndex.remove(userId, id);
+            }
+        });
+    }
+
+    /**
+     * Descobre por que o UPDATE condicional não alterou nenhuma linha.
+     */
+    private RuntimeException updateRejected(UUID id, TaskUpdateDTO taskRequestDTO, UUID userId, Long expectedVersion) {
+
+        Task task = repository.findByIdAndUserId(id, userId);
+
+        if (task != null) {
+
+            long currentVersion = task.getVersion() != null ? task.getVersion() : 0L;
+
+            if (expectedVersion != null && expectedVersion != currentVersion) {
+
+                return new PreconditionFailedException("A tarefa foi alterada por outra requisição (versão atual: " + currentVersion + ").");
+            }
+
+            // Throws when the dates are the reason; otherwise the Task was removed meanwhile
+            validatesDateForUpdate(task, taskRequestDTO);
+
+            return new ResourceNotFoundException("Tarefa não encontrada.");
+        }
+
+        if (repository.existsById(id)) {
+
+            return new UserNotAuthorizedException("Usuário não tem permissão para acessar essa Tarefa.");
+        }
+
+        return new ResourceNotFoundException("Tarefa não encontrada.");
+    }
+
+    /**
+     * Aplica a um item do lote as validações feitas em {@code POST /tasks/create}.
+     */
+    private List<ValidationErrorDTO> validate(TaskRequestDTO request) {
+
+        if (request == null) return List.of(new ValidationErrorDTO("task", "Item do lote não pode ser nulo."));
+
+        List<ValidationErrorDTO> errors = validator.validate(request).stream()
+                .map(violation -> new ValidationErrorDTO(violation.getPropertyPath().toString(), violation.getMessage()))
+                .toList();
+
+        if (!errors.isEmpty()) return errors;
+
+        try {
+            validatesDate(request);
+
+        } catch (BusinessRuleException e) {
+
+            return List.of(new ValidationErrorDTO("startAt", e.getMessage()));
+        }
+
+        return List.of();
+    }
+
+    /**
+     * Propaga uma escrita para os caches e os índices em memória.
+     * <p>
+     * Dentro de uma transação, só roda após o commit: invalidar antes permitiria que uma
+     * leitura concorrente recolocasse no cache o estado ainda não confirmado.
+     * </p>
+     */
+    private void afterCommit(UUID userId, List<TaskResponseDTO> responses) {
+
+        runAfterCommit(() -> {
+
+            // Bumps the list version (ETag) and drops cached lists, here and on other nodes
+            invalidationBus.publish(userId);
+
+            for (TaskResponseDTO response : responses) {
+                searchIndex.index(response);
+                agendaIndex.index(response);
+                nextUpIndex.index(response);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable propagate) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            propagate.run();
+            return;
+        }
 
-        Task persistencyTask = repository.save(task);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
 
-        return mapper.toResponse(persistencyTask);
+            @Override
+            public void afterCommit() {
+                propagate.run();
+            }
+        });
     }
 
     private void validatesDate(TaskRequestDTO requestDTO) {
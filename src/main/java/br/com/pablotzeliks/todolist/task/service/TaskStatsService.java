@@ -0,0 +1,417 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+import br.com.pablotzeliks.todolist.persistence.JobLeaseService;
+import br.com.pablotzeliks.todolist.task.dto.TaskStatsDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.model.TaskStats;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.repository.ITaskStatsRepository;
+import br.com.pablotzeliks.todolist.task.repository.PriorityCount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Camada de serviço das estatísticas de tarefas ({@code GET /tasks/stats}).
+ * <p>
+ * <strong>Contadores incrementais:</strong> o total e a quantidade por prioridade ficam em
+ * {@code tb_task_stats}, uma linha por usuário, ajustada pelo {@link TaskService} na mesma
+ * transação de cada criação, alteração ou remoção. A leitura é uma busca por chave primária.
+ * </p>
+ * <p>
+ * <strong>Vencidas e próximas:</strong> dependem do instante da consulta, então não podem
+ * ser contadores fixos. São contagens por intervalo no índice {@code (user_id, end_at)},
+ * que leem apenas as entradas do intervalo, sem carregar tarefas.
+ * </p>
+ * <p>
+ * <strong>Reconciliação:</strong> a linha de um usuário é criada na primeira leitura, a
+ * partir de uma contagem completa. Escritas concorrentes a essa criação, ou feitas
+ * diretamente no banco, podem gerar divergência; a reconciliação periódica
+ * ({@code todolist.tasks.stats.reconcile-interval}) recontabiliza cada usuário com a linha
+ * travada e corrige os contadores. As correções são contadas na métrica
+ * {@code task.stats.drift}. Com várias instâncias, só uma reconcilia a cada ciclo.
+ * </p>
+ * <p>
+ * <strong>Sequência de alterações:</strong> cada ajuste também avança o {@code changeSeq} da
+ * linha e devolve o novo valor, gravado nas tarefas escritas pela transação. Como o
+ * {@code UPDATE} trava a linha até o commit, as posições do feed de alterações
+ * ({@code GET /tasks/changes}) seguem a ordem de commit das escritas de cada usuário. Um
+ * usuário ainda sem linha a recebe na primeira escrita, contada na própria transação dela.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see TaskStats
+ * @see TaskService
+ */
+@Service
+public class TaskStatsService implements MeterBinder {
+
+    /**
+     * Janela padrão, em dias, das tarefas próximas do vencimento.
+     */
+    public static final int DEFAULT_UPCOMING_DAYS = 7;
+
+    /**
+     * Janela máxima, em dias, das tarefas próximas do vencimento.
+     */
+    public static final int MAX_UPCOMING_DAYS = 365;
+
+    /**
+     * Quantidade de usuários lidos por consulta na reconciliação.
+     */
+    public static final int RECONCILE_PAGE_SIZE = 500;
+
+    private static final String RECONCILE_JOB = "task-stats-reconcile";
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsService.class);
+
+    @Autowired
+    private ITaskStatsRepository statsRepository;
+
+    @Autowired
+    private ITaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobLeaseService jobLeases;
+
+    @Value("${todolist.tasks.stats.reconcile-lease:50m}")
+    private Duration reconcileLease;
+
+    private volatile Counter driftCounter;
+
+    /**
+     * Contabiliza uma tarefa recém-criada.
+     * <p>
+     * Deve ser chamado dentro da transação que persiste a tarefa.
+     * </p>
+     *
+     * @param userId   Identificador do dono da tarefa
+     * @param priority Prioridade da tarefa (pode ser {@code null})
+     * @return a posição da transação no feed de alterações do usuário
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long onCreated(UUID userId, Priority priority) {
+
+        return apply(userId, 1, priority, 1);
+    }
+
+    /**
+     * Contabiliza um lote de tarefas recém-criadas com um único UPDATE.
+     * <p>
+     * Deve ser chamado dentro da transação que persiste as tarefas.
+     * </p>
+     *
+     * @param userId     Identificador do dono das tarefas
+     * @param priorities Prioridade de cada tarefa criada (elementos podem ser {@code null})
+     * @return a posição da transação no feed de alterações do usuário
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long onCreated(UUID userId, Collection<Priority> priorities) {
+
+        long[] deltas = new long[Priority.values().length];
+
+        for (Priority priority : priorities) {
+            if (priority != null) deltas[priority.ordinal()] += 1;
+        }
+
+        return increment(userId, priorities.size(), deltas, false);
+    }
+
+    /**
+     * Descontabiliza tarefas removidas com um único UPDATE.
+     * <p>
+     * Deve ser chamado dentro da transação que remove as tarefas.
+     * </p>
+     *
+     * @param userId     Identificador do dono das tarefas
+     * @param priorities Prioridade de cada tarefa removida (elementos podem ser {@code null})
+     * @return a posição da transação no feed de alterações do usuário
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long onDeleted(UUID userId, Collection<Priority> priorities) {
+
+        long[] deltas = new long[Priority.values().length];
+
+        for (Priority priority : priorities) {
+            if (priority != null) deltas[priority.ordinal()] -= 1;
+        }
+
+        return increment(userId, -priorities.size(), deltas, false);
+    }
+
+    /**
+     * Contabiliza a alteração de uma tarefa, movendo-a de prioridade nos contadores se preciso.
+     * <p>
+     * Deve ser chamado dentro da transação que altera a tarefa. Mesmo sem mudança de
+     * prioridade, a alteração recebe uma posição no feed.
+     * </p>
+     *
+     * @param userId Identificador do dono da tarefa
+     * @param from   Prioridade anterior (pode ser {@code null})
+     * @param to     Nova prioridade (pode ser {@code null})
+     * @return a posição da transação no feed de alterações do usuário
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long onUpdated(UUID userId, Priority from, Priority to) {
+
+        long[] deltas = new long[Priority.values().length];
+
+        if (from != to) {
+            if (from != null) deltas[from.ordinal()] -= 1;
+            if (to != null) deltas[to.ordinal()] += 1;
+        }
+
+        // The conditional UPDATE already moved the Task, so a row counted now includes it
+        return increment(userId, 0, deltas, true);
+    }
+
+    /**
+     * Retorna as estatísticas de tarefas do usuário.
+     *
+     * @param userId       Identificador do usuário autenticado
+     * @param upcomingDays Janela, em dias, das tarefas próximas do vencimento (1 a {@value #MAX_UPCOMING_DAYS})
+     * @return DTO com os contadores e as contagens de vencidas e próximas
+     * @throws BusinessRuleException se a janela estiver fora do intervalo
+     */
+    public TaskStatsDTO get(UUID userId, int upcomingDays) {
+
+        if (upcomingDays < 1 || upcomingDays > MAX_UPCOMING_DAYS) {
+
+            throw new BusinessRuleException("A janela de próximas tarefas deve estar entre 1 e " + MAX_UPCOMING_DAYS + " dias.");
+        }
+
+        TaskStats stats = statsRepository.findById(userId).orElseGet(() -> initialize(userId));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusDays(upcomingDays);
+
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        byPriority.put(Priority.LOW, stats.getLow());
+        byPriority.put(Priority.MEDIUM, stats.getMedium());
+        byPriority.put(Priority.HIGH, stats.getHigh());
+        byPriority.put(Priority.URGENT, stats.getUrgent());
+
+        return new TaskStatsDTO(
+                stats.getTotal(),
+                byPriority,
+                taskRepository.countByUserIdAndEndAtBefore(userId, now),
+                taskRepository.countByUserIdAndEndAtBetween(userId, now, until),
+                until
+        );
+    }
+
+    /**
+     * Recontabiliza os contadores de todos os usuários e corrige divergências.
+     * <p>
+     * Roda em uma única instância por ciclo ({@link JobLeaseService}), e os usuários são
+     * percorridos em páginas de {@value #RECONCILE_PAGE_SIZE} identificadores: primeiro os
+     * donos de tarefas, depois os que só têm a linha de contadores. Nenhuma lista com todos
+     * os usuários é carregada.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${todolist.tasks.stats.reconcile-interval:1h}",
+               fixedDelayString = "${todolist.tasks.stats.reconcile-interval:1h}")
+    public void reconcile() {
+
+        if (!jobLeases.tryAcquire(RECONCILE_JOB, reconcileLease)) {
+
+            log.debug("Reconciliação de estatísticas em execução em outra instância.");
+            return;
+        }
+
+        Limit page = Limit.of(RECONCILE_PAGE_SIZE);
+
+        int repaired = reconcile(taskRepository::findUserIds, after -> taskRepository.findUserIdsAfter(after, page), page)
+                + reconcile(statsRepository::findUserIdsWithoutTasks, after -> statsRepository.findUserIdsWithoutTasksAfter(after, page), page);
+
+        if (repaired > 0) {
+            log.warn("Reconciliação de estatísticas corrigiu {} usuário(s).", repaired);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        this.driftCounter = Counter.builder("task.stats.drift")
+                .description("Contadores de tarefas corrigidos pela reconciliação")
+                .register(registry);
+    }
+
+    /**
+     * Recontabiliza um usuário com a linha de contadores travada, de modo que nenhum
+     * incremento concorrente se perca entre a contagem e a gravação.
+     *
+     * @return {@code true} se os contadores estavam divergentes
+     */
+    boolean reconcileUser(UUID userId) {
+
+        TaskStats counted = count(userId);
+
+        TaskStats current = statsRepository.findForUpdate(userId).orElse(null);
+
+        if (current == null) {
+
+            statsRepository.save(counted);
+            return false;
+        }
+
+        // Recount after taking the lock, so it sees every write that incremented before us
+        counted = count(userId);
+        counted.setChangeSeq(current.getChangeSeq());
+
+        if (counted.equals(current)) return false;
+
+        log.info("Contadores do usuário {} divergentes: {} corrigidos para {}.", userId, current, counted);
+
+        current.setTotal(counted.getTotal());
+        current.setLow(counted.getLow());
+        current.setMedium(counted.getMedium());
+        current.setHigh(counted.getHigh());
+        current.setUrgent(counted.getUrgent());
+
+        Counter counter = driftCounter;
+        if (counter != null) counter.increment();
+
+        return true;
+    }
+
+    private int reconcile(Function<Limit, List<UUID>> first, Function<UUID, List<UUID>> after, Limit page) {
+
+        int repaired = 0;
+
+        List<UUID> userIds = first.apply(page);
+
+        while (!userIds.isEmpty()) {
+
+            for (UUID userId : userIds) {
+
+                try {
+                    Boolean drifted = transactionTemplate.execute(status -> reconcileUser(userId));
+                    if (Boolean.TRUE.equals(drifted)) repaired++;
+
+                } catch (DataIntegrityViolationException e) {
+
+                    // Row created concurrently by a first read, the next run checks it again
+                    log.debug("Contadores do usuário {} criados durante a reconciliação.", userId);
+                }
+            }
+
+            if (userIds.size() < page.max()) break;
+
+            userIds = after.apply(userIds.get(userIds.size() - 1));
+        }
+
+        return repaired;
+    }
+
+    private TaskStats initialize(UUID userId) {
+
+        try {
+            return transactionTemplate.execute(status -> statsRepository.saveAndFlush(count(userId)));
+
+        } catch (DataIntegrityViolationException e) {
+
+            // Another request created the row first
+            return statsRepository.findById(userId).orElseThrow(() -> e);
+        }
+    }
+
+    private TaskStats count(UUID userId) {
+
+        TaskStats stats = new TaskStats();
+        stats.setUserId(userId);
+
+        for (PriorityCount priorityCount : taskRepository.countByPriority(userId)) {
+
+            stats.setTotal(stats.getTotal() + priorityCount.count());
+
+            if (priorityCount.priority() == null) continue;
+
+            switch (priorityCount.priority()) {
+                case LOW -> stats.setLow(priorityCount.count());
+                case MEDIUM -> stats.setMedium(priorityCount.count());
+                case HIGH -> stats.setHigh(priorityCount.count());
+                case URGENT -> stats.setUrgent(priorityCount.count());
+            }
+        }
+
+        return stats;
+    }
+
+    /**
+     * Cria a linha de contadores na transação da escrita, a partir da contagem visível a ela.
+     * <p>
+     * Uma transação própria exigiria uma segunda conexão enquanto a escrita segura a primeira,
+     * o que esgota o pool quando muitos usuários escrevem pela primeira vez ao mesmo tempo.
+     * Criações e remoções chamam este serviço antes de gravar as tarefas, e alterações depois
+     * do {@code UPDATE} condicional; o {@code applied} do chamador diz qual dos casos é.
+     * </p>
+     *
+     * @return {@code true} se a linha foi criada por esta transação
+     */
+    private boolean createRow(UUID userId) {
+
+        TaskStats counted = count(userId);
+
+        return statsRepository.insertIfAbsent(userId, counted.getTotal(), counted.getLow(), counted.getMedium(),
+                counted.getHigh(), counted.getUrgent()) > 0;
+    }
+
+    private long apply(UUID userId, long total, Priority priority, long delta) {
+
+        long[] deltas = new long[Priority.values().length];
+
+        if (priority != null) deltas[priority.ordinal()] += delta;
+
+        return increment(userId, total, deltas, false);
+    }
+
+    private long increment(UUID userId, long total, long[] deltas, boolean applied) {
+
+        if (update(userId, total, deltas) == 0) {
+
+            // A row counted after the write was applied already includes it; only the position is taken
+            boolean counted = createRow(userId) && applied;
+
+            update(userId, counted ? 0 : total, counted ? new long[deltas.length] : deltas);
+        }
+
+        // The row stays locked until the commit, so no other write of this user can take a position in between
+        return statsRepository.findChangeSeq(userId);
+    }
+
+    private int update(UUID userId, long total, long[] deltas) {
+
+        return statsRepository.increment(userId, total,
+                deltas[Priority.LOW.ordinal()],
+                deltas[Priority.MEDIUM.ordinal()],
+                deltas[Priority.HIGH.ordinal()],
+                deltas[Priority.URGENT.ordinal()]);
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.pablotzeliks.todolist.user.controller;
 
 import br.com.pablotzeliks.todolist.exception.dto.ErrorResponseDTO;
+import br.com.pablotzeliks.todolist.idempotency.IdempotencyStore;
+import br.com.pablotzeliks.todolist.user.dto.TokenResponseDTO;
 import br.com.pablotzeliks.todolist.user.dto.UserRequestDTO;
 import br.com.pablotzeliks.todolist.user.dto.UserResponseDTO;
 import br.com.pablotzeliks.todolist.user.service.UserService;
@@ -14,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -53,6 +56,12 @@ public class UserController {
     @Autowired
     private UserService service;
 
+    /**
+     * Respostas guardadas por {@code Idempotency-Key}, para reenvios do cadastro.
+     */
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
     /**
      * Endpoint para criação de um novo usuário.
      * <p>
@@ -60,8 +69,13 @@ public class UserController {
      * e toda a lógica de criação, incluindo hash de senha, ao {@link UserService}.
      * Retorna HTTP 201 (Created) com o DTO do usuário criado (sem a senha).
      * </p>
+     * <p>
+     * Com o cabeçalho {@code Idempotency-Key}, um reenvio do mesmo cadastro recebe a resposta
+     * 201 original em vez de 409; as chaves são separadas por username.
+     * </p>
      *
-     * @param requestDTO DTO validado contendo os dados do usuário
+     * @param requestDTO     DTO validado contendo os dados do usuário
+     * @param idempotencyKey Valor do cabeçalho {@code Idempotency-Key} (opcional)
      * @return ResponseEntity com status 201 e o DTO do usuário criado
      */
     @Operation(summary = "Registra um novo usuário", description = "Cria uma conta de usuário com senha criptografada")
@@ -70,10 +84,36 @@ public class UserController {
             content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
 
     @PostMapping("/create")
-    public ResponseEntity<Object> create(@Valid @RequestBody UserRequestDTO requestDTO) {
+    public ResponseEntity<Object> create(@Valid @RequestBody UserRequestDTO requestDTO,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+
+        return idempotencyStore.execute("users.create", requestDTO.username(), idempotencyKey, requestDTO, () -> {
+
+            UserResponseDTO user = service.create(requestDTO);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(user);
+        });
+    }
+
+    /**
+     * Endpoint para troca de credenciais Basic por um token de acesso.
+     * <p>
+     * Recebe usuário e senha uma única vez no cabeçalho {@code Authorization: Basic}
+     * e retorna um token assinado de curta duração, que deve ser enviado como
+     * {@code Authorization: Bearer} nas chamadas aos endpoints de tarefas.
+     * </p>
+     *
+     * @param authorization Cabeçalho {@code Authorization} com as credenciais Basic
+     * @return ResponseEntity com status 200 e o DTO do token emitido
+     */
+    @Operation(summary = "Emite um token de acesso", description = "Troca credenciais Basic por um token Bearer de curta duração")
+    @ApiResponse(responseCode = "200", description = "Token emitido com sucesso")
+
+    @PostMapping("/token")
+    public ResponseEntity<Object> token(@RequestHeader(value = "Authorization", required = false) String authorization) {
 
-        UserResponseDTO user = service.create(requestDTO);
+        TokenResponseDTO token = service.issueToken(authorization);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(user);
+        return ResponseEntity.status(HttpStatus.OK).body(token);
     }
 }
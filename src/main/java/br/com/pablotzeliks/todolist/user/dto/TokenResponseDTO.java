@@ -0,0 +1,25 @@
+package br.com.pablotzeliks.todolist.user.dto;
+
+/**
+ * DTO (Data Transfer Object) imutável para a resposta da troca de credenciais por token.
+ * <p>
+ * Retornado pelo endpoint {@code POST /users/token}. O cliente deve enviar o
+ * {@code accessToken} no cabeçalho {@code Authorization: Bearer ...} das requisições
+ * seguintes, em vez de reenviar usuário e senha a cada chamada.
+ * </p>
+ *
+ * @param accessToken Token de acesso assinado
+ * @param tokenType   Tipo do token, sempre {@code Bearer}
+ * @param expiresIn   Tempo de vida do token em segundos
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.security.AccessTokenService
+ */
+public record TokenResponseDTO(
+
+        String accessToken,
+        String tokenType,
+        long expiresIn
+) { }
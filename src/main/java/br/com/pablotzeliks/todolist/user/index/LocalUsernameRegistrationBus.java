@@ -0,0 +1,63 @@
+package br.com.pablotzeliks.todolist.user.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Implementação em memória do {@link UsernameRegistrationBus}, restrita à própria JVM.
+ * <p>
+ * Entrega cada cadastro de forma síncrona a todos os assinantes registrados, sem avisar as
+ * demais instâncias: {@link #isDistributed()} é {@code false}. Serve de base para
+ * implementações distribuídas, que devem repassar as mensagens recebidas de outras
+ * instâncias a {@link #deliver(String)} e sobrescrever {@link #isDistributed()}.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see UsernameRegistrationBus
+ */
+@Component
+public class LocalUsernameRegistrationBus implements UsernameRegistrationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalUsernameRegistrationBus.class);
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String username) {
+
+        deliver(username);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Notifica os assinantes locais.
+     * <p>
+     * A falha de um assinante não impede que os demais sejam notificados.
+     * </p>
+     *
+     * @param username Nome de usuário cadastrado
+     */
+    protected void deliver(String username) {
+
+        for (Consumer<String> listener : listeners) {
+
+            try {
+                listener.accept(username);
+            } catch (RuntimeException e) {
+                log.error("Falha ao processar o cadastro do username {}.", username, e);
+            }
+        }
+    }
+}
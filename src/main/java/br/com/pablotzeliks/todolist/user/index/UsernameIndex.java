@@ -0,0 +1,171 @@
+package br.com.pablotzeliks.todolist.user.index;
+
+import br.com.pablotzeliks.todolist.user.repository.IUserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Índice de pertinência em memória com todos os nomes de usuário cadastrados.
+ * <p>
+ * Baseado em um {@link BloomFilter}, permite responder "este username certamente não
+ * existe" sem ir ao banco de dados. É usado pela autenticação para rejeitar usernames
+ * desconhecidos (comuns em varreduras automatizadas) e pelo cadastro para pular a
+ * checagem de duplicidade quando o username é inédito.
+ * </p>
+ * <p>
+ * O índice é construído quando a aplicação fica pronta, reconstruído periodicamente
+ * ({@code todolist.users.index.refresh}) e atualizado a cada novo cadastro recebido pelo
+ * {@link UsernameRegistrationBus}. Enquanto não estiver pronto, responde sempre "talvez
+ * presente", delegando ao banco de dados.
+ * </p>
+ * <p>
+ * <strong>Múltiplas instâncias:</strong> o índice nunca pode ter falsos negativos, então os
+ * cadastros feitos em outra instância precisam chegar a esta antes de o usuário se
+ * autenticar aqui. Por isso ele só é ligado com um {@link UsernameRegistrationBus}
+ * distribuído ({@link UsernameRegistrationBus#isDistributed()}) ou com
+ * {@code todolist.users.index.single-instance=true}; com o barramento padrão, restrito à
+ * JVM, toda consulta responde "talvez presente" e vai ao banco de dados.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see br.com.pablotzeliks.todolist.security.CredentialVerifier
+ * @see br.com.pablotzeliks.todolist.user.service.UserService
+ * @see UsernameRegistrationBus
+ */
+@Component
+public class UsernameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameIndex.class);
+
+    private final Object lock = new Object();
+
+    @Autowired
+    private IUserRepository repository;
+
+    @Value("${todolist.users.index.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${todolist.users.index.single-instance:false}")
+    private boolean singleInstance = false;
+
+    @Value("${todolist.users.index.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Habilitado e com a garantia de receber os cadastros de todas as instâncias.
+     */
+    private volatile boolean active;
+
+    private volatile BloomFilter filter;
+
+    /**
+     * Usernames adicionados durante uma reconstrução, reaplicados no novo filtro.
+     */
+    private List<String> pendingDuringRebuild;
+
+    /**
+     * Indica se o username pode existir.
+     *
+     * @param username Nome de usuário a consultar
+     * @return {@code false} somente se o username certamente não estiver cadastrado
+     */
+    public boolean mightContain(String username) {
+
+        BloomFilter current = filter;
+
+        return !active || current == null || current.mightContain(username);
+    }
+
+    /**
+     * Assina os cadastros publicados e liga o índice se o barramento os entregar de todas as
+     * instâncias, ou se a implantação tiver uma única instância.
+     *
+     * @param registrationBus Canal dos usernames recém-cadastrados
+     */
+    @Autowired
+    void subscribe(UsernameRegistrationBus registrationBus) {
+
+        registrationBus.subscribe(this::add);
+
+        this.active = enabled && (singleInstance || registrationBus.isDistributed());
+
+        if (enabled && !active) {
+            log.info("Índice de usernames desligado: o barramento de cadastros não alcança as demais instâncias.");
+        }
+    }
+
+    /**
+     * Registra um username recém-cadastrado.
+     *
+     * @param username Nome de usuário persistido
+     */
+    public void add(String username) {
+
+        synchronized (lock) {
+
+            if (filter != null) filter.put(username);
+            if (pendingDuringRebuild != null) pendingDuringRebuild.add(username);
+        }
+    }
+
+    /**
+     * Reconstrói o índice a partir da tabela {@code tb_user}.
+     * <p>
+     * O filtro é redimensionado para o dobro do número atual de usuários, mantendo a
+     * taxa de falso positivo estável conforme a base cresce.
+     * </p>
+     * <p>
+     * A transação não é somente leitura para que, com a réplica habilitada, a leitura vá ao
+     * primário: um usuário recém-cadastrado que a réplica ainda não recebeu ficaria fora do
+     * filtro e seria recusado sem consulta ao banco até a próxima reconstrução.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${todolist.users.index.refresh:5m}", fixedDelayString = "${todolist.users.index.refresh:5m}")
+    @Transactional
+    public void rebuild() {
+
+        if (!active) return;
+
+        synchronized (lock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            long userCount = repository.count();
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(1024, userCount * 2), falsePositiveRate);
+
+            try (Stream<String> usernames = repository.streamAllUsernames()) {
+                usernames.forEach(rebuilt::put);
+            }
+
+            synchronized (lock) {
+
+                pendingDuringRebuild.forEach(rebuilt::put);
+                filter = rebuilt;
+            }
+
+            log.debug("Índice de usernames reconstruído com {} usuários.", userCount);
+
+        } finally {
+
+            synchronized (lock) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.pablotzeliks.todolist.user.index;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal de divulgação dos usernames recém-cadastrados.
+ * <p>
+ * Todo cadastro publica o username, e o {@link UsernameIndex} o inclui no seu filtro. Um
+ * filtro que não conhecesse o usuário responderia "certamente não existe" e a autenticação
+ * o recusaria sem consultar o banco de dados.
+ * </p>
+ * <p>
+ * A implementação padrão, {@link LocalUsernameRegistrationBus}, entrega as mensagens apenas
+ * dentro da própria JVM, e com ela o índice fica desligado, a menos que a implantação
+ * declare uma única instância ({@code todolist.users.index.single-instance=true}). Com várias
+ * instâncias, o índice só é ligado por um bean {@code @Primary} que repasse as mensagens
+ * às demais (por exemplo, via Redis Pub/Sub ou {@code LISTEN/NOTIFY} do PostgreSQL) e
+ * responda {@code true} em {@link #isDistributed()}.
+ * </p>
+ * <p>
+ * <strong>Contrato:</strong> {@link #publish(String)} deve notificar os assinantes locais de
+ * forma síncrona, antes de retornar, para que o usuário consiga se autenticar nesta
+ * instância logo após o cadastro.
+ * </p>
+ *
+ * @author Pablo Tzeliks
+ * @version 3.0.0
+ * @since 3.0.0
+ * @see LocalUsernameRegistrationBus
+ * @see UsernameIndex
+ */
+public interface UsernameRegistrationBus {
+
+    /**
+     * Publica que um username foi cadastrado.
+     *
+     * @param username Nome de usuário persistido
+     */
+    void publish(String username);
+
+    /**
+     * Registra um assinante dos cadastros.
+     *
+     * @param listener Ação executada com cada username recebido
+     */
+    void subscribe(Consumer<String> listener);
+
+    /**
+     * Indica se os cadastros feitos em outras instâncias também chegam aos assinantes desta.
+     *
+     * @return {@code true} somente se o barramento repassar as mensagens entre instâncias
+     */
+    default boolean isDistributed() {
+        return false;
+    }
+}
@@ -1,8 +1,10 @@
 package br.com.pablotzeliks.todolist.user.model;
 
+import br.com.pablotzeliks.todolist.persistence.UuidV7Id;
+import br.com.pablotzeliks.todolist.security.CredentialCacheInvalidationListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
@@ -21,6 +23,10 @@ import java.util.UUID;
  * A anotação {@code @Data} do Lombok gera automaticamente os métodos getters, setters,
  * {@code toString()}, {@code equals()} e {@code hashCode()}.
  * </p>
+ * <p>
+ * Alterações e remoções são observadas pelo {@link CredentialCacheInvalidationListener},
+ * que descarta as credenciais do usuário mantidas em cache pela autenticação.
+ * </p>
  *
  * @author Pablo Tzeliks
  * @version 1.0.0
@@ -29,13 +35,18 @@ import java.util.UUID;
  */
 @Data
 @Entity(name = "tb_user")
+@EntityListeners(CredentialCacheInvalidationListener.class)
 public class User {
 
     /**
-     * Identificador único do usuário, gerado automaticamente como UUID.
+     * Identificador único do usuário, gerado automaticamente como UUID v7.
+     * <p>
+     * Ids ordenados pelo instante de criação mantêm as inserções no fim do índice da
+     * chave primária; ids v4 de registros antigos continuam válidos.
+     * </p>
      */
     @Id
-    @GeneratedValue(generator = "UUID")
+    @UuidV7Id
     private UUID id;
 
     /**
@@ -2,8 +2,10 @@ package br.com.pablotzeliks.todolist.user.repository;
 
 import br.com.pablotzeliks.todolist.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repositório de acesso a dados para a entidade {@link User}.
@@ -32,4 +34,16 @@ public interface IUserRepository extends JpaRepository<User, UUID> {
      * @return o usuário encontrado ou {@code null} se não existir
      */
     User findByUsername(String username);
+
+    /**
+     * Percorre todos os nomes de usuário cadastrados, sem carregar as entidades.
+     * <p>
+     * Utilizado na construção do {@link br.com.pablotzeliks.todolist.user.index.UsernameIndex}.
+     * Deve ser consumido dentro de uma transação e fechado após o uso.
+     * </p>
+     *
+     * @return stream com os usernames de {@code tb_user}
+     */
+    @Query("select u.username from tb_user u")
+    Stream<String> streamAllUsernames();
 }
@@ -1,13 +1,20 @@
 package br.com.pablotzeliks.todolist.user.service;
 
-import at.favre.lib.crypto.bcrypt.BCrypt;
 import br.com.pablotzeliks.todolist.exception.general.ResourceAlreadyExistsException;
+import br.com.pablotzeliks.todolist.security.AccessTokenService;
+import br.com.pablotzeliks.todolist.security.BasicCredentials;
+import br.com.pablotzeliks.todolist.security.CredentialVerifier;
+import br.com.pablotzeliks.todolist.security.PasswordHasher;
+import br.com.pablotzeliks.todolist.user.dto.TokenResponseDTO;
 import br.com.pablotzeliks.todolist.user.dto.UserRequestDTO;
 import br.com.pablotzeliks.todolist.user.dto.UserResponseDTO;
+import br.com.pablotzeliks.todolist.user.index.UsernameIndex;
+import br.com.pablotzeliks.todolist.user.index.UsernameRegistrationBus;
 import br.com.pablotzeliks.todolist.user.mapper.UserMapper;
 import br.com.pablotzeliks.todolist.user.model.User;
 import br.com.pablotzeliks.todolist.user.repository.IUserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -42,24 +49,41 @@ public class UserService {
     @Autowired
     private UserMapper mapper;
 
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private UsernameIndex usernameIndex;
+
+    @Autowired
+    private UsernameRegistrationBus registrationBus;
+
+    @Autowired
+    private CredentialVerifier credentialVerifier;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
     /**
      * Cria um novo usuário no sistema.
      * <p>
-     * Este método valida a unicidade do username, converte o DTO em entidade,
+     * Este método valida a unicidade do username (consultando o banco apenas quando o
+     * {@link UsernameIndex} indica que o username pode existir), converte o DTO em entidade,
      * aplica hash BCrypt na senha (custo 12) e persiste no banco de dados.
-     * A senha nunca é armazenada em texto plano, garantindo segurança.
+     * A senha nunca é armazenada em texto plano, garantindo segurança. O hash é
+     * calculado no pool isolado do {@link PasswordHasher}, fora da thread da requisição.
      * </p>
      *
      * @param requestDTO DTO contendo os dados do usuário a ser criado
      * @return DTO de resposta com os dados do usuário criado (sem a senha)
      * @throws ResourceAlreadyExistsException se o username já estiver em uso
+     * @throws br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException se o pool de hash estiver saturado
      */
     public UserResponseDTO create(UserRequestDTO requestDTO) {
 
-        // Validates that the User does not exist
-        var userAlreadyExists = repository.findByUsername(requestDTO.username());
-
-        if (userAlreadyExists != null) {
+        // Validates that the User does not exist, skipping the query for never seen usernames
+        if (usernameIndex.mightContain(requestDTO.username())
+                && repository.findByUsername(requestDTO.username()) != null) {
 
             throw new ResourceAlreadyExistsException("Username " + requestDTO.username() + " já está em uso.");
         }
@@ -68,15 +92,48 @@ public class UserService {
         User user = mapper.toEntity(requestDTO);
 
         // Hashes the User Password
-        var passwordHashed = BCrypt.withDefaults()
-                .hashToString(12, requestDTO.password().toCharArray());
+        var passwordHashed = passwordHasher.hash(requestDTO.password());
 
         user.setPassword(passwordHashed);
 
-        // Persistency
-        User persistencyUser = repository.save(user);
+        // Persistency, the unique constraint still guards concurrent registrations
+        User persistencyUser;
+
+        try {
+            persistencyUser = repository.save(user);
+        } catch (DataIntegrityViolationException e) {
+
+            throw new ResourceAlreadyExistsException("Username " + requestDTO.username() + " já está em uso.");
+        }
+
+        // Every instance's username index must know the user before they authenticate there
+        registrationBus.publish(persistencyUser.getUsername());
 
         // Entity -> responseDTO
         return mapper.toResponse(persistencyUser);
     }
+
+    /**
+     * Troca credenciais Basic por um token de acesso de curta duração.
+     * <p>
+     * A verificação BCrypt é feita uma única vez aqui. As requisições seguintes
+     * apresentam o token, validado pelo filtro apenas com HMAC e expiração.
+     * </p>
+     *
+     * @param authorizationHeader Valor do cabeçalho {@code Authorization: Basic ...}
+     * @return DTO com o token de acesso e seu tempo de vida
+     * @throws br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException se as credenciais forem inválidas
+     */
+    public TokenResponseDTO issueToken(String authorizationHeader) {
+
+        var credentials = BasicCredentials.parse(authorizationHeader);
+
+        var user = credentialVerifier.verify(credentials.username(), credentials.password());
+
+        return new TokenResponseDTO(
+                accessTokenService.issue(user),
+                "Bearer",
+                accessTokenService.getTtl().toSeconds()
+        );
+    }
 }
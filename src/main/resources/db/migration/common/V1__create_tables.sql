@@ -0,0 +1,34 @@
+-- Tables as previously created by ddl-auto=update. IF NOT EXISTS lets existing databases be baselined at version 0.
+
+CREATE TABLE IF NOT EXISTS tb_user (
+    id          UUID NOT NULL,
+    name        VARCHAR(255),
+    username    VARCHAR(255),
+    password    VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    CONSTRAINT pk_user PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username)
+);
+
+CREATE TABLE IF NOT EXISTS tb_task (
+    id           UUID NOT NULL,
+    user_id      UUID,
+    title        VARCHAR(50),
+    description  VARCHAR(255),
+    start_at     TIMESTAMP(6),
+    end_at       TIMESTAMP(6),
+    priority     VARCHAR(255),
+    created_at   TIMESTAMP(6),
+    CONSTRAINT pk_task PRIMARY KEY (id),
+    CONSTRAINT ck_task_priority CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'URGENT'))
+);
+
+CREATE TABLE IF NOT EXISTS tb_task_stats (
+    user_id  UUID NOT NULL,
+    total    BIGINT NOT NULL,
+    low      BIGINT NOT NULL,
+    medium   BIGINT NOT NULL,
+    high     BIGINT NOT NULL,
+    urgent   BIGINT NOT NULL,
+    CONSTRAINT pk_task_stats PRIMARY KEY (user_id)
+);
@@ -0,0 +1,12 @@
+-- Columns added after the first release: change feed, optimistic concurrency and soft delete.
+-- Adding a nullable column, or one with a constant default, only changes the catalog; existing
+-- rows are filled by the vendor scripts of V2.1.
+
+ALTER TABLE tb_task ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+ALTER TABLE tb_task ADD COLUMN IF NOT EXISTS version BIGINT;
+ALTER TABLE tb_task ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+
+-- Change feed order: each write takes the next value of its user's tb_task_stats row.
+-- Existing rows all start at position 0
+ALTER TABLE tb_task ADD COLUMN IF NOT EXISTS change_seq BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tb_task_stats ADD COLUMN IF NOT EXISTS change_seq BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,8 @@
+-- Leases of the scheduled jobs that must run on a single instance at a time (see JobLeaseService).
+
+CREATE TABLE IF NOT EXISTS tb_job_lease (
+    name         VARCHAR(64)  NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_job_lease PRIMARY KEY (name)
+);
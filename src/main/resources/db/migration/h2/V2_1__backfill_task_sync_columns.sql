@@ -0,0 +1,5 @@
+-- Tasks created before the column have no last change date
+UPDATE tb_task SET updated_at = created_at WHERE updated_at IS NULL;
+
+-- Hibernate treats a null @Version as a transient entity
+UPDATE tb_task SET version = 0 WHERE version IS NULL;
@@ -0,0 +1,14 @@
+-- Every task query is scoped by user_id, so each index leads with it.
+-- H2 (dev and tests) builds them in place; the PostgreSQL script builds them CONCURRENTLY.
+
+-- List by user and keyset pagination in (created_at, id) order
+CREATE INDEX IF NOT EXISTS idx_task_user_created ON tb_task (user_id, created_at, id);
+
+-- Filtered list by priority and due date, stats counts by priority
+CREATE INDEX IF NOT EXISTS idx_task_user_priority_end ON tb_task (user_id, priority, end_at);
+
+-- Overdue and upcoming counts, filters by due date
+CREATE INDEX IF NOT EXISTS idx_task_user_end ON tb_task (user_id, end_at);
+
+-- Change feed in (change_seq, id) order
+CREATE INDEX IF NOT EXISTS idx_task_user_change ON tb_task (user_id, change_seq, id);
@@ -0,0 +1,3 @@
+-- H2 has no partial indexes and would pick an index on deleted_at alone for the
+-- "deleted_at IS NULL" filter of every list query, so lead with user_id
+CREATE INDEX IF NOT EXISTS idx_task_deleted ON tb_task (user_id, deleted_at);
@@ -0,0 +1,27 @@
+-- Fills updated_at (last change date) and version (a null @Version is a transient entity to
+-- Hibernate) of the tasks created before the columns. One UPDATE of the whole table would
+-- hold every row lock until the end and produce a single huge WAL burst, so the rows are
+-- walked in primary key order and each chunk is committed on its own (executeInTransaction=false).
+DO $$
+DECLARE
+    last_id   UUID;
+    chunk_end UUID;
+BEGIN
+    LOOP
+        SELECT max(id) INTO chunk_end
+        FROM (SELECT id FROM tb_task WHERE last_id IS NULL OR id > last_id ORDER BY id LIMIT 10000) chunk;
+
+        EXIT WHEN chunk_end IS NULL;
+
+        UPDATE tb_task
+        SET updated_at = coalesce(updated_at, created_at, localtimestamp),
+            version = coalesce(version, 0)
+        WHERE (last_id IS NULL OR id > last_id)
+          AND id <= chunk_end
+          AND (updated_at IS NULL OR version IS NULL);
+
+        last_id := chunk_end;
+
+        COMMIT;
+    END LOOP;
+END $$;
@@ -0,0 +1,16 @@
+-- Every task query is scoped by user_id, so each index leads with it.
+-- CONCURRENTLY builds without blocking writes to tb_task; it cannot run inside a transaction
+-- (executeInTransaction=false). A build interrupted halfway leaves an INVALID index that
+-- IF NOT EXISTS would skip: drop it before running the migration again.
+
+-- List by user and keyset pagination in (created_at, id) order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_user_created ON tb_task (user_id, created_at, id);
+
+-- Filtered list by priority and due date, stats counts by priority
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_user_priority_end ON tb_task (user_id, priority, end_at);
+
+-- Overdue and upcoming counts, filters by due date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_user_end ON tb_task (user_id, end_at);
+
+-- Change feed in (change_seq, id) order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_user_change ON tb_task (user_id, change_seq, id);
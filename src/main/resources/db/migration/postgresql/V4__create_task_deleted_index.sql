@@ -0,0 +1,3 @@
+-- Background purge of soft-deleted tasks, oldest first. Partial, so active tasks take no space in it.
+-- Built CONCURRENTLY, outside a transaction, like V3
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_deleted ON tb_task (deleted_at) WHERE deleted_at IS NOT NULL;
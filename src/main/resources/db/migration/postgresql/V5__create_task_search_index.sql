@@ -0,0 +1,7 @@
+-- Full-text search (todolist.search.engine=postgres). The expression must match PostgresTaskSearchIndex
+-- exactly for the planner to use it; search_config comes from todolist.search.postgres.config.
+-- Built CONCURRENTLY, outside a transaction, like V3
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_search ON tb_task USING gin (
+    (setweight(to_tsvector('${search_config}', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('${search_config}', coalesce(description, '')), 'B'))
+);
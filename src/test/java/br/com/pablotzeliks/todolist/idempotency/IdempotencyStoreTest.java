@@ -0,0 +1,227 @@
+package br.com.pablotzeliks.todolist.idempotency;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+import br.com.pablotzeliks.todolist.exception.general.IdempotencyKeyReuseException;
+import br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(new ObjectMapper(), 100, Duration.ofHours(1), Duration.ofSeconds(5));
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("A retry with the same key and body should replay the stored response without executing again")
+    void replay_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        Map<String, String> request = Map.of("title", "Task");
+
+        // Act
+        ResponseEntity<Object> first = store.execute("tasks.create", "user", "key-1", request, this::created);
+        ResponseEntity<Object> retry = store.execute("tasks.create", "user", "key-1", request, this::created);
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals(first.getBody(), retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst("Idempotent-Replayed"));
+        assertNull(first.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
+    @Test
+    @DisplayName("The same key should be independent across users and operations")
+    void keyScopedBySubject_Test() {
+
+        // Arrange
+        Map<String, String> request = Map.of("title", "Task");
+
+        // Act
+        store.execute("tasks.create", "user-a", "key-1", request, this::created);
+        store.execute("tasks.create", "user-b", "key-1", request, this::created);
+        store.execute("users.create", "user-a", "key-1", request, this::created);
+
+        // Assert
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    @DisplayName("Reusing a key with a different body should throw IdempotencyKeyReuseException")
+    void keyReuse_Test() {
+
+        // Arrange
+        store.execute("tasks.create", "user", "key-1", Map.of("title", "Task"), this::created);
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyReuseException.class,
+                () -> store.execute("tasks.create", "user", "key-1", Map.of("title", "Other"), this::created));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("A failed execution should not be stored, so the retry executes again")
+    void failureReleasesKey_Test() {
+
+        // Arrange
+        Map<String, String> request = Map.of("title", "Task");
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> store.execute("tasks.create", "user", "key-1", request, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("database down");
+        }));
+
+        ResponseEntity<Object> retry = store.execute("tasks.create", "user", "key-1", request, this::created);
+
+        // Assert
+        assertEquals(2, executions.get());
+        assertNull(retry.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
+    @Test
+    @DisplayName("Concurrent duplicates should wait for the original execution instead of running it again")
+    void concurrentDuplicates_Test() throws Exception {
+
+        // Arrange
+        Map<String, String> request = Map.of("title", "Task");
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<ResponseEntity<Object>> original = clients.submit(() -> store.execute("tasks.create", "user", "key-1", request, () -> {
+                executing.countDown();
+                await(release);
+                return created();
+            }));
+
+            executing.await();
+
+            Future<ResponseEntity<Object>> duplicate = clients.submit(() -> store.execute("tasks.create", "user", "key-1", request, this::created));
+
+            // Act
+            release.countDown();
+
+            // Assert
+            assertEquals(original.get(5, TimeUnit.SECONDS).getBody(), duplicate.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(1, executions.get());
+
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A key still executing should not be released by pressure on the response cache")
+    void inFlightSurvivesEviction_Test() throws Exception {
+
+        // Arrange
+        IdempotencyStore smallStore = new IdempotencyStore(new ObjectMapper(), 1, Duration.ofHours(1), Duration.ofSeconds(5));
+        Map<String, String> request = Map.of("title", "Task");
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<ResponseEntity<Object>> original = clients.submit(() -> smallStore.execute("tasks.create", "user", "key-1", request, () -> {
+                executing.countDown();
+                await(release);
+                return created();
+            }));
+
+            executing.await();
+
+            for (int i = 0; i < 50; i++) {
+                smallStore.execute("tasks.create", "user", "other-" + i, request, this::created);
+            }
+
+            Future<ResponseEntity<Object>> duplicate = clients.submit(() -> smallStore.execute("tasks.create", "user", "key-1", request, this::created));
+
+            // Act
+            release.countDown();
+
+            // Assert
+            assertEquals(original.get(5, TimeUnit.SECONDS).getBody(), duplicate.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals("true", duplicate.get().getHeaders().getFirst("Idempotent-Replayed"));
+            assertEquals(51, executions.get());
+
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A deferred execution whose client timed out should keep the key until the outcome, then store it")
+    void deferredOutcomeKeepsKey_Test() {
+
+        // Arrange
+        IdempotencyStore shortWait = new IdempotencyStore(new ObjectMapper(), 100, Duration.ofHours(1), Duration.ofMillis(100));
+        Map<String, String> request = Map.of("title", "Task");
+        CompletableFuture<ResponseEntity<Object>> write = new CompletableFuture<>();
+
+        // Act
+        assertThrows(ServiceOverloadedException.class, () -> shortWait.execute("tasks.create", "user", "key-1", request,
+                () -> write,
+                outcome -> outcome,
+                outcome -> {
+                    throw new ServiceOverloadedException("timeout", 1);
+                }));
+
+        // Assert: the retry neither runs again nor gets the key while the write is pending
+        assertThrows(ServiceOverloadedException.class,
+                () -> shortWait.execute("tasks.create", "user", "key-1", request, this::created));
+
+        write.complete(created());
+
+        ResponseEntity<Object> retry = shortWait.execute("tasks.create", "user", "key-1", request, this::created);
+
+        assertEquals("task-1", retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst("Idempotent-Replayed"));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("A blank key should be rejected with BusinessRuleException")
+    void blankKey_Test() {
+
+        // Act & Assert
+        assertThrows(BusinessRuleException.class,
+                () -> store.execute("tasks.create", "user", " ", Map.of("title", "Task"), this::created));
+        assertEquals(0, executions.get());
+    }
+
+    private ResponseEntity<Object> created() {
+
+        return ResponseEntity.status(HttpStatus.CREATED).body("task-" + executions.incrementAndGet());
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
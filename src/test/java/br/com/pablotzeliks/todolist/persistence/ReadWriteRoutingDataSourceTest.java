@@ -0,0 +1,186 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import br.com.pablotzeliks.todolist.security.CredentialVerifier;
+import br.com.pablotzeliks.todolist.task.dto.TaskChangesDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.search.TaskSearchIndex;
+import br.com.pablotzeliks.todolist.task.service.TaskService;
+import br.com.pablotzeliks.todolist.user.dto.UserRequestDTO;
+import br.com.pablotzeliks.todolist.user.dto.UserResponseDTO;
+import br.com.pablotzeliks.todolist.user.index.UsernameIndex;
+import br.com.pablotzeliks.todolist.user.service.UserService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two embedded H2 databases stand in for the primary and the replica. The replica is never
+ * written by the application, so a row only present there shows which database a read used.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "todolist.datasource.replica.enabled=true",
+        "todolist.datasource.replica.jdbc-url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "todolist.datasource.replica.username=sa",
+        "todolist.datasource.read-your-writes.window=1h",
+        "todolist.users.index.single-instance=true"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CredentialVerifier credentialVerifier;
+
+    @Autowired
+    private UsernameIndex usernameIndex;
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createReplicaSchema() {
+
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void clearRequest() {
+
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Read-only queries should go to the replica and writes to the primary")
+    void readsFromReplica_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        insertOnReplica(userId, "Replicated");
+
+        // Act
+        taskService.create(request("Written"), userId);
+
+        List<TaskResponseDTO> listed = taskService.list(userId);
+
+        // Assert
+        assertEquals(List.of("Replicated"), listed.stream().map(TaskResponseDTO::title).toList());
+        assertEquals(List.of("Written"),
+                jdbcTemplate.queryForList("select title from tb_task where user_id = ?", String.class, userId));
+    }
+
+    @Test
+    @DisplayName("A user who just wrote should read from the primary, while other users keep reading from the replica")
+    void readYourWrites_Test() {
+
+        // Arrange
+        UUID writer = UUID.randomUUID();
+        UUID reader = UUID.randomUUID();
+
+        insertOnReplica(writer, "Replicated");
+        insertOnReplica(reader, "Replicated");
+
+        taskService.create(request("Written"), writer);
+
+        // Act
+        authenticate(writer);
+        List<TaskResponseDTO> writerTasks = taskService.list(writer);
+
+        authenticate(reader);
+        List<TaskResponseDTO> readerTasks = taskService.list(reader);
+
+        // Assert
+        assertEquals(List.of("Written"), writerTasks.stream().map(TaskResponseDTO::title).toList());
+        assertEquals(List.of("Replicated"), readerTasks.stream().map(TaskResponseDTO::title).toList());
+    }
+
+    @Test
+    @DisplayName("The change feed and the in-memory search index should be loaded from the primary, not from a lagging replica")
+    void lagSensitiveReadsFromPrimary_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        insertOnReplica(userId, "Replicated");
+
+        TaskResponseDTO written = taskService.create(request("Written"), userId);
+
+        // Act
+        TaskChangesDTO changes = taskService.changes(userId, null, 10);
+        List<UUID> found = searchIndex.search(userId, "written replicated", 10);
+
+        // Assert
+        assertEquals(List.of("Written"), changes.changed().stream().map(TaskResponseDTO::title).toList());
+        assertEquals(List.of(written.id()), found);
+    }
+
+    @Test
+    @DisplayName("A user not yet replicated should still be authenticated, falling back to the primary")
+    void credentialsBeforeReplication_Test() {
+
+        // Arrange: the username index is rebuilt after the signup, from the primary
+        UserResponseDTO user = userService.create(new UserRequestDTO("Routing", "routing-" + UUID.randomUUID(), "secret123"));
+        usernameIndex.rebuild();
+
+        // Act
+        var authenticated = credentialVerifier.verify(user.username(), "secret123");
+
+        // Assert
+        assertEquals(user.id(), authenticated.userId());
+        assertEquals(0, replica.queryForObject("select count(*) from tb_user where id = ?", Integer.class, user.id()));
+    }
+
+    private void insertOnReplica(UUID userId, String title) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        replica.update("insert into tb_task (id, user_id, title, start_at, end_at, priority, created_at, updated_at, version)"
+                + " values (?, ?, ?, ?, ?, 'LOW', ?, ?, 0)", UuidV7.generate(), userId, title, now.plusDays(1), now.plusDays(2), now, now);
+    }
+
+    private static TaskRequestDTO request(String title) {
+
+        return new TaskRequestDTO(title, null, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), Priority.LOW);
+    }
+
+    private static void authenticate(UUID userId) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/list");
+        request.setAttribute("userId", userId);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import br.com.pablotzeliks.todolist.task.cache.LocalCacheInvalidationBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesGuardTest {
+
+    private final LocalCacheInvalidationBus invalidationBus = new LocalCacheInvalidationBus();
+
+    @Test
+    @DisplayName("A write should pin the user to the primary only until the window expires")
+    void pinExpires_Test() throws InterruptedException {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(invalidationBus, true, Duration.ofMillis(200), 100);
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        invalidationBus.publish(userId);
+        boolean pinned = guard.isPinned(userId);
+
+        Thread.sleep(400);
+
+        // Assert
+        assertTrue(pinned);
+        assertFalse(guard.isPinned(userId));
+        assertFalse(guard.isPinned(UUID.randomUUID()));
+        assertFalse(guard.isPinned(null));
+    }
+
+    @Test
+    @DisplayName("Without a replica no user should be pinned")
+    void disabled_Test() {
+
+        // Arrange
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(invalidationBus, false, Duration.ofHours(1), 100);
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        invalidationBus.publish(userId);
+        guard.pin(userId);
+
+        // Assert
+        assertFalse(guard.isEnabled());
+        assertFalse(guard.isPinned(userId));
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import br.com.pablotzeliks.todolist.TodolistApplication;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of the schema managed by Flyway migrations against the previous
+ * {@code ddl-auto=update} setup.
+ * <p>
+ * <strong>List latency:</strong> the same {@code tb_task} rows are loaded into a table
+ * without the index set (as the old schema) and into the migrated one, and the query of
+ * {@code GET /tasks/list} is timed for random users on both.
+ * </p>
+ * <p>
+ * <strong>Startup:</strong> the application is booted against the migrated database with
+ * {@code ddl-auto=update} (schema introspected and diffed on every boot) and with Flyway
+ * plus {@code ddl-auto=validate}. Only logged, since on an embedded H2 the difference is
+ * small next to the rest of the context startup.
+ * </p>
+ * Run with {@code mvn test -Pbenchmark}; excluded from the default build.
+ */
+@Tag("benchmark")
+class SchemaMigrationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrationBenchmarkTest.class);
+
+    private static final int USERS = 1_000;
+
+    private static final int TASKS_PER_USER = 100;
+
+    private static final int QUERIES = 200;
+
+    private static final Path DIRECTORY = Paths.get("target", "schema-benchmark");
+
+    private static final String[] LOCATIONS = {"classpath:db/migration/common", "classpath:db/migration/h2"};
+
+    private static final String LIST_SQL = "select id, title, description, start_at, end_at, priority, user_id, created_at,"
+            + " updated_at, version from tb_task where user_id = ? and deleted_at is null";
+
+    @Test
+    @DisplayName("Benchmark: listing a user's tasks is at least 10x faster on the migrated schema, with startup times logged")
+    void schema_Benchmark() throws Exception {
+
+        deleteDirectory();
+
+        // Arrange: same rows in both databases
+        String legacyUrl = url("legacy");
+        String migratedUrl = url("migrated");
+
+        JdbcTemplate legacy = jdbc(legacyUrl);
+        migrate(legacyUrl, "2");
+
+        JdbcTemplate migrated = jdbc(migratedUrl);
+        migrate(migratedUrl, null);
+
+        List<UUID> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(UUID.randomUUID());
+        }
+
+        populate(legacy, users);
+        populate(migrated, users);
+
+        // Act
+        listNanos(legacy, users);
+        long legacyNanos = listNanos(legacy, users);
+
+        listNanos(migrated, users);
+        long migratedNanos = listNanos(migrated, users);
+
+        // First boot pays for class loading, so it is not measured
+        startupMillis(migratedUrl, "validate", true);
+
+        long updateStartup = startupMillis(migratedUrl, "update", false);
+        long validateStartup = startupMillis(migratedUrl, "validate", true);
+
+        legacy.execute("shutdown");
+        migrated.execute("shutdown");
+
+        // Assert
+        log.info("List without the index set: {} us/query", legacyNanos / QUERIES / 1_000);
+        log.info("List on the migrated schema: {} us/query", migratedNanos / QUERIES / 1_000);
+        log.info("Startup with ddl-auto=update: {} ms", updateStartup);
+        log.info("Startup with Flyway and ddl-auto=validate: {} ms", validateStartup);
+
+        assertTrue(migratedNanos * 10 <= legacyNanos, "migrated " + migratedNanos + " ns, legacy " + legacyNanos + " ns");
+    }
+
+    private static String url(String name) {
+
+        // Kept open between connections, otherwise every statement reopens and compacts the file
+        return "jdbc:h2:file:./" + DIRECTORY.resolve(name) + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+    }
+
+    private static JdbcTemplate jdbc(String url) {
+
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+
+    /**
+     * Migrates up to {@code target}, or to the latest version when {@code null}.
+     */
+    private static void migrate(String url, String target) {
+
+        var configuration = Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations(LOCATIONS);
+
+        if (target != null) configuration.target(target);
+
+        configuration.load().migrate();
+    }
+
+    private static void populate(JdbcTemplate jdbcTemplate, List<UUID> users) {
+
+        LocalDateTime now = LocalDateTime.now();
+        String[] priorities = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+        for (UUID userId : users) {
+
+            List<Object[]> rows = new ArrayList<>(TASKS_PER_USER);
+
+            for (int i = 0; i < TASKS_PER_USER; i++) {
+                rows.add(new Object[]{UuidV7.generate(), userId, "Task " + i, now.plusDays(1), now.plusDays(2 + i % 30),
+                        priorities[i % priorities.length], now, now});
+            }
+
+            jdbcTemplate.batchUpdate("insert into tb_task (id, user_id, title, start_at, end_at, priority, created_at, updated_at, version)"
+                    + " values (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        }
+    }
+
+    private static long listNanos(JdbcTemplate jdbcTemplate, List<UUID> users) {
+
+        long begin = System.nanoTime();
+
+        for (int i = 0; i < QUERIES; i++) {
+
+            UUID userId = users.get((i * 7919) % users.size());
+            assertEquals(TASKS_PER_USER, jdbcTemplate.queryForList(LIST_SQL, userId).size());
+        }
+
+        return System.nanoTime() - begin;
+    }
+
+    private static long startupMillis(String url, String ddlAuto, boolean flyway) {
+
+        long begin = System.nanoTime();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodolistApplication.class)
+                .run("--spring.datasource.url=" + url,
+                        "--server.port=0",
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--spring.flyway.enabled=" + flyway,
+                        "--spring.jpa.show-sql=false")) {
+
+            return (System.nanoTime() - begin) / 1_000_000;
+        }
+    }
+
+    @AfterAll
+    static void deleteDirectory() throws IOException {
+
+        if (!Files.exists(DIRECTORY)) return;
+
+        try (Stream<Path> paths = Files.walk(DIRECTORY)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations with {@code ddl-auto=validate}, as in dev and prod: the context
+ * only starts if the migrated schema matches every entity.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema_migration_test;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+
+    private static final String[] LOCATIONS = {"classpath:db/migration/common", "classpath:db/migration/h2"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Migrations should create a schema accepted by Hibernate validation, with the indexes of the hot queries")
+    void migratedSchemaValidates_Test() {
+
+        // Act
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name = 'TB_TASK'", String.class);
+
+        List<String> applied = jdbcTemplate.queryForList(
+                "select \"version\" from \"flyway_schema_history\" where \"type\" = 'SQL' and \"success\" order by \"installed_rank\"",
+                String.class);
+
+        // Assert
+        assertTrue(indexes.containsAll(List.of("IDX_TASK_USER_CREATED", "IDX_TASK_USER_PRIORITY_END",
+                "IDX_TASK_USER_END", "IDX_TASK_USER_CHANGE", "IDX_TASK_DELETED")), indexes.toString());
+        assertEquals(List.of("1", "2", "2.1", "3", "4", "6"), applied);
+    }
+
+    @Test
+    @DisplayName("A database created before the migrations should be baselined and have its rows backfilled")
+    void legacyDatabaseBaselined_Test() {
+
+        // Arrange: the schema ddl-auto=update used to create, before the feed, versions and soft delete
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:schema_migration_legacy;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+
+        legacy.execute("create table tb_task (id uuid not null primary key, user_id uuid, title varchar(50),"
+                + " description varchar(255), start_at timestamp(6), end_at timestamp(6), priority varchar(255),"
+                + " created_at timestamp(6))");
+
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        legacy.update("insert into tb_task (id, user_id, title, priority, created_at) values (?, ?, 'Old', 'LOW', ?)",
+                id, UUID.randomUUID(), createdAt);
+
+        // Act
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(LOCATIONS)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        // Assert
+        Map<String, Object> row = legacy.queryForMap("select updated_at, version, deleted_at, change_seq from tb_task where id = ?", id);
+
+        assertEquals(createdAt, ((Timestamp) row.get("UPDATED_AT")).toLocalDateTime());
+        assertEquals(0L, ((Number) row.get("VERSION")).longValue());
+        assertNull(row.get("DELETED_AT"));
+        assertEquals(0L, ((Number) row.get("CHANGE_SEQ")).longValue());
+        assertEquals(0, legacy.queryForObject("select count(*) from tb_user", Integer.class));
+    }
+}
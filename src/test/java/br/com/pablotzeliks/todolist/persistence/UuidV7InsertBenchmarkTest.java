@@ -0,0 +1,124 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of primary key inserts with random (v4) and time-ordered (v7) UUIDs.
+ * <p>
+ * Each generator fills its own file-backed H2 table with {@code ROWS} rows and then
+ * measures the next {@code MEASURED} inserts. The page cache is kept small on purpose,
+ * so that the index no longer fits in memory, as happens with a large {@code tb_task}.
+ * </p>
+ * Run with {@code mvn test -Pbenchmark}; excluded from the default build.
+ */
+@Tag("benchmark")
+class UuidV7InsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidV7InsertBenchmarkTest.class);
+
+    private static final int ROWS = 2_000_000;
+
+    private static final int MEASURED = 200_000;
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final Path DIRECTORY = Paths.get("target", "uuid-benchmark");
+
+    @Test
+    @DisplayName("Benchmark: UUIDv7 primary keys insert at least 2x faster than UUIDv4 on a table with millions of rows")
+    void insertThroughput_Benchmark() throws Exception {
+
+        double v4 = insertsPerSecond("v4", UUID::randomUUID);
+        double v7 = insertsPerSecond("v7", UuidV7::generate);
+
+        log.info("UUIDv4: {} inserts/s", Math.round(v4));
+        log.info("UUIDv7: {} inserts/s", Math.round(v7));
+
+        assertTrue(v7 >= 2 * v4, "v7 " + v7 + " inserts/s, v4 " + v4 + " inserts/s");
+    }
+
+    private double insertsPerSecond(String name, Supplier<UUID> ids) throws SQLException, IOException {
+
+        deleteDirectory();
+
+        String url = "jdbc:h2:file:./" + DIRECTORY.resolve(name) + ";CACHE_SIZE=8192";
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+
+            connection.setAutoCommit(false);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE bench_task (id UUID PRIMARY KEY, title VARCHAR(50))");
+            }
+
+            insert(connection, ids, ROWS);
+
+            long start = System.nanoTime();
+            insert(connection, ids, MEASURED);
+            long elapsed = System.nanoTime() - start;
+
+            try (Statement statement = connection.createStatement();
+                 var resultSet = statement.executeQuery("SELECT COUNT(*) FROM bench_task")) {
+
+                resultSet.next();
+                assertEquals(ROWS + MEASURED, resultSet.getLong(1));
+            }
+
+            return MEASURED * 1_000_000_000.0 / elapsed;
+
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    private static void insert(Connection connection, Supplier<UUID> ids, int rows) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO bench_task (id, title) VALUES (?, ?)")) {
+
+            for (int i = 1; i <= rows; i++) {
+
+                statement.setObject(1, ids.get());
+                statement.setString(2, "Task " + i);
+                statement.addBatch();
+
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static void deleteDirectory() throws IOException {
+
+        if (!Files.exists(DIRECTORY)) return;
+
+        try (Stream<Path> paths = Files.walk(DIRECTORY)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.pablotzeliks.todolist.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("generate should produce version 7, RFC 4122 variant UUIDs carrying the creation time")
+    void generateVersionAndTimestamp_Test() {
+
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidV7.generate();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7.timestamp(uuid) >= before);
+        assertTrue(UuidV7.timestamp(uuid) <= System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("generate should produce unique ids in strictly increasing unsigned order, as the database compares them")
+    void generateMonotonic_Test() {
+
+        // Arrange
+        List<UUID> ids = new ArrayList<>();
+
+        // Act: far more than 4096 ids, so many share the same millisecond
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        // Assert
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0, "out of order at " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("timestamp should reject UUIDs that are not version 7")
+    void timestampRejectsV4_Test() {
+
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestamp(UUID.randomUUID()));
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
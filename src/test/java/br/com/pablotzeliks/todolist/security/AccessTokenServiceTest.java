@@ -0,0 +1,64 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenServiceTest {
+
+    private final Instant now = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final AccessTokenService tokenService =
+            new AccessTokenService("test-secret", Duration.ofMinutes(15), Clock.fixed(now, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Should accept a token it issued and return the owner userId")
+    void verifyIssuedToken_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        String token = tokenService.issue(new AuthenticatedUser(userId, "pablo"));
+
+        // Assert
+        assertEquals(userId, tokenService.verify(token));
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose payload was tampered with")
+    void verifyTamperedToken_Test() {
+
+        // Arrange
+        String token = tokenService.issue(new AuthenticatedUser(UUID.randomUUID(), "pablo"));
+        String otherToken = tokenService.issue(new AuthenticatedUser(UUID.randomUUID(), "maria"));
+
+        String forged = otherToken.substring(0, otherToken.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        // Act & Assert
+        assertThrows(UserNotAuthorizedException.class, () -> tokenService.verify(forged));
+        assertThrows(UserNotAuthorizedException.class, () -> tokenService.verify("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("Should reject a token after its expiration")
+    void verifyExpiredToken_Test() {
+
+        // Arrange
+        String token = tokenService.issue(new AuthenticatedUser(UUID.randomUUID(), "pablo"));
+
+        AccessTokenService later = new AccessTokenService("test-secret", Duration.ofMinutes(15),
+                Clock.fixed(now.plus(Duration.ofMinutes(16)), ZoneOffset.UTC));
+
+        // Act & Assert
+        assertThrows(UserNotAuthorizedException.class, () -> later.verify(token));
+    }
+}
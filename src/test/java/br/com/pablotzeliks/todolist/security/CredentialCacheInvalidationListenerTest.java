@@ -0,0 +1,82 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.user.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialCacheInvalidationListenerTest {
+
+    private static final String HEADER = "Basic cGFibG86MTIzNDU2";
+
+    @Spy
+    private CredentialCache credentialCache = new CredentialCache(100, Duration.ofMinutes(5));
+
+    @InjectMocks
+    private CredentialCacheInvalidationListener listener;
+
+    @AfterEach
+    void clearSynchronization() {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Inside a transaction, cached credentials should only be dropped after the commit")
+    void invalidateAfterCommit_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        User user = new User();
+        user.setId(UUID.randomUUID());
+
+        credentialCache.put(HEADER, new AuthenticatedUser(user.getId(), "pablo"), credentialCache.generation());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        listener.onUserChanged(user);
+        AuthenticatedUser beforeCommit = credentialCache.get(HEADER);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertNotNull(beforeCommit);
+        assertNull(credentialCache.get(HEADER));
+    }
+
+    @Test
+    @DisplayName("A rolled back change should keep the cached credentials")
+    void keepOnRollback_Test() {
+
+        // Arrange
+        User user = new User();
+        user.setId(UUID.randomUUID());
+
+        credentialCache.put(HEADER, new AuthenticatedUser(user.getId(), "pablo"), credentialCache.generation());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        listener.onUserChanged(user);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertNotNull(credentialCache.get(HEADER));
+    }
+}
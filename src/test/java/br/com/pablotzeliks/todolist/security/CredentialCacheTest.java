@@ -0,0 +1,86 @@
+package br.com.pablotzeliks.todolist.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialCacheTest {
+
+    private final CredentialCache cache = new CredentialCache(100, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("Should return the cached user only for the exact same Authorization header")
+    void getCachedUser_Test() {
+
+        // Arrange
+        AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), "pablo");
+
+        cache.put("Basic cGFibG86MTIzNDU2", user, cache.generation());
+
+        // Act & Assert
+        assertEquals(user, cache.get("Basic cGFibG86MTIzNDU2"));
+        assertNull(cache.get("Basic cGFibG86NjU0MzIx"), "A different password must not hit the cache");
+    }
+
+    @Test
+    @DisplayName("Should drop every entry of a user when its credentials change")
+    void invalidateUser_Test() {
+
+        // Arrange
+        AuthenticatedUser pablo = new AuthenticatedUser(UUID.randomUUID(), "pablo");
+        AuthenticatedUser maria = new AuthenticatedUser(UUID.randomUUID(), "maria");
+
+        cache.put("Basic cGFibG86MTIzNDU2", pablo, cache.generation());
+        cache.put("Basic bWFyaWE6MTIzNDU2", maria, cache.generation());
+
+        // Act
+        cache.invalidateUser(pablo.userId());
+
+        // Assert
+        assertNull(cache.get("Basic cGFibG86MTIzNDU2"));
+        assertEquals(maria, cache.get("Basic bWFyaWE6MTIzNDU2"));
+    }
+
+    @Test
+    @DisplayName("Should drop a verification that started before its user was invalidated, keeping the other users' ones")
+    void dropStaleVerification_Test() {
+
+        // Arrange
+        AuthenticatedUser pablo = new AuthenticatedUser(UUID.randomUUID(), "pablo");
+        AuthenticatedUser maria = new AuthenticatedUser(UUID.randomUUID(), "maria");
+
+        long verifiedAt = cache.generation();
+
+        // Act: the password change commits while both verifications are in flight
+        cache.invalidateUser(pablo.userId());
+
+        cache.put("Basic cGFibG86MTIzNDU2", pablo, verifiedAt);
+        cache.put("Basic bWFyaWE6MTIzNDU2", maria, verifiedAt);
+
+        // Assert
+        assertNull(cache.get("Basic cGFibG86MTIzNDU2"));
+        assertEquals(maria, cache.get("Basic bWFyaWE6MTIzNDU2"));
+
+        cache.put("Basic cGFibG86MTIzNDU2", pablo, cache.generation());
+        assertEquals(pablo, cache.get("Basic cGFibG86MTIzNDU2"), "A verification started after the change is cached");
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the configured TTL")
+    void expireAfterTtl_Test() throws InterruptedException {
+
+        // Arrange
+        CredentialCache shortLivedCache = new CredentialCache(100, Duration.ofMillis(50));
+        shortLivedCache.put("Basic cGFibG86MTIzNDU2", new AuthenticatedUser(UUID.randomUUID(), "pablo"), shortLivedCache.generation());
+
+        // Act
+        Thread.sleep(100);
+
+        // Assert
+        assertNull(shortLivedCache.get("Basic cGFibG86MTIzNDU2"));
+    }
+}
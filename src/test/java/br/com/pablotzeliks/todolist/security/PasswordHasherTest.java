@@ -0,0 +1,65 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final PasswordHasher hasher = new PasswordHasher(1, 1, Duration.ofSeconds(30));
+
+    @AfterEach
+    void tearDown() {
+        hasher.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash a password and verify it on the isolated pool")
+    void hashAndVerify_Test() {
+
+        // Act
+        String hash = hasher.hash("123456");
+
+        // Assert
+        assertTrue(hash.startsWith("$2a$12$"));
+        assertTrue(hasher.verify("123456", hash));
+        assertFalse(hasher.verify("654321", hash));
+    }
+
+    @Test
+    @DisplayName("Should reject immediately with ServiceOverloadedException when the queue is full")
+    void rejectWhenSaturated_Test() throws Exception {
+
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        // Occupies the single worker thread
+        CompletableFuture<Object> busy = CompletableFuture.supplyAsync(() -> hasher.run(() -> {
+            running.countDown();
+            release.await();
+            return null;
+        }));
+        running.await();
+
+        // Occupies the single queue slot
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> hasher.run(() -> null));
+        Thread.sleep(100);
+
+        // Act & Assert
+        try {
+            assertThrows(ServiceOverloadedException.class, () -> hasher.hash("123456"));
+        } finally {
+            release.countDown();
+            busy.get();
+            queued.get();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.pablotzeliks.todolist.security;
+
+import br.com.pablotzeliks.todolist.exception.general.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class RateLimitFilterTest {
+
+    private final HandlerExceptionResolver resolver = mock(HandlerExceptionResolver.class);
+
+    private final AccessTokenService accessTokenService = new AccessTokenService("secret", Duration.ofMinutes(5));
+
+    private final CredentialCache credentialCache = new CredentialCache(100, Duration.ofMinutes(5));
+
+    private final AuthenticatedUser pablo = new AuthenticatedUser(UUID.randomUUID(), "pablo");
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("todolist.rate-limit.ip.capacity", "100")
+                .withProperty("todolist.rate-limit.endpoints.tasks-list.capacity", "2")
+                .withProperty("todolist.rate-limit.endpoints.tasks-list.refill-per-second", "0.001");
+
+        filter = new RateLimitFilter(environment, accessTokenService, credentialCache, resolver);
+
+        // Credentials already verified by FilterTaskAuth
+        credentialCache.put("Basic cGFibG86MTIzNDU2", pablo, credentialCache.generation());
+        credentialCache.put("Basic bWFyaWE6MTIzNDU2", new AuthenticatedUser(UUID.randomUUID(), "maria"), credentialCache.generation());
+    }
+
+    @Test
+    @DisplayName("Should reject the user with 429 once its endpoint bucket is empty, without affecting other users")
+    void perUserLimit_Test() throws Exception {
+
+        // Act
+        MockHttpServletResponse first = perform("Basic cGFibG86MTIzNDU2");
+        MockHttpServletResponse second = perform("Basic cGFibG86MTIzNDU2");
+        MockHttpServletResponse third = perform("Basic cGFibG86MTIzNDU2");
+        MockHttpServletResponse otherUser = perform("Basic bWFyaWE6MTIzNDU2");
+
+        // Assert
+        verify(resolver, times(1)).resolveException(any(), eq(third), isNull(), any(RateLimitExceededException.class));
+        verify(resolver, never()).resolveException(any(), eq(first), any(), any());
+        verify(resolver, never()).resolveException(any(), eq(second), any(), any());
+        verify(resolver, never()).resolveException(any(), eq(otherUser), any(), any());
+    }
+
+    @Test
+    @DisplayName("Unverified Basic credentials with a user's username should not drain that user's bucket")
+    void spoofedUsername_Test() throws Exception {
+
+        // Arrange: "pablo:wrong", never verified
+        for (int i = 0; i < 5; i++) {
+            perform("Basic cGFibG86d3Jvbmc=");
+        }
+
+        // Act
+        MockHttpServletResponse victim = perform("Basic cGFibG86MTIzNDU2");
+
+        // Assert
+        verify(resolver, never()).resolveException(any(), eq(victim), any(), any());
+    }
+
+    @Test
+    @DisplayName("Basic and Bearer requests of the same user should share one bucket")
+    void sameBucketForBasicAndBearer_Test() throws Exception {
+
+        // Arrange
+        String bearer = "Bearer " + accessTokenService.issue(pablo);
+
+        // Act
+        perform("Basic cGFibG86MTIzNDU2");
+        perform(bearer);
+        MockHttpServletResponse third = perform(bearer);
+
+        // Assert
+        verify(resolver, times(1)).resolveException(any(), eq(third), isNull(), any(RateLimitExceededException.class));
+    }
+
+    @Test
+    @DisplayName("Batch endpoints should have their own buckets, separate from each other and from the default one")
+    void batchEndpointsOwnBuckets_Test() throws Exception {
+
+        // Arrange: default limits, 2 batches per user
+        String authorization = "Basic cGFibG86MTIzNDU2";
+
+        perform("POST", "/tasks/batch", authorization);
+        perform("POST", "/tasks/batch", authorization);
+
+        // Act
+        MockHttpServletResponse thirdBatch = perform("POST", "/tasks/batch", authorization);
+        MockHttpServletResponse batchDelete = perform("POST", "/tasks/batch/delete", authorization);
+        MockHttpServletResponse single = perform("DELETE", "/tasks/" + UUID.randomUUID(), authorization);
+
+        // Assert
+        verify(resolver, times(1)).resolveException(any(), eq(thirdBatch), isNull(), any(RateLimitExceededException.class));
+        verify(resolver, never()).resolveException(any(), eq(batchDelete), any(), any());
+        verify(resolver, never()).resolveException(any(), eq(single), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should ignore paths outside /tasks/ and /users/")
+    void ignoresOtherPaths_Test() {
+
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+        request.setServletPath("/swagger-ui/index.html");
+
+        // Act & Assert
+        assertTrue(filter.shouldNotFilter(request));
+    }
+
+    private MockHttpServletResponse perform(String authorization) throws Exception {
+
+        return perform("GET", "/tasks/list", authorization);
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String authorization) throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", authorization);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        return response;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.pablotzeliks.todolist.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("A timestamp older than the last refill should not remove tokens from the bucket")
+    void clockBehindLastRefill_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange: 2 tokens, 1 token per second
+        TokenBucket bucket = new TokenBucket(2, 1, 10_000_000_000L);
+
+        // Act: a thread that read the clock 5 s earlier arrives late
+        long first = bucket.tryConsume(5_000_000_000L);
+        long second = bucket.tryConsume(10_000_000_000L);
+        long third = bucket.tryConsume(10_000_000_000L);
+
+        // Assert
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertTrue(third > 0);
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.pablotzeliks.todolist.task.agenda;
+
+import br.com.pablotzeliks.todolist.task.cache.LocalCacheInvalidationBus;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of the interval-tree agenda against the naive two-sided range query.
+ * Run with {@code mvn test -Pbenchmark}; excluded from the default build.
+ * The table size defaults to one million tasks and can be changed with {@code -Dbenchmark.tasks}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import({TaskAgendaIndex.class, TaskListVersions.class, LocalCacheInvalidationBus.class})
+class TaskAgendaBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskAgendaBenchmarkTest.class);
+
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", 1_000_000);
+
+    private static final int BATCH = 10_000;
+
+    private static final int ROUNDS = 50;
+
+    private static final String NAIVE_QUERY = "select " + ITaskRepository.RESPONSE_PROJECTION
+            + " from tb_task t where t.userId = :userId and t.startAt < :to and t.endAt > :from order by t.startAt, t.id";
+
+    @Autowired
+    private ITaskRepository repository;
+
+    @Autowired
+    private TaskAgendaIndex agendaIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @BeforeEach
+    void seed() {
+
+        Random random = new Random(7);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+
+        for (int i = 0; i < TASKS; i++) {
+
+            // Tasks spread over ten years, mostly a few hours long
+            LocalDateTime start = base.plusMinutes(random.nextInt(60 * 24 * 3650));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(random.nextInt(20) == 0 ? 24 * 60 : 8));
+
+            rows.add(new Object[]{
+                    UUID.randomUUID(), userId, "Task " + i,
+                    Timestamp.valueOf(start), Timestamp.valueOf(end), "MEDIUM",
+                    Timestamp.valueOf(base.plusNanos(i * 1000L))
+            });
+
+            if (rows.size() == BATCH) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+
+        insert(rows);
+    }
+
+    @Test
+    @DisplayName("Benchmark: interval tree agenda against startAt < to and endAt > from on the database")
+    void agenda_Benchmark() {
+
+        Random random = new Random(11);
+
+        long buildStart = System.nanoTime();
+        agendaIndex.overlapping(userId, base, base.plusDays(1));
+        long buildNanos = System.nanoTime() - buildStart;
+
+        long naiveNanos = 0;
+        long treeNanos = 0;
+        long rows = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+
+            LocalDateTime from = base.plusDays(random.nextInt(3650 - 7));
+            LocalDateTime to = from.plusDays(7);
+
+            long start = System.nanoTime();
+            List<TaskResponseDTO> naive = entityManager.createQuery(NAIVE_QUERY, TaskResponseDTO.class)
+                    .setParameter("userId", userId)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .getResultList();
+            naiveNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<UUID> ids = agendaIndex.overlapping(userId, from, to);
+            List<TaskResponseDTO> indexed = repository.findResponsesByUserIdAndIdIn(userId, ids);
+            treeNanos += System.nanoTime() - start;
+
+            // Same tasks; ties on startAt may differ since the database and UUID.compareTo order ids differently
+            assertEquals(naive.stream().map(TaskResponseDTO::id).collect(Collectors.toSet()), new HashSet<>(ids));
+            assertEquals(naive.size(), indexed.size());
+
+            rows += naive.size();
+        }
+
+        log.info("Tasks: {}, avg {} rows per 7-day window", TASKS, rows / ROUNDS);
+        log.info("Tree build: {} ms", buildNanos / 1_000_000.0);
+        log.info("Naive range query: {} ms/query", naiveNanos / ROUNDS / 1_000_000.0);
+        log.info("Interval tree:     {} ms/query", treeNanos / ROUNDS / 1_000_000.0);
+
+        assertTrue(treeNanos < naiveNanos);
+    }
+
+    private void insert(List<Object[]> rows) {
+
+        jdbcTemplate.batchUpdate(
+                "insert into tb_task (id, user_id, title, start_at, end_at, priority, created_at) values (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.pablotzeliks.todolist.task.agenda;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("Overlap queries should match a brute-force scan, in start order, across inserts, updates and removals")
+    void overlappingMatchesBruteForce_Test() {
+
+        // Arrange
+        Random random = new Random(42);
+        TaskIntervalTree tree = new TaskIntervalTree();
+        Map<UUID, LocalDateTime[]> periods = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+
+            UUID id = UUID.randomUUID();
+            LocalDateTime[] period = randomPeriod(random);
+
+            ids.add(id);
+            periods.put(id, period);
+            tree.put(id, period[0], period[1]);
+        }
+
+        // Moves some tasks and removes others
+        for (int i = 0; i < 500; i++) {
+
+            UUID id = ids.get(random.nextInt(ids.size()));
+
+            if (i % 2 == 0) {
+                LocalDateTime[] period = randomPeriod(random);
+                periods.put(id, period);
+                tree.put(id, period[0], period[1]);
+            } else {
+                periods.remove(id);
+                tree.remove(id);
+            }
+        }
+
+        for (int query = 0; query < 200; query++) {
+
+            LocalDateTime from = BASE.plusHours(random.nextInt(24 * 365));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(24 * 30));
+
+            List<UUID> expected = periods.entrySet().stream()
+                    .filter(entry -> entry.getValue()[0].isBefore(to) && entry.getValue()[1].isAfter(from))
+                    .sorted(Comparator.<Map.Entry<UUID, LocalDateTime[]>, LocalDateTime>comparing(entry -> entry.getValue()[0])
+                            .thenComparing(Map.Entry::getKey))
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            // Act
+            List<UUID> found = tree.overlapping(from, to);
+
+            // Assert
+            assertEquals(expected, found);
+        }
+
+        assertEquals(periods.size(), tree.size());
+    }
+
+    @Test
+    @DisplayName("A Task touching the window only at its edges should not overlap it")
+    void windowEdgesAreExclusive_Test() {
+
+        // Arrange
+        TaskIntervalTree tree = new TaskIntervalTree();
+        UUID endsAtFrom = UUID.randomUUID();
+        UUID startsAtTo = UUID.randomUUID();
+        UUID inside = UUID.randomUUID();
+
+        tree.put(endsAtFrom, BASE.minusDays(1), BASE);
+        tree.put(startsAtTo, BASE.plusDays(1), BASE.plusDays(2));
+        tree.put(inside, BASE.minusDays(5), BASE.plusDays(5));
+
+        // Act
+        List<UUID> found = tree.overlapping(BASE, BASE.plusDays(1));
+
+        // Assert
+        assertEquals(List.of(inside), found);
+    }
+
+    private static LocalDateTime[] randomPeriod(Random random) {
+
+        LocalDateTime start = BASE.plusHours(random.nextInt(24 * 365));
+
+        // Mostly short tasks with a few long-running ones, which the max-end pruning must not lose
+        int hours = random.nextInt(10) == 0 ? 1 + random.nextInt(24 * 120) : 1 + random.nextInt(48);
+
+        return new LocalDateTime[]{start, start.plusHours(hours)};
+    }
+}
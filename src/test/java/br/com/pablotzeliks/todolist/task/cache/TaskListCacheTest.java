@@ -0,0 +1,107 @@
+package br.com.pablotzeliks.todolist.task.cache;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskListCacheTest {
+
+    private final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+
+    private final TaskListVersions versions = new TaskListVersions(bus, 100, Duration.ofHours(1));
+
+    private final TaskListCache cache = new TaskListCache(true, 100, 3, Duration.ofMinutes(5), bus);
+
+    @Test
+    @DisplayName("Should serve the cached list only while the user's list version is unchanged")
+    void getOnlyCurrentVersion_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        List<TaskResponseDTO> tasks = List.of(createResponse(userId));
+
+        cache.put(userId, versions.current(userId), tasks);
+
+        // Act & Assert
+        assertEquals(tasks, cache.get(userId, versions.current(userId)));
+
+        bus.publish(userId);
+
+        assertNull(cache.get(userId, versions.current(userId)), "A write must make the cached list unreachable");
+    }
+
+    @Test
+    @DisplayName("Should not let a slow reader overwrite a list cached from a newer version")
+    void putKeepsNewestVersion_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        long staleVersion = versions.current(userId);
+
+        bus.publish(userId);
+        long currentVersion = versions.current(userId);
+
+        List<TaskResponseDTO> fresh = List.of(createResponse(userId), createResponse(userId));
+        List<TaskResponseDTO> stale = List.of(createResponse(userId));
+
+        // Act
+        cache.put(userId, currentVersion, fresh);
+        cache.put(userId, staleVersion, stale);
+
+        // Assert
+        assertEquals(fresh, cache.get(userId, currentVersion));
+    }
+
+    @Test
+    @DisplayName("Should only drop the entry of the user whose Tasks changed")
+    void invalidateOnlyAffectedUser_Test() {
+
+        // Arrange
+        UUID pablo = UUID.randomUUID();
+        UUID maria = UUID.randomUUID();
+
+        cache.put(pablo, 0L, List.of(createResponse(pablo)));
+        cache.put(maria, 0L, List.of(createResponse(maria)));
+
+        // Act
+        bus.publish(pablo);
+
+        // Assert
+        assertNull(cache.get(pablo, 0L));
+        assertNotNull(cache.get(maria, 0L));
+    }
+
+    @Test
+    @DisplayName("Should not cache a list above max-list-size")
+    void skipOversizedList_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        long version = versions.current(userId);
+
+        List<TaskResponseDTO> oversized = List.of(createResponse(userId), createResponse(userId),
+                createResponse(userId), createResponse(userId));
+
+        // Act
+        cache.put(userId, version, oversized);
+
+        // Assert
+        assertNull(cache.get(userId, version));
+    }
+
+    private TaskResponseDTO createResponse(UUID userId) {
+
+        return new TaskResponseDTO(UUID.randomUUID(), "Task", "Description",
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                Priority.MEDIUM, userId, LocalDateTime.now(), null, 0L);
+    }
+}
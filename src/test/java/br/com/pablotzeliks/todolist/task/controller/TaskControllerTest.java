@@ -1,10 +1,28 @@
 package br.com.pablotzeliks.todolist.task.controller;
 
+import br.com.pablotzeliks.todolist.exception.dto.ValidationErrorDTO;
+import br.com.pablotzeliks.todolist.exception.general.PreconditionFailedException;
+import br.com.pablotzeliks.todolist.idempotency.IdempotencyStore;
+import br.com.pablotzeliks.todolist.security.AccessTokenService;
+import br.com.pablotzeliks.todolist.security.CredentialCache;
+import br.com.pablotzeliks.todolist.security.CredentialVerifier;
+import br.com.pablotzeliks.todolist.task.cache.LocalCacheInvalidationBus;
+import br.com.pablotzeliks.todolist.task.dto.TaskBatchItemDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskBatchResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskChangesDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskDeleteResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskPageDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskStatsDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
+import br.com.pablotzeliks.todolist.task.ingest.PendingTask;
+import br.com.pablotzeliks.todolist.task.ingest.TaskWriteBehindQueue;
 import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.repository.TaskFilter;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
 import br.com.pablotzeliks.todolist.task.service.TaskService;
+import br.com.pablotzeliks.todolist.task.service.TaskStatsService;
 import br.com.pablotzeliks.todolist.user.repository.IUserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -12,21 +30,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TaskController.class)
+@Import({TaskListVersions.class, LocalCacheInvalidationBus.class, IdempotencyStore.class})
 class TaskControllerTest {
 
     @Autowired
@@ -35,12 +60,30 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskStatsService taskStatsService;
+
+    @MockBean
+    private TaskWriteBehindQueue writeBehindQueue;
+
     @MockBean
     private IUserRepository userRepository;
 
+    @MockBean
+    private CredentialCache credentialCache;
+
+    @MockBean
+    private CredentialVerifier credentialVerifier;
+
+    @MockBean
+    private AccessTokenService accessTokenService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskListVersions taskListVersions;
+
     @Test
     @DisplayName("POST /tasks/create - Should return 201 Created when creating a new valid Task successfully.")
     void createTaskSuccesfully_Test() throws Exception {
@@ -64,6 +107,157 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value(response.title()));
     }
 
+    @Test
+    @DisplayName("POST /tasks/create - A retry with the same Idempotency-Key should be a replay, and another body with it a 422")
+    void createTaskIdempotent_Test() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        var userId = UUID.randomUUID();
+        TaskRequestDTO request = createValidRequest();
+        TaskResponseDTO response = createResponse(UUID.randomUUID(), userId);
+
+        when(taskService.create(any(TaskRequestDTO.class), eq(userId))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Idempotency-Key", "create-1")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Idempotency-Key", "create-1")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(response.id().toString()));
+
+        TaskRequestDTO other = new TaskRequestDTO("Other", null, request.startAt(), request.endAt(), Priority.LOW);
+
+        mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(other))
+                        .header("Idempotency-Key", "create-1")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(taskService, times(1)).create(any(TaskRequestDTO.class), eq(userId));
+    }
+
+    @Test
+    @DisplayName("POST /tasks/create - Should return 202 Accepted with the pre-assigned id in write-behind mode with Prefer: respond-async")
+    void createTaskWriteBehind_Return202() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        var userId = UUID.randomUUID();
+        var taskId = UUID.randomUUID();
+
+        when(writeBehindQueue.isEnabled()).thenReturn(true);
+        when(taskService.enqueue(any(TaskRequestDTO.class), eq(userId))).thenReturn(new PendingTask(taskId, new CompletableFuture<>()));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createValidRequest()))
+                        .header("Prefer", "respond-async")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.id").value(taskId.toString()));
+
+        verify(taskService, never()).create(any(), any());
+        verify(writeBehindQueue, never()).await(any());
+    }
+
+    @Test
+    @DisplayName("POST /tasks/create - A 202 should only be replayed after its Task is written, a failed write releases the Idempotency-Key")
+    void createTaskWriteBehindIdempotent_Test() throws Exception {
+
+        // Arrange
+        var userId = UUID.randomUUID();
+        var failedId = UUID.randomUUID();
+        var retriedId = UUID.randomUUID();
+
+        CompletableFuture<TaskResponseDTO> failedWrite = new CompletableFuture<>();
+        CompletableFuture<TaskResponseDTO> retriedWrite = new CompletableFuture<>();
+
+        when(writeBehindQueue.isEnabled()).thenReturn(true);
+        when(taskService.enqueue(any(TaskRequestDTO.class), eq(userId)))
+                .thenReturn(new PendingTask(failedId, failedWrite), new PendingTask(retriedId, retriedWrite));
+
+        String body = objectMapper.writeValueAsString(createValidRequest());
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .header("Prefer", "respond-async")
+                        .header("Idempotency-Key", "async-1")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(failedId.toString()));
+
+        failedWrite.completeExceptionally(new IllegalStateException("constraint violation"));
+
+        mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .header("Prefer", "respond-async")
+                        .header("Idempotency-Key", "async-1")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isAccepted())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.id").value(retriedId.toString()));
+
+        retriedWrite.complete(createResponse(retriedId, userId));
+
+        mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .header("Prefer", "respond-async")
+                        .header("Idempotency-Key", "async-1")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(retriedId.toString()));
+
+        verify(taskService, times(2)).enqueue(any(TaskRequestDTO.class), eq(userId));
+    }
+
+    @Test
+    @DisplayName("POST /tasks/batch - Should return 200 OK with one result per item")
+    void createBatch_Return200() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        var userId = UUID.randomUUID();
+        TaskResponseDTO response = createResponse(UUID.randomUUID(), userId);
+
+        when(taskService.createBatch(anyList(), eq(userId))).thenReturn(new TaskBatchResponseDTO(1, 1, List.of(
+                new TaskBatchItemDTO(0, response, null),
+                new TaskBatchItemDTO(1, null, List.of(new ValidationErrorDTO("title", "You must insert a title")))
+        )));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createValidRequest(), createValidRequest())))
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[0].task.id").value(response.id().toString()))
+                .andExpect(jsonPath("$.items[1].errors[0].field").value("title"));
+    }
+
     @Test
     @DisplayName("POST /tasks/create - Should return 400 Bad Request when fields are invalid")
     void createTask_Return400_WhenInvalid() throws Exception {
@@ -121,6 +315,207 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    @DisplayName("GET /tasks/list - Should return 304 Not Modified without querying when the ETag still matches")
+    void listTasks_Return304() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        when(taskService.list(userId)).thenReturn(List.of(createResponse(UUID.randomUUID(), userId)));
+
+        String eTag = mockMvc.perform(get("/tasks/list")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/list")
+                        .header("If-None-Match", eTag)
+                        .requestAttr("userId", userId))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        verify(taskService, times(1)).list(userId);
+
+        // A write bumps the version, so the old ETag no longer matches
+        taskListVersions.bump(userId);
+
+        mockMvc.perform(get("/tasks/list")
+                        .header("If-None-Match", eTag)
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk());
+
+        verify(taskService, times(2)).list(userId);
+    }
+
+    @Test
+    @DisplayName("GET /tasks/list?limit= - Should return 200 OK and a page with the next cursor")
+    void listTasksPage_Return200() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskResponseDTO task1 = createResponse(UUID.randomUUID(), userId);
+
+        when(taskService.listPage(userId, 1, null)).thenReturn(new TaskPageDTO(List.of(task1), "next-cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/list")
+                        .param("limit", "1")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(task1.id().toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/list?priority=&endTo=&sort= - Should pass the filter down to the service")
+    void listTasksFiltered_Return200() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskResponseDTO task1 = createResponse(UUID.randomUUID(), userId);
+
+        TaskFilter expected = TaskFilter.of(List.of(Priority.HIGH, Priority.URGENT), null, null,
+                null, LocalDateTime.of(2030, 1, 1, 0, 0), "endAt", "desc");
+
+        when(taskService.list(userId, expected)).thenReturn(List.of(task1));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/list")
+                        .param("priority", "HIGH,URGENT")
+                        .param("endTo", "2030-01-01T00:00:00")
+                        .param("sort", "endAt")
+                        .param("direction", "desc")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(task1.id().toString()));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/list?sort=&priority= - Should return 400 Bad Request for unknown values")
+    void listTasksFiltered_Return400() throws Exception {
+
+        UUID userId = UUID.randomUUID();
+
+        mockMvc.perform(get("/tasks/list")
+                        .param("sort", "title")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/tasks/list")
+                        .param("priority", "CRITICAL")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /tasks/search?q= - Should return 200 OK with the ranked results")
+    void searchTasks_Return200() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskResponseDTO task1 = createResponse(UUID.randomUUID(), userId);
+
+        when(taskService.search(userId, "relatorio mensal", TaskService.DEFAULT_SEARCH_SIZE)).thenReturn(List.of(task1));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/search")
+                        .param("q", "relatorio mensal")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(task1.id().toString()));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/changes?since= - Should return 200 OK with the changes and the next cursor")
+    void listChanges_Return200() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskResponseDTO task1 = createResponse(UUID.randomUUID(), userId);
+
+        when(taskService.changes(userId, "since-cursor", TaskService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new TaskChangesDTO(List.of(task1), List.of(), "next-cursor", false));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/changes")
+                        .param("since", "since-cursor")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(task1.id().toString()))
+                .andExpect(jsonPath("$.deleted").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/stats - Should return 200 OK with the counters using the default upcoming window")
+    void stats_Return200() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        when(taskStatsService.get(userId, TaskStatsService.DEFAULT_UPCOMING_DAYS))
+                .thenReturn(new TaskStatsDTO(3, Map.of(Priority.HIGH, 2L, Priority.LOW, 1L), 1, 2, LocalDateTime.now().plusDays(7)));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/stats")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(2))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.upcoming").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/list/stream - Should stream one JSON document per line")
+    void listTasksStream_Return200() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskResponseDTO task1 = createResponse(UUID.randomUUID(), userId);
+        TaskResponseDTO task2 = createResponse(UUID.randomUUID(), userId);
+
+        doAnswer(invocation -> {
+            Consumer<TaskResponseDTO> consumer = invocation.getArgument(1);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return null;
+        }).when(taskService).stream(eq(userId), any());
+
+        // Act
+        String body = mockMvc.perform(get("/tasks/list/stream")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = body.split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(task1.id(), objectMapper.readValue(lines[0], TaskResponseDTO.class).id());
+        assertEquals(task2.id(), objectMapper.readValue(lines[1], TaskResponseDTO.class).id());
+    }
+
     @Test
     @DisplayName("PUT /tasks/update/{id} - Should return 200 OK when updated successfully")
     void updateTask_Return200() throws Exception {
@@ -133,7 +528,7 @@ class TaskControllerTest {
         TaskUpdateDTO updateDTO = new TaskUpdateDTO("New Title", null, null, null, null);
         TaskResponseDTO responseDTO = createResponse(taskId, userId);
 
-        when(taskService.update(eq(taskId), any(TaskUpdateDTO.class), eq(userId))).thenReturn(responseDTO);
+        when(taskService.update(eq(taskId), any(TaskUpdateDTO.class), eq(userId), isNull())).thenReturn(responseDTO);
 
         // Act & Assert
         mockMvc.perform(put("/tasks/update/{id}", taskId)
@@ -144,6 +539,92 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.id").value(taskId.toString()));
     }
 
+    @Test
+    @DisplayName("PUT /tasks/update/{id} - Should pass the If-Match version to the service and return the new version as ETag")
+    void updateTaskIfMatch_ReturnETag() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        TaskUpdateDTO updateDTO = new TaskUpdateDTO("New Title", null, null, null, null);
+        TaskResponseDTO responseDTO = createResponse(taskId, userId);
+
+        when(taskService.update(eq(taskId), any(TaskUpdateDTO.class), eq(userId), eq(3L))).thenReturn(responseDTO);
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/update/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO))
+                        .header("If-Match", "W/\"3\"")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    @DisplayName("DELETE /tasks/{id} - Should return 204 No Content and pass the If-Match version to the service")
+    void deleteTask_Return204() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+
+        // Act & Assert
+        mockMvc.perform(delete("/tasks/{id}", taskId)
+                        .header("If-Match", "\"2\"")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).delete(taskId, userId, 2L);
+    }
+
+    @Test
+    @DisplayName("POST /tasks/batch/delete - Should return 200 OK with the deleted and not found ids")
+    void deleteBatch_Return200() throws Exception {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+
+        when(taskService.deleteBatch(List.of(deleted, missing), userId))
+                .thenReturn(new TaskDeleteResponseDTO(List.of(deleted), List.of(missing)));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(deleted, missing)))
+                        .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted[0]").value(deleted.toString()))
+                .andExpect(jsonPath("$.notFound[0]").value(missing.toString()));
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/update/{id} - Should return 412 when the Task is no longer at the If-Match version")
+    void updateTaskStaleVersion_Return412() throws Exception {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        TaskUpdateDTO updateDTO = new TaskUpdateDTO("New Title", null, null, null, null);
+
+        when(taskService.update(eq(taskId), any(TaskUpdateDTO.class), eq(userId), eq(3L)))
+                .thenThrow(new PreconditionFailedException("A tarefa foi alterada por outra requisição (versão atual: 4)."));
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/update/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO))
+                        .header("If-Match", "\"3\"")
+                        .requestAttr("userId", userId))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     // Auxiliary methods
 
     private TaskRequestDTO createValidRequest() {
@@ -159,7 +640,7 @@ class TaskControllerTest {
         return new TaskResponseDTO(
                 id, "Test Task", "Description",
                 LocalDateTime.now(), LocalDateTime.now().plusDays(1),
-                Priority.HIGH, userId, LocalDateTime.now(), null
+                Priority.HIGH, userId, LocalDateTime.now(), null, 4L
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package br.com.pablotzeliks.todolist.task.ingest;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.service.TaskService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of sustained concurrent task creation with one transaction per task against
+ * the write-behind group commit, as used by importers sending {@code Prefer: respond-async}.
+ * <p>
+ * The database is a file-backed H2 that writes on every commit ({@code WRITE_DELAY=0}),
+ * so that, as on PostgreSQL, each transaction pays for its own trip to the disk.
+ * </p>
+ * Run with {@code mvn test -Pbenchmark}; excluded from the default build.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:file:./target/write-behind-benchmark/db;WRITE_DELAY=0;MODE=PostgreSQL",
+        "todolist.tasks.write-behind.enabled=true",
+        "todolist.tasks.write-behind.queue-capacity=20000"
+})
+class TaskWriteBehindBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehindBenchmarkTest.class);
+
+    private static final int CLIENTS = 32;
+
+    private static final int TASKS_PER_CLIENT = 500;
+
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private TaskWriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    private ITaskRepository repository;
+
+    private final Queue<PendingTask> pending = new ConcurrentLinkedQueue<>();
+
+    @Test
+    @DisplayName("Benchmark: write-behind group commit sustains at least 3x the inserts of one transaction per task")
+    void groupCommit_Benchmark() throws Exception {
+
+        // Warm-up of both paths
+        run((request, userId) -> service.create(request, userId), new ArrayList<>());
+        run((request, userId) -> pending.add(service.enqueue(request, userId)), new ArrayList<>());
+        awaitAll();
+
+        List<UUID> singleUsers = new ArrayList<>();
+        long singleNanos = run((request, userId) -> service.create(request, userId), singleUsers);
+
+        // Clients do not wait per task; the clock stops when every group is durable
+        List<UUID> groupUsers = new ArrayList<>();
+        long groupNanos = run((request, userId) -> pending.add(service.enqueue(request, userId)), groupUsers);
+        groupNanos += awaitAll();
+
+        int total = CLIENTS * TASKS_PER_CLIENT;
+
+        log.info("One transaction per task: {} tasks/s", total * 1_000_000_000L / singleNanos);
+        log.info("Write-behind group commit: {} tasks/s", total * 1_000_000_000L / groupNanos);
+
+        assertEquals(TASKS_PER_CLIENT, repository.findResponsesByUserId(groupUsers.get(0)).size());
+        assertTrue(groupNanos * 3 <= singleNanos, "group " + groupNanos + " ns, single " + singleNanos + " ns");
+    }
+
+    private long run(BiConsumer<TaskRequestDTO, UUID> create, List<UUID> users) throws Exception {
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Priority[] priorities = Priority.values();
+
+        long begin = System.nanoTime();
+
+        for (int client = 0; client < CLIENTS; client++) {
+
+            UUID userId = UUID.randomUUID();
+            users.add(userId);
+
+            futures.add(clients.submit(() -> {
+                for (int i = 0; i < TASKS_PER_CLIENT; i++) {
+                    create.accept(new TaskRequestDTO("Task " + i, null, start, start.plusDays(1 + i % 30),
+                            priorities[i % priorities.length]), userId);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        long elapsed = System.nanoTime() - begin;
+
+        clients.shutdown();
+
+        return elapsed;
+    }
+
+    /**
+     * Waits for the enqueued tasks and returns how long that took.
+     */
+    private long awaitAll() {
+
+        long begin = System.nanoTime();
+
+        pending.forEach(task -> task.durable().join());
+        pending.clear();
+
+        return System.nanoTime() - begin;
+    }
+
+    @AfterAll
+    static void deleteDatabase() throws IOException {
+
+        Path directory = Paths.get("target", "write-behind-benchmark");
+
+        if (!Files.exists(directory)) return;
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
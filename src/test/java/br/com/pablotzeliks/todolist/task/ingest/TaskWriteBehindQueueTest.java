@@ -0,0 +1,160 @@
+package br.com.pablotzeliks.todolist.task.ingest;
+
+import br.com.pablotzeliks.todolist.exception.general.ServiceOverloadedException;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskWriteBehindQueueTest {
+
+    private final List<Integer> groupSizes = Collections.synchronizedList(new ArrayList<>());
+
+    private TaskWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) queue.stop();
+    }
+
+    @Test
+    @DisplayName("Tasks submitted within max-delay should be written in a single group and completed after it")
+    void submitGroupsTasks_Test() {
+
+        // Arrange
+        queue = new TaskWriteBehindQueue(this::write, true, 100, 10, Duration.ofMillis(200), Duration.ofSeconds(5));
+        queue.start();
+
+        // Act
+        List<PendingTask> pending = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            pending.add(queue.submit(createTask("Task " + i)));
+        }
+
+        // Assert
+        for (PendingTask task : pending) {
+            assertEquals(task.id(), queue.await(task).id());
+        }
+        assertEquals(List.of(5), groupSizes);
+    }
+
+    @Test
+    @DisplayName("When a group fails, its tasks should be retried one by one and only the bad one should fail")
+    void failedGroupRetriedIndividually_Test() {
+
+        // Arrange
+        queue = new TaskWriteBehindQueue(this::write, true, 100, 3, Duration.ofMillis(200), Duration.ofSeconds(5));
+        queue.start();
+
+        // Act
+        PendingTask first = queue.submit(createTask("Task"));
+        PendingTask bad = queue.submit(createTask("fail"));
+        PendingTask last = queue.submit(createTask("Task"));
+
+        // Assert
+        assertEquals(first.id(), queue.await(first).id());
+        assertEquals(last.id(), queue.await(last).id());
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> bad.durable().get());
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    @DisplayName("Should reject immediately with ServiceOverloadedException when the queue is full")
+    void rejectWhenFull_Test() throws InterruptedException {
+
+        // Arrange: the committer is blocked inside the first group
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        queue = new TaskWriteBehindQueue(tasks -> {
+            writing.countDown();
+            await(release);
+            return write(tasks);
+        }, true, 1, 1, Duration.ZERO, Duration.ofSeconds(5));
+        queue.start();
+
+        queue.submit(createTask("Task"));
+        writing.await();
+
+        queue.submit(createTask("Task"));
+
+        // Act & Assert
+        try {
+            assertThrows(ServiceOverloadedException.class, () -> queue.submit(createTask("Task")));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Stopping should refuse new tasks and return only after the queued ones are written")
+    void stopDrainsQueue_Test() {
+
+        // Arrange
+        queue = new TaskWriteBehindQueue(this::write, true, 100, 10, Duration.ofSeconds(1), Duration.ofSeconds(5));
+        queue.start();
+
+        List<PendingTask> pending = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            pending.add(queue.submit(createTask("Task " + i)));
+        }
+
+        // Act
+        queue.stop();
+
+        // Assert
+        assertFalse(queue.isRunning());
+        assertTrue(pending.stream().allMatch(task -> task.durable().isDone() && !task.durable().isCompletedExceptionally()));
+        assertThrows(ServiceOverloadedException.class, () -> queue.submit(createTask("Task")));
+    }
+
+    private List<TaskResponseDTO> write(List<Task> tasks) {
+
+        groupSizes.add(tasks.size());
+
+        if (tasks.stream().anyMatch(task -> task.getTitle().equals("fail"))) {
+            throw new IllegalStateException("constraint violation");
+        }
+
+        return tasks.stream()
+                .map(task -> new TaskResponseDTO(task.getId(), task.getTitle(), null, task.getStartAt(), task.getEndAt(),
+                        task.getPriority(), task.getUserId(), LocalDateTime.now(), task.getUpdatedAt(), 0L))
+                .toList();
+    }
+
+    private static Task createTask(String title) {
+
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setUserId(UUID.randomUUID());
+        task.setTitle(title);
+        task.setStartAt(LocalDateTime.now().plusDays(1));
+        task.setEndAt(LocalDateTime.now().plusDays(2));
+        task.setPriority(Priority.LOW);
+
+        return task;
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
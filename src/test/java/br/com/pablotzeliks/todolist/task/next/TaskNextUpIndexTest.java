@@ -0,0 +1,109 @@
+package br.com.pablotzeliks.todolist.task.next;
+
+import br.com.pablotzeliks.todolist.task.cache.LocalCacheInvalidationBus;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.repository.TaskUrgency;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskNextUpIndexTest {
+
+    private final ITaskRepository repository = mock(ITaskRepository.class);
+
+    private final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+
+    private final TaskListVersions versions = new TaskListVersions(bus, 100, Duration.ofHours(1));
+
+    private final TaskNextUpIndex index = new TaskNextUpIndex(repository, versions, 100, Duration.ofMinutes(10));
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("Should rank by priority, URGENT first and missing priority last, then by nearest endAt")
+    void ranking_Test() {
+
+        // Arrange
+        TaskUrgency lowSoon = new TaskUrgency(UUID.randomUUID(), Priority.LOW, now.plusHours(1));
+        TaskUrgency urgentLater = new TaskUrgency(UUID.randomUUID(), Priority.URGENT, now.plusDays(5));
+        TaskUrgency urgentSoon = new TaskUrgency(UUID.randomUUID(), Priority.URGENT, now.plusDays(1));
+        TaskUrgency highSoon = new TaskUrgency(UUID.randomUUID(), Priority.HIGH, now.plusHours(2));
+        TaskUrgency noPriority = new TaskUrgency(UUID.randomUUID(), null, now.plusMinutes(30));
+
+        when(repository.findUpcomingUrgenciesByUserId(eq(userId), any())).thenReturn(List.of(lowSoon, noPriority, urgentLater, highSoon, urgentSoon));
+
+        // Act
+        List<UUID> top = index.top(userId, 10);
+
+        // Assert
+        assertEquals(List.of(urgentSoon.id(), urgentLater.id(), highSoon.id(), lowSoon.id(), noPriority.id()), top);
+        assertEquals(List.of(urgentSoon.id(), urgentLater.id()), index.top(userId, 2));
+    }
+
+    @Test
+    @DisplayName("Should move a Task when its priority changes, without reloading the user's queue")
+    void incrementalUpdate_Test() {
+
+        // Arrange
+        TaskUrgency urgent = new TaskUrgency(UUID.randomUUID(), Priority.URGENT, now.plusDays(1));
+        TaskUrgency low = new TaskUrgency(UUID.randomUUID(), Priority.LOW, now.plusDays(1));
+
+        when(repository.findUpcomingUrgenciesByUserId(eq(userId), any())).thenReturn(List.of(urgent, low));
+
+        assertEquals(List.of(urgent.id()), index.top(userId, 1));
+
+        // Act: the LOW Task is raised to URGENT with an earlier endAt
+        bus.publish(userId);
+        index.index(new TaskResponseDTO(low.id(), "Task", null, now, now.plusHours(1),
+                Priority.URGENT, userId, now, now, 1L));
+
+        // Assert
+        assertEquals(List.of(low.id(), urgent.id()), index.top(userId, 2));
+        verify(repository, times(1)).findUpcomingUrgenciesByUserId(eq(userId), any());
+    }
+
+    @Test
+    @DisplayName("Should leave out Tasks that are already due, both when indexed and when they expire in the queue")
+    void pastTasksExcluded_Test() throws InterruptedException {
+
+        // Arrange
+        TaskUrgency expiring = new TaskUrgency(UUID.randomUUID(), Priority.URGENT, LocalDateTime.now().plusNanos(50_000_000));
+        TaskUrgency high = new TaskUrgency(UUID.randomUUID(), Priority.HIGH, now.plusDays(1));
+
+        when(repository.findUpcomingUrgenciesByUserId(eq(userId), any())).thenReturn(List.of(expiring, high));
+
+        assertEquals(List.of(expiring.id(), high.id()), index.top(userId, 2));
+
+        // Act
+        UUID overdue = UUID.randomUUID();
+        index.index(new TaskResponseDTO(overdue, "Task", null, now.minusDays(2), now.minusDays(1),
+                Priority.URGENT, userId, now, now, 0L));
+
+        await(expiring.endAt());
+
+        // Assert
+        assertEquals(List.of(high.id()), index.top(userId, 10));
+        verify(repository, times(1)).findUpcomingUrgenciesByUserId(eq(userId), any());
+    }
+
+    private void await(LocalDateTime instant) throws InterruptedException {
+
+        while (!LocalDateTime.now().isAfter(instant)) {
+            Thread.sleep(10);
+        }
+    }
+}
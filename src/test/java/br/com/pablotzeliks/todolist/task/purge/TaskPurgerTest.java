@@ -0,0 +1,66 @@
+package br.com.pablotzeliks.todolist.task.purge;
+
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskPurgerTest {
+
+    private final ITaskRepository repository = mock(ITaskRepository.class);
+
+    @Test
+    @DisplayName("Should purge in chunks of chunk-size until a chunk comes back short, publishing rate and backlog")
+    void purgeInChunks_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        TaskPurger purger = new TaskPurger(repository, true, Duration.ofDays(7), 100, Duration.ZERO);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        purger.bindTo(registry);
+
+        when(repository.countPurgeable(any(LocalDateTime.class))).thenReturn(250L);
+        when(repository.purgeDeleted(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 50);
+
+        // Act
+        long purged = purger.purge();
+
+        // Assert
+        assertEquals(250, purged);
+        verify(repository, times(3)).purgeDeleted(any(LocalDateTime.class), eq(100));
+
+        assertEquals(250, registry.get("tasks.purge.purged").counter().count());
+        assertEquals(0, registry.get("tasks.purge.backlog").gauge().value());
+        assertEquals(3, registry.get("tasks.purge.chunk").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should only purge Tasks removed before the retention and do nothing when disabled")
+    void retentionAndDisabled_Test() {
+
+        // Arrange
+        TaskPurger purger = new TaskPurger(repository, true, Duration.ofDays(7), 100, Duration.ZERO);
+        TaskPurger disabled = new TaskPurger(repository, false, Duration.ofDays(7), 100, Duration.ZERO);
+
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+
+        // Act
+        purger.purge();
+        disabled.purge();
+
+        // Assert
+        verify(repository, times(1)).purgeDeleted(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(before.plusMinutes(1))), anyInt());
+    }
+}
@@ -0,0 +1,322 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.model.Task;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ITaskRepositoryTest {
+
+    @Autowired
+    private ITaskRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Keyset queries should walk every Task of the user exactly once, in (createdAt, id) order")
+    void keysetPagination_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        // Tasks saved in a burst may share createdAt, the id tie-breaker keeps the order total
+        for (int i = 0; i < 7; i++) {
+            repository.save(createTask(userId));
+        }
+        repository.save(createTask(UUID.randomUUID()));
+
+        // Act
+        List<TaskResponseDTO> walked = new ArrayList<>();
+        List<TaskResponseDTO> page = repository.findFirstPage(userId, Limit.of(3));
+
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            TaskResponseDTO last = page.get(page.size() - 1);
+            page = repository.findPageAfter(userId, last.createdAt(), last.id(), Limit.of(3));
+        }
+
+        // Assert
+        assertEquals(7, walked.size());
+        assertEquals(7, walked.stream().map(TaskResponseDTO::id).distinct().count());
+        assertTrue(walked.stream().allMatch(task -> task.userId().equals(userId)));
+    }
+
+    @Test
+    @DisplayName("findResponsesByUserId should build response DTOs without managing any Task entity")
+    void findResponsesByUserId_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Task saved = repository.save(createTask(userId));
+        repository.save(createTask(UUID.randomUUID()));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<TaskResponseDTO> found = repository.findResponsesByUserId(userId);
+
+        // Assert
+        assertEquals(1, found.size());
+        assertEquals(saved.getId(), found.get(0).id());
+        assertEquals(saved.getTitle(), found.get(0).title());
+        assertEquals(saved.getPriority(), found.get(0).priority());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @DisplayName("findByFilter should push priority and endAt predicates down and sort by priority rank")
+    void findByFilter_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        Task urgentSoon = repository.save(createTask(userId, Priority.URGENT, now.plusDays(2)));
+        Task highSoon = repository.save(createTask(userId, Priority.HIGH, now.plusDays(3)));
+        repository.save(createTask(userId, Priority.HIGH, now.plusDays(30)));
+        repository.save(createTask(userId, Priority.LOW, now.plusDays(2)));
+        repository.save(createTask(UUID.randomUUID(), Priority.URGENT, now.plusDays(2)));
+
+        TaskFilter filter = TaskFilter.of(List.of(Priority.HIGH, Priority.URGENT),
+                null, null, null, now.plusDays(7), "priority", "desc");
+
+        // Act
+        List<TaskResponseDTO> found = repository.findByFilter(userId, filter, null, null, Limit.unlimited());
+
+        // Assert
+        assertEquals(List.of(urgentSoon.getId(), highSoon.getId()), found.stream().map(TaskResponseDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("findByFilter by priority desc should keep the nearest deadline first and fill the limit across priorities")
+    void findByFilterPriorityGroups_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        Task highLater = repository.save(createTask(userId, Priority.HIGH, now.plusDays(9)));
+        Task urgent = repository.save(createTask(userId, Priority.URGENT, now.plusDays(5)));
+        Task highSooner = repository.save(createTask(userId, Priority.HIGH, now.plusDays(2)));
+        Task none = repository.save(createTask(userId, null, now.plusDays(4)));
+        repository.save(createTask(userId, Priority.LOW, now.plusDays(1)));
+
+        TaskFilter descending = TaskFilter.of(null, null, null, null, null, "priority", "desc");
+        TaskFilter ascending = TaskFilter.of(null, null, null, null, null, "priority", "asc");
+
+        // Act
+        List<TaskResponseDTO> top = repository.findByFilter(userId, descending, null, null, Limit.of(4));
+        List<TaskResponseDTO> all = repository.findByFilter(userId, ascending, null, null, Limit.unlimited());
+
+        // Assert
+        assertEquals(List.of(none.getId(), urgent.getId(), highSooner.getId(), highLater.getId()),
+                top.stream().map(TaskResponseDTO::id).toList());
+
+        assertEquals(5, all.size());
+        assertEquals(Priority.LOW, all.get(0).priority());
+        assertEquals(List.of(highSooner.getId(), highLater.getId()), List.of(all.get(1).id(), all.get(2).id()));
+        assertEquals(none.getId(), all.get(4).id());
+    }
+
+    @Test
+    @DisplayName("findByFilter should walk a descending createdAt keyset without repeating Tasks")
+    void findByFilterKeysetDescending_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        for (int i = 0; i < 5; i++) {
+            repository.save(createTask(userId));
+        }
+
+        TaskFilter filter = TaskFilter.of(null, null, null, null, null, "createdAt", "desc");
+
+        // Act
+        List<TaskResponseDTO> walked = new ArrayList<>();
+        List<TaskResponseDTO> page = repository.findByFilter(userId, filter, null, null, Limit.of(2));
+
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            TaskResponseDTO last = page.get(page.size() - 1);
+            page = repository.findByFilter(userId, filter, last.createdAt(), last.id(), Limit.of(2));
+        }
+
+        // Assert
+        assertEquals(5, walked.size());
+        assertEquals(5, walked.stream().map(TaskResponseDTO::id).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Change feed queries should return the Tasks in change sequence order, only after the cursor")
+    void changeFeed_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        Task late = createTask(userId);
+        late.setChangeSeq(3);
+        late = repository.save(late);
+
+        Task early = createTask(userId);
+        early.setChangeSeq(1);
+        early = repository.save(early);
+
+        Task sameTransaction = createTask(userId);
+        sameTransaction.setChangeSeq(3);
+        sameTransaction = repository.save(sameTransaction);
+
+        entityManager.flush();
+
+        // Ties inside one transaction are broken by id, compared by the database as unsigned bytes
+        List<UUID> lastPosition = late.getId().toString().compareTo(sameTransaction.getId().toString()) < 0
+                ? List.of(late.getId(), sameTransaction.getId())
+                : List.of(sameTransaction.getId(), late.getId());
+
+        // Act
+        List<TaskChange> all = repository.findChanges(userId, Limit.of(10));
+        List<TaskChange> delta = repository.findChangesAfter(userId, early.getChangeSeq(), early.getId(), Limit.of(10));
+        List<TaskChange> afterFirstTie = repository.findChangesAfter(userId, 3, lastPosition.get(0), Limit.of(10));
+
+        // Assert
+        assertEquals(early.getId(), all.get(0).task().id());
+        assertEquals(lastPosition, all.subList(1, 3).stream().map(change -> change.task().id()).toList());
+        assertEquals(List.of(1L, 3L, 3L), all.stream().map(TaskChange::changeSeq).toList());
+
+        assertEquals(lastPosition, delta.stream().map(change -> change.task().id()).toList());
+        assertEquals(List.of(lastPosition.get(1)), afterFirstTie.stream().map(change -> change.task().id()).toList());
+        assertTrue(all.stream().noneMatch(TaskChange::deleted));
+    }
+
+    @Test
+    @DisplayName("A soft-deleted Task should be hidden from JPA queries, reported by the change feed and purged after the cutoff")
+    void softDeleteAndPurge_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        LocalDateTime deletedAt = LocalDateTime.now().minusDays(1);
+
+        Task kept = repository.save(createTask(userId));
+        Task removed = repository.save(createTask(userId));
+
+        List<Task> locked = repository.findForDelete(userId, List.of(removed.getId()));
+        locked.forEach(task -> {
+            task.setDeletedAt(deletedAt);
+            task.setUpdatedAt(deletedAt);
+        });
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<TaskResponseDTO> listed = repository.findResponsesByUserId(userId);
+        List<TaskChange> changes = repository.findChanges(userId, Limit.of(10));
+
+        long purgeable = repository.countPurgeable(LocalDateTime.now());
+        int purged = repository.purgeDeleted(LocalDateTime.now(), 10);
+
+        // Assert
+        assertEquals(List.of(kept.getId()), listed.stream().map(TaskResponseDTO::id).toList());
+        assertFalse(repository.existsById(removed.getId()));
+        assertTrue(changes.stream().anyMatch(change -> change.deleted() && change.task().id().equals(removed.getId())));
+
+        assertEquals(1, purgeable);
+        assertEquals(1, purged);
+        assertEquals(0, repository.purgeDeleted(LocalDateTime.now(), 10));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    @DisplayName("updatePartially should change only the given fields of the owner's Task and return its previous state")
+    void updatePartially_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Task saved = repository.save(createTask(userId, Priority.LOW, LocalDateTime.now().plusDays(2)));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        TaskUpdateDTO changes = new TaskUpdateDTO("Renamed", null, null, null, Priority.URGENT);
+
+        // Act
+        Optional<TaskResponseDTO> previous = repository.updatePartially(saved.getId(), userId, changes, updatedAt, null);
+        Optional<TaskResponseDTO> otherUser = repository.updatePartially(saved.getId(), UUID.randomUUID(), changes, updatedAt, null);
+        Optional<TaskResponseDTO> invalidDates = repository.updatePartially(saved.getId(), userId,
+                new TaskUpdateDTO(null, null, null, saved.getStartAt().minusDays(1), null), updatedAt, null);
+
+        // Assert
+        assertTrue(previous.isPresent());
+        assertEquals("Task", previous.get().title());
+        assertEquals(Priority.LOW, previous.get().priority());
+
+        assertTrue(otherUser.isEmpty());
+        assertTrue(invalidDates.isEmpty());
+
+        TaskResponseDTO current = repository.findResponsesByUserId(userId).get(0);
+
+        assertEquals("Renamed", current.title());
+        assertEquals(Priority.URGENT, current.priority());
+        assertEquals(previous.get().endAt(), current.endAt());
+    }
+
+    @Test
+    @DisplayName("updatePartially should bump the version and reject an update made over a stale version")
+    void updatePartiallyVersion_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Task saved = repository.save(createTask(userId));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskUpdateDTO changes = new TaskUpdateDTO("Renamed", null, null, null, null);
+
+        // Act
+        Optional<TaskResponseDTO> first = repository.updatePartially(saved.getId(), userId, changes, LocalDateTime.now(), 0L);
+        Optional<TaskResponseDTO> stale = repository.updatePartially(saved.getId(), userId, changes, LocalDateTime.now(), 0L);
+        Optional<TaskResponseDTO> unconditional = repository.updatePartially(saved.getId(), userId, changes, LocalDateTime.now(), null);
+
+        // Assert
+        assertEquals(0L, first.orElseThrow().version());
+        assertTrue(stale.isEmpty());
+        assertEquals(1L, unconditional.orElseThrow().version());
+        assertEquals(2L, repository.findResponsesByUserId(userId).get(0).version());
+    }
+
+    private Task createTask(UUID userId) {
+
+        return createTask(userId, Priority.MEDIUM, LocalDateTime.now().plusDays(2));
+    }
+
+    private Task createTask(UUID userId, Priority priority, LocalDateTime endAt) {
+
+        Task task = new Task();
+        task.setUserId(userId);
+        task.setTitle("Task");
+        task.setStartAt(LocalDateTime.now().plusDays(1));
+        task.setEndAt(endAt);
+        task.setPriority(priority);
+
+        return task;
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.pablotzeliks.todolist.task.repository;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.model.Task;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of the filtered task listing against the unfiltered one.
+ * Run with {@code mvn test -Pbenchmark}; excluded from the default build.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+class TaskFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskFilterBenchmarkTest.class);
+
+    private static final int TASKS = 20_000;
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ITaskRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void seed() {
+
+        Priority[] priorities = Priority.values();
+        List<Object[]> rows = new ArrayList<>(TASKS);
+
+        for (int i = 0; i < TASKS; i++) {
+
+            rows.add(new Object[]{
+                    UUID.randomUUID(), userId, "Task " + i,
+                    Timestamp.valueOf(now.plusDays(1)),
+                    Timestamp.valueOf(now.plusDays(2 + i % 365)),
+                    priorities[i % priorities.length].name(),
+                    Timestamp.valueOf(now.plusNanos(i * 1000L))
+            });
+        }
+
+        jdbcTemplate.batchUpdate(
+                "insert into tb_task (id, user_id, title, start_at, end_at, priority, created_at) values (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    @Test
+    @DisplayName("Benchmark: filtered listing uses the composite index and transfers far fewer rows")
+    void filteredListing_Benchmark() {
+
+        // Plan of the SQL generated for priority IN (...) and an endAt window
+        String plan = jdbcTemplate.queryForObject(
+                "explain select * from tb_task where user_id = ? and priority in ('URGENT') and end_at <= ?",
+                String.class, userId, Timestamp.valueOf(now.plusDays(30)));
+
+        TaskFilter filter = TaskFilter.of(List.of(Priority.URGENT), null, null, null, now.plusDays(30), "endAt", null);
+
+        List<Task> all = List.of();
+        List<TaskResponseDTO> filtered = List.of();
+
+        long unfilteredNanos = 0;
+        long filteredNanos = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+
+            long start = System.nanoTime();
+            all = repository.findByUserId(userId);
+            unfilteredNanos += System.nanoTime() - start;
+            entityManager.clear();
+
+            start = System.nanoTime();
+            filtered = repository.findByFilter(userId, filter, null, null, Limit.unlimited());
+            filteredNanos += System.nanoTime() - start;
+            entityManager.clear();
+        }
+
+        log.info("Plan: {}", plan);
+        log.info("Unfiltered: {} rows, {} ms/query", all.size(), unfilteredNanos / ROUNDS / 1_000_000.0);
+        log.info("Filtered:   {} rows, {} ms/query", filtered.size(), filteredNanos / ROUNDS / 1_000_000.0);
+
+        assertTrue(plan.toLowerCase().contains("idx_task_user_priority_end"), plan);
+        assertEquals(TASKS, all.size());
+        assertTrue(filtered.size() * 50 < all.size());
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.pablotzeliks.todolist.task.search;
+
+import br.com.pablotzeliks.todolist.task.cache.LocalCacheInvalidationBus;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.service.TaskListVersions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InMemoryTaskSearchIndexTest {
+
+    private final ITaskRepository repository = mock(ITaskRepository.class);
+
+    private final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+
+    private final TaskListVersions versions = new TaskListVersions(bus, 100, Duration.ofHours(1));
+
+    private final InMemoryTaskSearchIndex index = new InMemoryTaskSearchIndex(repository, versions, 100, Duration.ofMinutes(10));
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should rank title matches above description matches, ignoring case and accents")
+    void searchRanking_Test() {
+
+        // Arrange
+        TaskResponseDTO inTitle = createResponse("Reunião de orçamento", "Levar planilhas");
+        TaskResponseDTO inDescription = createResponse("Compras", "Revisar o orçamento do mês");
+        TaskResponseDTO unrelated = createResponse("Academia", "Treino de pernas");
+
+        when(repository.findResponsesByUserId(userId)).thenReturn(List.of(inDescription, unrelated, inTitle));
+
+        // Act
+        List<UUID> results = index.search(userId, "ORCAMENTO", 10);
+
+        // Assert
+        assertEquals(List.of(inTitle.id(), inDescription.id()), results);
+    }
+
+    @Test
+    @DisplayName("Should load the user's index once and keep it up to date with local writes")
+    void incrementalUpdate_Test() {
+
+        // Arrange
+        TaskResponseDTO task = createResponse("Pagar boleto", "Conta de luz");
+
+        when(repository.findResponsesByUserId(userId)).thenReturn(List.of(task));
+
+        assertEquals(List.of(task.id()), index.search(userId, "luz", 10));
+
+        // Act: the Task is renamed, the write bumps the version and is indexed
+        TaskResponseDTO renamed = new TaskResponseDTO(task.id(), "Pagar boleto", "Conta de água",
+                task.startAt(), task.endAt(), task.priority(), userId, task.createdAt(), LocalDateTime.now(), 1L);
+
+        bus.publish(userId);
+        index.index(renamed);
+
+        // Assert
+        assertTrue(index.search(userId, "luz", 10).isEmpty());
+        assertEquals(List.of(task.id()), index.search(userId, "agua", 10));
+        verify(repository, times(1)).findResponsesByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index when the list changed without going through index()")
+    void rebuildOnUnseenChange_Test() {
+
+        // Arrange
+        TaskResponseDTO first = createResponse("Estudar Java", null);
+        TaskResponseDTO second = createResponse("Estudar Spring", null);
+
+        when(repository.findResponsesByUserId(userId)).thenReturn(List.of(first), List.of(first, second));
+
+        assertEquals(List.of(first.id()), index.search(userId, "estudar", 10));
+
+        // Act: a write on another node only reaches this one through the bus
+        bus.publish(userId);
+
+        // Assert
+        assertEquals(2, index.search(userId, "estudar", 10).size());
+        verify(repository, times(2)).findResponsesByUserId(userId);
+    }
+
+    private TaskResponseDTO createResponse(String title, String description) {
+
+        return new TaskResponseDTO(UUID.randomUUID(), title, description,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                Priority.MEDIUM, userId, LocalDateTime.now(), LocalDateTime.now(), 0L);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskBatchResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of the batch create path against one {@code create} call per task.
+ * Run with {@code mvn test -Pbenchmark}; excluded from the default build.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class TaskBatchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskBatchBenchmarkTest.class);
+
+    private static final int TASKS = 5_000;
+
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private ITaskRepository repository;
+
+    @Test
+    @DisplayName("Benchmark: POST /tasks/batch inserts at least 10x faster than one POST /tasks/create per task")
+    void batchCreate_Benchmark() {
+
+        List<TaskRequestDTO> requests = createRequests();
+
+        // Warm-up of both paths
+        UUID warmUp = UUID.randomUUID();
+        requests.subList(0, 200).forEach(request -> service.create(request, warmUp));
+        service.createBatch(requests.subList(0, 200), warmUp);
+
+        UUID singleUser = UUID.randomUUID();
+
+        long start = System.nanoTime();
+        requests.forEach(request -> service.create(request, singleUser));
+        long singleNanos = System.nanoTime() - start;
+
+        UUID batchUser = UUID.randomUUID();
+        int created = 0;
+
+        start = System.nanoTime();
+        for (int from = 0; from < TASKS; from += TaskService.MAX_BATCH_SIZE) {
+            TaskBatchResponseDTO result = service.createBatch(requests.subList(from, from + TaskService.MAX_BATCH_SIZE), batchUser);
+            created += result.created();
+        }
+        long batchNanos = System.nanoTime() - start;
+
+        log.info("Single create: {} tasks/s", TASKS * 1_000_000_000L / singleNanos);
+        log.info("Batch create:  {} tasks/s", TASKS * 1_000_000_000L / batchNanos);
+
+        assertEquals(TASKS, created);
+        assertEquals(TASKS, repository.findResponsesByUserId(batchUser).size());
+        assertTrue(batchNanos * 10 <= singleNanos, "batch " + batchNanos + " ns, single " + singleNanos + " ns");
+    }
+
+    private List<TaskRequestDTO> createRequests() {
+
+        Priority[] priorities = Priority.values();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        List<TaskRequestDTO> requests = new ArrayList<>(TASKS);
+
+        for (int i = 0; i < TASKS; i++) {
+            requests.add(new TaskRequestDTO("Imported " + i, "Row " + i, start, start.plusDays(1 + i % 30), priorities[i % priorities.length]));
+        }
+
+        return requests;
+    }
+}
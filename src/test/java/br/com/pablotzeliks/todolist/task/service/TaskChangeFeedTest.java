@@ -0,0 +1,105 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.task.dto.TaskChangesDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Commits two writes of the same user out of their start order and checks that a client
+ * polling the change feed in between still receives both.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:change_feed_test;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;LOCK_TIMEOUT=10000"
+})
+class TaskChangeFeedTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("A write that commits late should still be delivered after a cursor handed out while it was pending")
+    void delayedCommitDelivered_Test() throws Exception {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        taskService.create(request("Before"), userId);
+        String cursor = taskService.changes(userId, null, 10).nextCursor();
+
+        CountDownLatch slowWritten = new CountDownLatch(1);
+        CountDownLatch commitSlow = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+
+                taskService.create(request("Slow"), userId);
+                slowWritten.countDown();
+
+                try {
+                    commitSlow.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+
+            assertTrue(slowWritten.await(10, TimeUnit.SECONDS));
+
+            Future<?> fast = executor.submit(() -> taskService.create(request("Fast"), userId));
+
+            // The second write waits for the user's change position held by the first one
+            assertThrows(TimeoutException.class, () -> fast.get(300, TimeUnit.MILLISECONDS));
+
+            TaskChangesDTO whilePending = taskService.changes(userId, cursor, 10);
+
+            commitSlow.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+            fast.get(10, TimeUnit.SECONDS);
+
+            TaskChangesDTO afterCommit = taskService.changes(userId, whilePending.nextCursor(), 10);
+
+            // Assert
+            assertTrue(whilePending.changed().isEmpty());
+            assertEquals(cursor, whilePending.nextCursor());
+
+            assertEquals(List.of("Slow", "Fast"), afterCommit.changed().stream().map(TaskResponseDTO::title).toList());
+            assertFalse(afterCommit.hasMore());
+
+        } finally {
+            commitSlow.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private TaskRequestDTO request(String title) {
+
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+
+        return new TaskRequestDTO(title, null, start, start.plusDays(1), Priority.MEDIUM);
+    }
+}
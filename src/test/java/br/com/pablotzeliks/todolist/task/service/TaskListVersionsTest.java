@@ -0,0 +1,59 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.task.cache.LocalCacheInvalidationBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskListVersionsTest {
+
+    private final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+
+    @Test
+    @DisplayName("A write should advance the user's version and ETag")
+    void bumpOnWrite_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        TaskListVersions versions = new TaskListVersions(bus, 100, Duration.ofHours(1));
+        UUID userId = UUID.randomUUID();
+
+        long before = versions.current(userId);
+        String eTag = versions.eTag(userId);
+
+        // Act
+        bus.publish(userId);
+
+        // Assert
+        assertTrue(versions.current(userId) > before);
+        assertNotEquals(eTag, versions.eTag(userId));
+    }
+
+    @Test
+    @DisplayName("An evicted user should get a version above every ETag already issued, never an old one again")
+    void evictedUser_Test() throws InterruptedException {
+
+        // Arrange
+        TaskListVersions versions = new TaskListVersions(bus, 100, Duration.ofMillis(100));
+        UUID userId = UUID.randomUUID();
+
+        String initialETag = versions.eTag(userId);
+        bus.publish(userId);
+        long written = versions.current(userId);
+        String writtenETag = versions.eTag(userId);
+
+        // Act
+        Thread.sleep(300);
+        long afterEviction = versions.current(userId);
+
+        // Assert
+        assertTrue(afterEviction > written);
+        assertNotEquals(initialETag, versions.eTag(userId));
+        assertNotEquals(writtenETag, versions.eTag(userId));
+    }
+}
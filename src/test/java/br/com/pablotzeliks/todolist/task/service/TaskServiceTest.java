@@ -2,27 +2,49 @@ package br.com.pablotzeliks.todolist.task.service;
 
 import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
 import br.com.pablotzeliks.todolist.exception.general.ResourceNotFoundException;
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+import br.com.pablotzeliks.todolist.exception.general.PreconditionFailedException;
+import br.com.pablotzeliks.todolist.task.agenda.TaskAgendaIndex;
+import br.com.pablotzeliks.todolist.task.cache.CacheInvalidationBus;
+import br.com.pablotzeliks.todolist.task.cache.TaskListCache;
+import br.com.pablotzeliks.todolist.task.dto.TaskBatchResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskChangesDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskDeleteResponseDTO;
+import br.com.pablotzeliks.todolist.task.dto.TaskPageDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskRequestDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskResponseDTO;
 import br.com.pablotzeliks.todolist.task.dto.TaskUpdateDTO;
 import br.com.pablotzeliks.todolist.task.mapper.TaskMapper;
 import br.com.pablotzeliks.todolist.task.model.Priority;
 import br.com.pablotzeliks.todolist.task.model.Task;
+import br.com.pablotzeliks.todolist.task.next.TaskNextUpIndex;
 import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.repository.TaskChange;
+import br.com.pablotzeliks.todolist.task.repository.TaskFilter;
+import br.com.pablotzeliks.todolist.task.search.TaskSearchIndex;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +56,30 @@ class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskListVersions taskListVersions;
+
+    @Mock
+    private TaskListCache taskListCache;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskAgendaIndex taskAgendaIndex;
+
+    @Mock
+    private TaskNextUpIndex taskNextUpIndex;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -50,8 +96,14 @@ class TaskServiceTest {
         Task taskSaved = createSavedTask(userId, requestDTO);
         TaskResponseDTO expectedResponse = createResponse(taskSaved);
 
+        Task entity = new Task();
+        entity.setPriority(Priority.HIGH);
+
         // Mocking the mapper behavior from RequestDTO to Entity
-        when(taskMapper.toEntity(any(TaskRequestDTO.class))).thenReturn(new Task());
+        when(taskMapper.toEntity(any(TaskRequestDTO.class))).thenReturn(entity);
+
+        // Mocking the position taken in the change feed
+        when(taskStatsService.onCreated(userId, Priority.HIGH)).thenReturn(7L);
 
         // Mocking the repository save method
         when(taskRepository.save(any(Task.class))).thenReturn(taskSaved);
@@ -72,11 +124,101 @@ class TaskServiceTest {
         assertEquals(taskSaved.getStartAt(), responseDTO.startAt());
         assertEquals(taskSaved.getEndAt(), responseDTO.endAt());
         assertEquals(Priority.HIGH, responseDTO.priority());
+        assertEquals(7L, entity.getChangeSeq());
 
         // Verify if all the Methods were called as expected
         verify(taskMapper).toEntity(any(TaskRequestDTO.class));
         verify(taskRepository).save(any(Task.class));
         verify(taskMapper).toResponse(any(Task.class));
+        verify(invalidationBus).publish(userId);
+        verify(taskSearchIndex).index(any(TaskResponseDTO.class));
+        verify(taskStatsService).onCreated(userId, Priority.HIGH);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService creates a batch in one saveAll. Should reject invalid items individually and keep the request order.")
+    void createBatchPartialSuccess_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+
+        TaskRequestDTO valid = new TaskRequestDTO("Import 1", null, start, start.plusDays(1), Priority.HIGH);
+        TaskRequestDTO blankTitle = new TaskRequestDTO(" ", null, start, start.plusDays(1), Priority.LOW);
+        TaskRequestDTO invertedDates = new TaskRequestDTO("Import 2", null, start.plusDays(1), start, Priority.LOW);
+
+        Task saved = createSavedTask(userId, valid);
+        TaskResponseDTO response = createResponse(saved);
+
+        Task entity = new Task();
+        entity.setPriority(Priority.HIGH);
+
+        when(taskMapper.toEntity(valid)).thenReturn(entity);
+        when(taskStatsService.onCreated(userId, List.of(Priority.HIGH))).thenReturn(3L);
+        when(taskRepository.saveAll(any())).thenReturn(List.of(saved));
+        when(taskMapper.toResponse(saved)).thenReturn(response);
+
+        // Act
+        TaskBatchResponseDTO result = taskService.createBatch(Arrays.asList(blankTitle, valid, invertedDates, null), userId);
+
+        // Assert
+        assertEquals(1, result.created());
+        assertEquals(3, result.rejected());
+
+        assertEquals("title", result.items().get(0).errors().get(0).field());
+        assertEquals(saved.getId(), result.items().get(1).task().id());
+        assertEquals("startAt", result.items().get(2).errors().get(0).field());
+        assertNotNull(result.items().get(3).errors());
+        assertEquals(3L, entity.getChangeSeq());
+
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStatsService).onCreated(userId, List.of(Priority.HIGH));
+        verify(invalidationBus, times(1)).publish(userId);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService rejects an empty or oversized batch before touching the database.")
+    void createBatchInvalidSize_Test() {
+
+        UUID userId = UUID.randomUUID();
+        List<TaskRequestDTO> oversized = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, createValidRequest());
+
+        assertThrows(BusinessRuleException.class, () -> taskService.createBatch(List.of(), userId));
+        assertThrows(BusinessRuleException.class, () -> taskService.createBatch(oversized, userId));
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService writes a write-behind group in one saveAll, updating statistics once per user.")
+    void createGroup_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+
+        Task first = createSavedTask(firstUser, createValidRequest());
+        Task second = createSavedTask(secondUser, createValidRequest());
+        Task third = createSavedTask(firstUser, createValidRequest());
+        List<Task> group = List.of(first, second, third);
+
+        when(taskRepository.saveAll(group)).thenReturn(group);
+        group.forEach(task -> when(taskMapper.toResponse(task)).thenReturn(createResponse(task)));
+
+        // Act
+        List<TaskResponseDTO> result = taskService.createGroup(group);
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId(), third.getId()), result.stream().map(TaskResponseDTO::id).toList());
+
+        verify(taskStatsService).onCreated(firstUser, List.of(Priority.HIGH, Priority.HIGH));
+        verify(taskStatsService).onCreated(secondUser, List.of(Priority.HIGH));
+        verify(invalidationBus).publish(firstUser);
+        verify(invalidationBus).publish(secondUser);
     }
 
     @Test
@@ -94,17 +236,14 @@ class TaskServiceTest {
         Task firstTaskSaved = createSavedTask(userId, firstTaskRequest);
         Task secondTaskSaved = createSavedTask(userId, secondTaskRequest);
 
-        List<Task> taskFromDB = List.of(firstTaskSaved, secondTaskSaved);
-
         TaskResponseDTO firstExpectedResponse = createResponse(firstTaskSaved);
         TaskResponseDTO secondExpectedResponse = createResponse(secondTaskSaved);
 
-        // Mocking the repository findByUserId method
-        when(taskRepository.findByUserId(userId)).thenReturn(taskFromDB);
+        // Cache miss, so the list comes from the database
+        when(taskListCache.get(userId, 0L)).thenReturn(null);
 
-        // Mocking the mapper behavior from Entity to ResponseDTO
-        when(taskMapper.toResponse(firstTaskSaved)).thenReturn(firstExpectedResponse);
-        when(taskMapper.toResponse(secondTaskSaved)).thenReturn(secondExpectedResponse);
+        // Mocking the repository projection query, which already returns response DTOs
+        when(taskRepository.findResponsesByUserId(userId)).thenReturn(List.of(firstExpectedResponse, secondExpectedResponse));
 
         // Act
         List<TaskResponseDTO> resultList = taskService.list(userId);
@@ -117,14 +256,341 @@ class TaskServiceTest {
         assertEquals(secondExpectedResponse.id(), resultList.get(1).id());
 
         // Verify if all the Methods were called as expected
-        verify(taskRepository).findByUserId(userId);
+        verify(taskRepository).findResponsesByUserId(userId);
+
+        // No entity is hydrated, so the mapper is not involved
+        verifyNoInteractions(taskMapper);
+
+        // The list is cached under the version read before the query
+        verify(taskListCache).put(userId, 0L, resultList);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService serves the Task list from the cache while the list version is unchanged.")
+    void listTaskFromCache_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        List<TaskResponseDTO> cached = List.of(createResponse(createSavedTask(userId, createValidRequest())));
+
+        when(taskListVersions.current(userId)).thenReturn(7L);
+        when(taskListCache.get(userId, 7L)).thenReturn(cached);
+
+        // Act
+        List<TaskResponseDTO> resultList = taskService.list(userId);
+
+        // Assert
+        assertSame(cached, resultList);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService returns a keyset page with a cursor when there are more Tasks.")
+    void listPageWithNextCursor_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        Task first = createSavedTask(userId, createValidRequest());
+        first.setCreatedAt(LocalDateTime.of(2026, 1, 1, 10, 0));
+        Task second = createSavedTask(userId, createValidRequest());
+        second.setCreatedAt(LocalDateTime.of(2026, 1, 1, 11, 0));
+        Task third = createSavedTask(userId, createValidRequest());
+
+        // The repository is asked for one extra row to detect the next page
+        when(taskRepository.findFirstPage(userId, Limit.of(3)))
+                .thenReturn(List.of(createResponse(first), createResponse(second), createResponse(third)));
+
+        // Act
+        TaskPageDTO page = taskService.listPage(userId, 2, null);
+
+        // Assert
+        assertEquals(2, page.items().size());
+        assertNotNull(page.nextCursor());
+
+        TaskCursor cursor = TaskCursor.decode(page.nextCursor());
+        assertEquals(second.getCreatedAt(), cursor.createdAt());
+        assertEquals(second.getId(), cursor.id());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService continues from the cursor position and ends pagination on the last page.")
+    void listPageFromCursor_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskCursor position = new TaskCursor(LocalDateTime.of(2026, 1, 1, 11, 0), UUID.randomUUID());
+        Task last = createSavedTask(userId, createValidRequest());
+
+        when(taskRepository.findPageAfter(userId, position.createdAt(), position.id(), Limit.of(3))).thenReturn(List.of(createResponse(last)));
+
+        // Act
+        TaskPageDTO page = taskService.listPage(userId, 2, position.encode());
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService rejects an invalid page size or cursor.")
+    void listPageInvalidArguments_Test() {
+
+        UUID userId = UUID.randomUUID();
+
+        assertThrows(BusinessRuleException.class, () -> taskService.listPage(userId, 0, null));
+        assertThrows(BusinessRuleException.class, () -> taskService.listPage(userId, TaskService.MAX_PAGE_SIZE + 1, null));
+        assertThrows(BusinessRuleException.class, () -> taskService.listPage(userId, 10, "not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("Test if TaskService delegates filtered listing to the repository and only emits cursors for createdAt order.")
+    void listPageFiltered_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        Task task1 = createSavedTask(userId, createValidRequest());
+        task1.setCreatedAt(LocalDateTime.now());
+        Task task2 = createSavedTask(userId, createValidRequest());
+
+        TaskFilter byPriority = TaskFilter.of(List.of(Priority.HIGH), null, null, null, null, null, null);
+        TaskFilter byEndAt = TaskFilter.of(null, null, null, null, null, "endAt", null);
+
+        when(taskRepository.findByFilter(eq(userId), any(TaskFilter.class), any(), any(), eq(Limit.of(2))))
+                .thenReturn(List.of(createResponse(task1), createResponse(task2)));
+
+        // Act
+        TaskPageDTO createdAtPage = taskService.listPage(userId, byPriority, 1, null);
+        TaskPageDTO endAtPage = taskService.listPage(userId, byEndAt, 1, null);
+
+        // Assert
+        assertEquals(1, createdAtPage.items().size());
+        assertNotNull(createdAtPage.nextCursor());
+
+        assertEquals(1, endAtPage.items().size());
+        assertNull(endAtPage.nextCursor());
+
+        assertThrows(BusinessRuleException.class, () -> taskService.listPage(userId, byEndAt, 1, createdAtPage.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Test if TaskService returns the changes after the cursor and a cursor pointing at the last change.")
+    void changesAfterCursor_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskChangeCursor since = new TaskChangeCursor(4L, UUID.randomUUID());
+
+        Task first = createSavedTask(userId, createValidRequest());
+        Task second = createSavedTask(userId, createValidRequest());
+
+        when(taskRepository.findChangesAfter(eq(userId), eq(since.changeSeq()), eq(since.id()), eq(Limit.of(2))))
+                .thenReturn(List.of(new TaskChange(createResponse(first), false, 5L), new TaskChange(createResponse(second), false, 6L)));
+
+        // Act
+        TaskChangesDTO changes = taskService.changes(userId, since.encode(), 1);
+
+        // Assert
+        assertEquals(1, changes.changed().size());
+        assertTrue(changes.hasMore());
+        assertTrue(changes.deleted().isEmpty());
+
+        TaskChangeCursor next = TaskChangeCursor.decode(changes.nextCursor());
+        assertEquals(5L, next.changeSeq());
+        assertEquals(first.getId(), next.id());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService reports removed Tasks in deleted and moves the cursor past them.")
+    void changesWithDeletedTasks_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        Task changed = createSavedTask(userId, createValidRequest());
+        Task removed = createSavedTask(userId, createValidRequest());
+
+        when(taskRepository.findChanges(eq(userId), eq(Limit.of(11))))
+                .thenReturn(List.of(new TaskChange(createResponse(changed), false, 1L), new TaskChange(createResponse(removed), true, 2L)));
+
+        // Act
+        TaskChangesDTO changes = taskService.changes(userId, null, 10);
+
+        // Assert
+        assertEquals(List.of(changed.getId()), changes.changed().stream().map(TaskResponseDTO::id).toList());
+        assertEquals(List.of(removed.getId()), changes.deleted());
+        assertFalse(changes.hasMore());
+
+        TaskChangeCursor next = TaskChangeCursor.decode(changes.nextCursor());
+        assertEquals(2L, next.changeSeq());
+        assertEquals(removed.getId(), next.id());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService keeps the client's cursor when nothing changed and rejects page cursors.")
+    void changesWithoutNewChanges_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String since = new TaskChangeCursor(4L, UUID.randomUUID()).encode();
+
+        when(taskRepository.findChangesAfter(eq(userId), anyLong(), any(), any())).thenReturn(List.of());
+
+        // Act
+        TaskChangesDTO changes = taskService.changes(userId, since, 10);
+
+        // Assert
+        assertEquals(since, changes.nextCursor());
+        assertFalse(changes.hasMore());
+
+        String pageCursor = new TaskCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+        assertThrows(BusinessRuleException.class, () -> taskService.changes(userId, pageCursor, 10));
+    }
 
-        verify(taskMapper, times(1)).toResponse(firstTaskSaved);
-        verify(taskMapper, times(1)).toResponse(secondTaskSaved);
+    @Test
+    @DisplayName("Test if TaskService returns search results in the ranking order given by the index.")
+    void searchKeepsRanking_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        TaskResponseDTO best = createResponse(createSavedTask(userId, createValidRequest()));
+        TaskResponseDTO second = createResponse(createSavedTask(userId, createValidRequest()));
+        UUID removedMeanwhile = UUID.randomUUID();
+
+        when(taskSearchIndex.search(userId, "valid", 10)).thenReturn(List.of(best.id(), removedMeanwhile, second.id()));
+        when(taskRepository.findResponsesByUserIdAndIdIn(eq(userId), any())).thenReturn(List.of(second, best));
+
+        // Act
+        List<TaskResponseDTO> results = taskService.search(userId, "valid", 10);
+
+        // Assert
+        assertEquals(List.of(best.id(), second.id()), results.stream().map(TaskResponseDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService rejects an empty search or an invalid limit without touching the index.")
+    void searchInvalidArguments_Test() {
+
+        UUID userId = UUID.randomUUID();
+
+        assertThrows(BusinessRuleException.class, () -> taskService.search(userId, " ", 10));
+        assertThrows(BusinessRuleException.class, () -> taskService.search(userId, null, 10));
+        assertThrows(BusinessRuleException.class, () -> taskService.search(userId, "x".repeat(TaskService.MAX_SEARCH_QUERY_LENGTH + 1), 10));
+        assertThrows(BusinessRuleException.class, () -> taskService.search(userId, "valid", 0));
+
+        verifyNoInteractions(taskSearchIndex);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService rejects an empty, inverted or too long agenda window without touching the index.")
+    void agendaInvalidWindow_Test() {
+
+        UUID userId = UUID.randomUUID();
+        LocalDateTime from = LocalDateTime.now();
+
+        assertThrows(BusinessRuleException.class, () -> taskService.agenda(userId, null, from));
+        assertThrows(BusinessRuleException.class, () -> taskService.agenda(userId, from, from));
+        assertThrows(BusinessRuleException.class, () -> taskService.agenda(userId, from, from.minusDays(1)));
+        assertThrows(BusinessRuleException.class, () -> taskService.agenda(userId, from, from.plusDays(TaskService.MAX_AGENDA_DAYS + 1)));
+
+        verifyNoInteractions(taskAgendaIndex);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService returns the next Tasks in queue order. Should skip Tasks removed since they were queued.")
+    void nextKeepsQueueOrder_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        TaskResponseDTO first = createResponse(createSavedTask(userId, createValidRequest()));
+        TaskResponseDTO second = createResponse(createSavedTask(userId, createValidRequest()));
+        UUID removedMeanwhile = UUID.randomUUID();
+
+        when(taskNextUpIndex.top(userId, 3)).thenReturn(List.of(first.id(), removedMeanwhile, second.id()));
+        when(taskRepository.findResponsesByUserIdAndIdIn(eq(userId), any())).thenReturn(List.of(second, first));
+
+        // Act
+        List<TaskResponseDTO> results = taskService.next(userId, 3);
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), results.stream().map(TaskResponseDTO::id).toList());
+        assertThrows(BusinessRuleException.class, () -> taskService.next(userId, TaskService.MAX_NEXT_SIZE + 1));
     }
 
     @Test
-    @DisplayName("Test if TaskService is correctly updating Tasks. Should successfully update a Task when everything is correct.")
+    @DisplayName("Test if TaskService streams every Task to the consumer.")
+    void streamTasks_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        Task task1 = createSavedTask(userId, createValidRequest());
+        Task task2 = createSavedTask(userId, createValidRequest());
+
+        when(taskRepository.findFirstPage(userId, Limit.of(TaskService.STREAM_CHUNK_SIZE)))
+                .thenReturn(List.of(createResponse(task1), createResponse(task2)));
+
+        List<TaskResponseDTO> received = new ArrayList<>();
+
+        // Act
+        taskService.stream(userId, received::add);
+
+        // Assert
+        assertEquals(2, received.size());
+        assertEquals(task1.getId(), received.get(0).id());
+        assertEquals(task2.getId(), received.get(1).id());
+        verify(taskRepository, never()).findPageAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService streams in keyset chunks. Should read the next chunk after the last Task of a full one.")
+    void streamTasksInChunks_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Limit chunk = Limit.of(TaskService.STREAM_CHUNK_SIZE);
+
+        List<TaskResponseDTO> full = new ArrayList<>();
+
+        for (int i = 0; i < TaskService.STREAM_CHUNK_SIZE; i++) {
+            full.add(createResponse(createSavedTask(userId, createValidRequest())));
+        }
+
+        TaskResponseDTO last = full.get(full.size() - 1);
+        TaskResponseDTO tail = createResponse(createSavedTask(userId, createValidRequest()));
+
+        when(taskRepository.findFirstPage(userId, chunk)).thenReturn(full);
+        when(taskRepository.findPageAfter(userId, last.createdAt(), last.id(), chunk)).thenReturn(List.of(tail));
+
+        List<TaskResponseDTO> received = new ArrayList<>();
+
+        // Act
+        taskService.stream(userId, received::add);
+
+        // Assert
+        assertEquals(TaskService.STREAM_CHUNK_SIZE + 1, received.size());
+        assertEquals(tail.id(), received.get(received.size() - 1).id());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService is correctly updating Tasks. Should update a Task with a single conditional UPDATE when everything is correct.")
     void updateTaskSuccessfully_Test() {
 
         // Triple A pattern: Arrange, Act, Assert
@@ -133,14 +599,12 @@ class TaskServiceTest {
         UUID userId = UUID.randomUUID();
         UUID taskId = UUID.randomUUID();
 
-        // Data Already in the DB
-        Task existingTask = new Task();
-        existingTask.setId(taskId);
-        existingTask.setUserId(userId);
-        existingTask.setTitle("Old Title");
-        existingTask.setDescription("Old Description");
-        existingTask.setStartAt(LocalDateTime.now().plusDays(1));
-        existingTask.setEndAt(LocalDateTime.now().plusDays(2));
+        // Data Already in the DB, returned by the UPDATE as the previous state
+        TaskResponseDTO previous = new TaskResponseDTO(
+                taskId, "Old Title", "Old Description",
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                Priority.LOW, userId, LocalDateTime.now(), LocalDateTime.now(), 0L
+        );
 
         // New Data to update
         TaskUpdateDTO updateDTO = new TaskUpdateDTO(
@@ -148,36 +612,40 @@ class TaskServiceTest {
                 "New Description",
                 null,
                 null,
-                null
+                Priority.URGENT
         );
 
         // Expected Data after update
         TaskResponseDTO expectedResponse = new TaskResponseDTO(
                 taskId, "New Title", "New Description",
-                existingTask.getStartAt(), existingTask.getEndAt(),
-                existingTask.getPriority(), userId, null, LocalDateTime.now()
+                previous.startAt(), previous.endAt(),
+                Priority.URGENT, userId, previous.createdAt(), LocalDateTime.now(), 1L
         );
 
-        // Mocking the repository findById method
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        // Mocking the conditional UPDATE
+        when(taskRepository.updatePartially(eq(taskId), eq(userId), eq(updateDTO), any(), isNull())).thenReturn(Optional.of(previous));
 
-        // Mocking the repository save method
-        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+        // Mocking the mapper behavior from previous state to ResponseDTO
+        when(taskMapper.applyUpdate(eq(previous), eq(updateDTO), any())).thenReturn(expectedResponse);
 
-        // Mocking the mapper behavior from Entity to ResponseDTO
-        when(taskMapper.toResponse(existingTask)).thenReturn(expectedResponse);
+        // Mocking the position taken in the change feed
+        when(taskStatsService.onUpdated(userId, Priority.LOW, Priority.URGENT)).thenReturn(12L);
 
         // Act
-        TaskResponseDTO result = taskService.update(taskId, updateDTO, userId);
+        TaskResponseDTO result = taskService.update(taskId, updateDTO, userId, null);
 
         // Assert
         assertNotNull(result);
         assertEquals("New Title", result.title());
         assertEquals("New Description", result.description());
 
-        assertEquals(existingTask.getStartAt(), result.startAt());
+        assertEquals(previous.startAt(), result.startAt());
 
-        verify(taskRepository).save(existingTask);
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verify(invalidationBus).publish(userId);
+        verify(taskStatsService).onUpdated(userId, Priority.LOW, Priority.URGENT);
+        verify(taskRepository).updateChangeSeq(taskId, 12L);
     }
 
     @Test
@@ -189,43 +657,174 @@ class TaskServiceTest {
         UUID nonExistentId = UUID.randomUUID();
         TaskUpdateDTO updateDTO = new TaskUpdateDTO("Title", null, null, null, null);
 
-        // The repository will return empty when searching for the non-existent ID
-        when(taskRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        // No row was updated and no Task has this ID
+        when(taskRepository.updatePartially(eq(nonExistentId), eq(userId), eq(updateDTO), any(), isNull())).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndUserId(nonExistentId, userId)).thenReturn(null);
+        when(taskRepository.existsById(nonExistentId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
-            taskService.update(nonExistentId, updateDTO, userId);
+            taskService.update(nonExistentId, updateDTO, userId, null);
         });
 
-        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(taskStatsService, invalidationBus);
     }
 
     @Test
-    @DisplayName("Test if TaskService invalidates update when the User is not Authorized. Should not update a Task and return a ResourceNotFoundException.")
+    @DisplayName("Test if TaskService invalidates update when the User is not Authorized. Should not update a Task and return a UserNotAuthorizedException.")
     void updateTaskNotAuthorized_Test() {
 
         // Arrange
-        UUID ownerId = UUID.randomUUID();
         UUID maliciousUserId = UUID.randomUUID();
         UUID taskId = UUID.randomUUID();
 
         TaskUpdateDTO updateDTO = new TaskUpdateDTO("Hacked Title", null, null, null, null);
 
-        // Task which belongs to ownerId
-        Task existingTask = new Task();
-        existingTask.setId(taskId);
-        existingTask.setUserId(ownerId); // Pertence ao ownerId
-
-        // Mocking the repository findById method
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        // The Task exists, but the UPDATE scoped to the malicious user matched no row
+        when(taskRepository.updatePartially(eq(taskId), eq(maliciousUserId), eq(updateDTO), any(), isNull())).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndUserId(taskId, maliciousUserId)).thenReturn(null);
+        when(taskRepository.existsById(taskId)).thenReturn(true);
 
         // Act & Assert
         // Call the malicious user trying to update
         assertThrows(UserNotAuthorizedException.class, () -> {
-            taskService.update(taskId, updateDTO, maliciousUserId);
+            taskService.update(taskId, updateDTO, maliciousUserId, null);
         });
 
-        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(taskStatsService, invalidationBus);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService reports invalid dates when the conditional UPDATE is rejected for the owner. Should return a BusinessRuleException.")
+    void updateTaskInvalidDates_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+
+        Task existingTask = new Task();
+        existingTask.setId(taskId);
+        existingTask.setUserId(userId);
+        existingTask.setStartAt(LocalDateTime.now().plusDays(1));
+        existingTask.setEndAt(LocalDateTime.now().plusDays(2));
+
+        // New end date before the stored start date
+        TaskUpdateDTO updateDTO = new TaskUpdateDTO(null, null, null, LocalDateTime.now().plusHours(1), null);
+
+        when(taskRepository.updatePartially(eq(taskId), eq(userId), eq(updateDTO), any(), isNull())).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(existingTask);
+
+        // Act & Assert
+        assertThrows(BusinessRuleException.class, () -> taskService.update(taskId, updateDTO, userId, null));
+
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService rejects an update made over a stale version. Should return a PreconditionFailedException.")
+    void updateTaskStaleVersion_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+
+        // Another request already moved the Task to version 4
+        Task existingTask = new Task();
+        existingTask.setId(taskId);
+        existingTask.setUserId(userId);
+        existingTask.setStartAt(LocalDateTime.now().plusDays(1));
+        existingTask.setEndAt(LocalDateTime.now().plusDays(2));
+        existingTask.setVersion(4L);
+
+        TaskUpdateDTO updateDTO = new TaskUpdateDTO("Title", null, null, null, null);
+
+        when(taskRepository.updatePartially(eq(taskId), eq(userId), eq(updateDTO), any(), eq(3L))).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(existingTask);
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> taskService.update(taskId, updateDTO, userId, 3L));
+
+        verifyNoInteractions(taskStatsService, invalidationBus);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService soft deletes the owner's Task, updating stats and the change feed position.")
+    void deleteTask_Test() {
+
+        // Triple A pattern: Arrange, Act, Assert
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Task task = createSavedTask(userId, createValidRequest());
+        task.setVersion(2L);
+
+        when(taskRepository.findForDelete(userId, List.of(task.getId()))).thenReturn(List.of(task));
+        when(taskStatsService.onDeleted(userId, List.of(Priority.HIGH))).thenReturn(9L);
+
+        // Act
+        taskService.delete(task.getId(), userId, 2L);
+
+        // Assert
+        assertNotNull(task.getDeletedAt());
+        assertEquals(task.getDeletedAt(), task.getUpdatedAt());
+        assertEquals(9L, task.getChangeSeq());
+
+        verify(taskStatsService).onDeleted(userId, List.of(Priority.HIGH));
+        verify(invalidationBus).publish(userId);
+        verify(taskSearchIndex).remove(userId, task.getId());
+        verify(taskAgendaIndex).remove(userId, task.getId());
+        verify(taskNextUpIndex).remove(userId, task.getId());
+    }
+
+    @Test
+    @DisplayName("Test if TaskService refuses to delete a Task of another user or over a stale version.")
+    void deleteTaskRejected_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID otherUsersTask = UUID.randomUUID();
+        UUID missingTask = UUID.randomUUID();
+
+        Task task = createSavedTask(userId, createValidRequest());
+        task.setVersion(4L);
+
+        when(taskRepository.findForDelete(eq(userId), anyCollection())).thenReturn(List.of());
+        when(taskRepository.findForDelete(userId, List.of(task.getId()))).thenReturn(List.of(task));
+        when(taskRepository.existsById(otherUsersTask)).thenReturn(true);
+        when(taskRepository.existsById(missingTask)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(UserNotAuthorizedException.class, () -> taskService.delete(otherUsersTask, userId, null));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.delete(missingTask, userId, null));
+        assertThrows(PreconditionFailedException.class, () -> taskService.delete(task.getId(), userId, 3L));
+
+        assertNull(task.getDeletedAt());
+        verifyNoInteractions(taskStatsService, invalidationBus);
+    }
+
+    @Test
+    @DisplayName("Test if TaskService deletes a batch in one call, reporting ids that are not active Tasks of the user.")
+    void deleteBatch_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Task first = createSavedTask(userId, createValidRequest());
+        Task second = createSavedTask(userId, createValidRequest());
+        UUID missing = UUID.randomUUID();
+
+        when(taskRepository.findForDelete(eq(userId), anyCollection())).thenReturn(List.of(first, second));
+
+        // Act
+        TaskDeleteResponseDTO result = taskService.deleteBatch(List.of(first.getId(), missing, second.getId(), first.getId()), userId);
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), result.deleted());
+        assertEquals(List.of(missing), result.notFound());
+
+        verify(taskRepository, times(1)).findForDelete(eq(userId), anyCollection());
+        verify(taskStatsService).onDeleted(userId, List.of(Priority.HIGH, Priority.HIGH));
+
+        assertThrows(BusinessRuleException.class, () -> taskService.deleteBatch(List.of(), userId));
     }
 
     // Auxiliary methods
@@ -255,7 +854,7 @@ class TaskServiceTest {
         return new TaskResponseDTO(
                 task.getId(), task.getTitle(), task.getDescription(),
                 task.getStartAt(), task.getEndAt(), task.getPriority(),
-                task.getUserId(), task.getCreatedAt(), task.getUpdatedAt()
+                task.getUserId(), task.getCreatedAt(), task.getUpdatedAt(), task.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,232 @@
+package br.com.pablotzeliks.todolist.task.service;
+
+import br.com.pablotzeliks.todolist.exception.general.BusinessRuleException;
+import br.com.pablotzeliks.todolist.persistence.JobLease;
+import br.com.pablotzeliks.todolist.persistence.JobLeaseService;
+import br.com.pablotzeliks.todolist.task.dto.TaskStatsDTO;
+import br.com.pablotzeliks.todolist.task.model.Priority;
+import br.com.pablotzeliks.todolist.task.model.Task;
+import br.com.pablotzeliks.todolist.task.model.TaskStats;
+import br.com.pablotzeliks.todolist.task.repository.ITaskRepository;
+import br.com.pablotzeliks.todolist.task.repository.ITaskStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TaskStatsService.class, JobLeaseService.class})
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskStatsService statsService;
+
+    @Autowired
+    private ITaskRepository taskRepository;
+
+    @Autowired
+    private ITaskStatsRepository statsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("The first read should build the counters from the Tasks, later writes should only increment them")
+    void countersMaintainedIncrementally_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        taskRepository.save(createTask(userId, Priority.HIGH, now.minusDays(1)));
+        taskRepository.save(createTask(userId, Priority.LOW, now.plusDays(3)));
+        taskRepository.save(createTask(userId, Priority.LOW, now.plusDays(30)));
+        taskRepository.save(createTask(UUID.randomUUID(), Priority.URGENT, now.plusDays(3)));
+
+        TaskStatsDTO initial = statsService.get(userId, 7);
+
+        // Act
+        taskRepository.save(createTask(userId, Priority.URGENT, now.plusDays(2)));
+        statsService.onCreated(userId, Priority.URGENT);
+        statsService.onUpdated(userId, Priority.LOW, Priority.MEDIUM);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskStatsDTO updated = statsService.get(userId, 7);
+
+        // Assert
+        assertEquals(3, initial.total());
+        assertEquals(2, initial.byPriority().get(Priority.LOW));
+        assertEquals(1, initial.overdue());
+        assertEquals(1, initial.upcoming());
+
+        assertEquals(4, updated.total());
+        assertEquals(1, updated.byPriority().get(Priority.LOW));
+        assertEquals(1, updated.byPriority().get(Priority.MEDIUM));
+        assertEquals(1, updated.byPriority().get(Priority.HIGH));
+        assertEquals(1, updated.byPriority().get(Priority.URGENT));
+        assertEquals(2, updated.upcoming());
+    }
+
+    @Test
+    @DisplayName("The first write of a user without counters should build them in its own transaction without counting itself twice")
+    void firstWriteBuildsCounters_Test() {
+
+        // Arrange
+        UUID createdBy = UUID.randomUUID();
+        UUID updatedBy = UUID.randomUUID();
+        LocalDateTime endAt = LocalDateTime.now().plusDays(3);
+
+        taskRepository.save(createTask(createdBy, Priority.LOW, endAt));
+        taskRepository.save(createTask(updatedBy, Priority.MEDIUM, endAt));
+
+        entityManager.flush();
+
+        // Act
+        long createdSeq = statsService.onCreated(createdBy, Priority.HIGH);
+        taskRepository.save(createTask(createdBy, Priority.HIGH, endAt));
+
+        // An update reaches the stats after its UPDATE already moved the Task
+        Task moved = taskRepository.findAll().stream().filter(task -> task.getUserId().equals(updatedBy)).findFirst().orElseThrow();
+        moved.setPriority(Priority.URGENT);
+        entityManager.flush();
+
+        long updatedSeq = statsService.onUpdated(updatedBy, Priority.MEDIUM, Priority.URGENT);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        TaskStats created = statsRepository.findById(createdBy).orElseThrow();
+        TaskStats updated = statsRepository.findById(updatedBy).orElseThrow();
+
+        assertEquals(1, createdSeq);
+        assertEquals(2, created.getTotal());
+        assertEquals(1, created.getLow());
+        assertEquals(1, created.getHigh());
+
+        assertEquals(1, updatedSeq);
+        assertEquals(1, updated.getTotal());
+        assertEquals(0, updated.getMedium());
+        assertEquals(1, updated.getUrgent());
+    }
+
+    @Test
+    @DisplayName("Reconciliation should recount a user whose counters drifted from the Tasks")
+    void reconcileRepairsDrift_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        taskRepository.save(createTask(userId, Priority.HIGH, LocalDateTime.now().plusDays(1)));
+
+        TaskStats drifted = new TaskStats();
+        drifted.setUserId(userId);
+        drifted.setTotal(5);
+        drifted.setLow(5);
+        statsRepository.save(drifted);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        statsService.reconcile();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        TaskStats repaired = statsRepository.findById(userId).orElseThrow();
+
+        assertEquals(1, repaired.getTotal());
+        assertEquals(0, repaired.getLow());
+        assertEquals(1, repaired.getHigh());
+    }
+
+    @Test
+    @DisplayName("Reconciliation should also reset the counters of a user left without Tasks")
+    void reconcileUserWithoutTasks_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        TaskStats drifted = new TaskStats();
+        drifted.setUserId(userId);
+        drifted.setTotal(2);
+        drifted.setUrgent(2);
+        statsRepository.save(drifted);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        statsService.reconcile();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        TaskStats repaired = statsRepository.findById(userId).orElseThrow();
+
+        assertEquals(0, repaired.getTotal());
+        assertEquals(0, repaired.getUrgent());
+    }
+
+    @Test
+    @DisplayName("Reconciliation should be skipped while another instance holds its lease")
+    void reconcileSkippedWithoutLease_Test() {
+
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        TaskStats drifted = new TaskStats();
+        drifted.setUserId(userId);
+        drifted.setTotal(3);
+        statsRepository.save(drifted);
+
+        JobLease lease = new JobLease();
+        lease.setName("task-stats-reconcile");
+        lease.setLockedUntil(LocalDateTime.now().plusMinutes(10));
+        lease.setLockedBy("other-instance");
+        entityManager.persist(lease);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        statsService.reconcile();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(3, statsRepository.findById(userId).orElseThrow().getTotal());
+    }
+
+    @Test
+    @DisplayName("An upcoming window outside 1..365 days should be rejected with a BusinessRuleException")
+    void invalidUpcomingWindow_Test() {
+
+        assertThrows(BusinessRuleException.class, () -> statsService.get(UUID.randomUUID(), 0));
+        assertThrows(BusinessRuleException.class, () -> statsService.get(UUID.randomUUID(), 366));
+    }
+
+    private Task createTask(UUID userId, Priority priority, LocalDateTime endAt) {
+
+        Task task = new Task();
+        task.setUserId(userId);
+        task.setTitle("Task");
+        task.setStartAt(endAt.minusDays(1));
+        task.setEndAt(endAt);
+        task.setPriority(priority);
+
+        return task;
+    }
+}
@@ -1,6 +1,11 @@
 package br.com.pablotzeliks.todolist.user.controller;
 
 import br.com.pablotzeliks.todolist.exception.general.ResourceAlreadyExistsException;
+import br.com.pablotzeliks.todolist.idempotency.IdempotencyStore;
+import br.com.pablotzeliks.todolist.security.AccessTokenService;
+import br.com.pablotzeliks.todolist.security.CredentialCache;
+import br.com.pablotzeliks.todolist.security.CredentialVerifier;
+import br.com.pablotzeliks.todolist.user.dto.TokenResponseDTO;
 import br.com.pablotzeliks.todolist.user.dto.UserRequestDTO;
 import br.com.pablotzeliks.todolist.user.dto.UserResponseDTO;
 import br.com.pablotzeliks.todolist.user.service.UserService;
@@ -11,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -18,12 +24,17 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
+@Import(IdempotencyStore.class)
 class UserControllerTest {
 
     @Autowired
@@ -35,6 +46,15 @@ class UserControllerTest {
     @MockBean
     private IUserRepository userRepository;
 
+    @MockBean
+    private CredentialCache credentialCache;
+
+    @MockBean
+    private CredentialVerifier credentialVerifier;
+
+    @MockBean
+    private AccessTokenService accessTokenService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -64,6 +84,30 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.name").value("Pablo Tzeliks"));
     }
 
+    @Test
+    @DisplayName("POST /users/create - A retry with the same Idempotency-Key should replay the 201 without creating the user again")
+    void createUserIdempotent_Replay201() throws Exception {
+
+        // Arrange
+        UserRequestDTO request = new UserRequestDTO("Pablo Tzeliks", "pablo.retry", "123456");
+        UserResponseDTO response = new UserResponseDTO(UUID.randomUUID(), "Pablo Tzeliks", "pablo.retry", LocalDateTime.now());
+
+        when(userService.create(any(UserRequestDTO.class))).thenReturn(response);
+
+        // Act
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/users/create")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header("Idempotency-Key", "signup-1")
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(response.id().toString()));
+        }
+
+        // Assert
+        verify(userService, times(1)).create(any(UserRequestDTO.class));
+    }
+
     @Test
     @DisplayName("POST /users/create - Should return 400 Bad Request when fields are invalid")
     void createUser_Return400_Validation() throws Exception {
@@ -95,4 +139,23 @@ class UserControllerTest {
                 .andExpect(status().isConflict()) // <--- Verifique seu ExceptionHandler
                 .andExpect(jsonPath("$.message").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /users/token - Should return 200 OK with a Bearer token for valid credentials")
+    void issueToken_Return200() throws Exception {
+
+        // Arrange
+        String authorization = "Basic cGFibG86MTIzNDU2";
+        TokenResponseDTO response = new TokenResponseDTO("payload.signature", "Bearer", 900);
+
+        when(userService.issueToken(eq(authorization))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/users/token")
+                        .header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("payload.signature"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(900));
+    }
+}
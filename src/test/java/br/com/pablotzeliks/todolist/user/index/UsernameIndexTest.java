@@ -0,0 +1,124 @@
+package br.com.pablotzeliks.todolist.user.index;
+
+import br.com.pablotzeliks.todolist.user.repository.IUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameIndexTest {
+
+    @Mock
+    private IUserRepository repository;
+
+    @InjectMocks
+    private UsernameIndex usernameIndex;
+
+    private final LocalUsernameRegistrationBus distributedBus = new LocalUsernameRegistrationBus() {
+
+        @Override
+        public boolean isDistributed() {
+            return true;
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        usernameIndex.subscribe(distributedBus);
+    }
+
+    @Test
+    @DisplayName("Should answer 'might contain' for every username while the index is not built")
+    void notReady_Test() {
+
+        // Act & Assert
+        assertTrue(usernameIndex.mightContain("anyone"));
+    }
+
+    @Test
+    @DisplayName("Should never return false for a registered username and reject most unknown ones")
+    void rebuild_NoFalseNegatives_Test() {
+
+        // Arrange
+        when(repository.count()).thenReturn(5_000L);
+        when(repository.streamAllUsernames()).thenReturn(IntStream.range(0, 5_000).mapToObj(i -> "user" + i));
+
+        // Act
+        usernameIndex.rebuild();
+        usernameIndex.add("pablo");
+
+        // Assert
+        IntStream.range(0, 5_000).forEach(i -> assertTrue(usernameIndex.mightContain("user" + i)));
+        assertTrue(usernameIndex.mightContain("pablo"));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> usernameIndex.mightContain("scanner" + i))
+                .count();
+
+        assertTrue(falsePositives < 300, "False positive rate should stay close to 1%, got " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should keep usernames registered while a rebuild is running")
+    void rebuild_KeepsConcurrentAdds_Test() {
+
+        // Arrange
+        when(repository.count()).thenReturn(1L);
+        when(repository.streamAllUsernames()).thenAnswer(invocation -> {
+            // Simulates a registration committed after the snapshot was taken
+            usernameIndex.add("late");
+            return Stream.of("early");
+        });
+
+        // Act
+        usernameIndex.rebuild();
+
+        // Assert
+        assertTrue(usernameIndex.mightContain("early"));
+        assertTrue(usernameIndex.mightContain("late"));
+    }
+
+    @Test
+    @DisplayName("Should learn usernames registered on any instance through the registration bus")
+    void registrationBus_Test() {
+
+        // Arrange
+        when(repository.count()).thenReturn(0L);
+        when(repository.streamAllUsernames()).thenReturn(Stream.empty());
+
+        usernameIndex.rebuild();
+
+        // Act: a distributed bus delivers registrations made on other instances the same way
+        distributedBus.deliver("remote");
+
+        // Assert
+        assertTrue(usernameIndex.mightContain("remote"));
+        assertFalse(usernameIndex.mightContain("unknown"));
+    }
+
+    @Test
+    @DisplayName("With only the JVM-local registration bus the index should stay off and defer every lookup to the database")
+    void localBusKeepsIndexOff_Test() {
+
+        // Arrange: the bus the index ends up with is the JVM-local default
+        usernameIndex.subscribe(new LocalUsernameRegistrationBus());
+
+        // Act
+        usernameIndex.rebuild();
+
+        // Assert
+        assertTrue(usernameIndex.mightContain("registered-on-another-instance"));
+        verifyNoInteractions(repository);
+    }
+}
@@ -1,6 +1,14 @@
 package br.com.pablotzeliks.todolist.user.service;
 
 import br.com.pablotzeliks.todolist.exception.general.ResourceAlreadyExistsException;
+import br.com.pablotzeliks.todolist.security.AccessTokenService;
+import br.com.pablotzeliks.todolist.security.AuthenticatedUser;
+import br.com.pablotzeliks.todolist.security.CredentialVerifier;
+import br.com.pablotzeliks.todolist.security.PasswordHasher;
+import br.com.pablotzeliks.todolist.user.dto.TokenResponseDTO;
+import br.com.pablotzeliks.todolist.user.exception.UserNotAuthorizedException;
+import br.com.pablotzeliks.todolist.user.index.UsernameIndex;
+import br.com.pablotzeliks.todolist.user.index.UsernameRegistrationBus;
 import br.com.pablotzeliks.todolist.user.dto.UserRequestDTO;
 import br.com.pablotzeliks.todolist.user.dto.UserResponseDTO;
 import br.com.pablotzeliks.todolist.user.mapper.UserMapper;
@@ -12,8 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -32,6 +42,21 @@ class UserServiceTest {
     @Mock
     private UserMapper mapper;
 
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(1, 4, Duration.ofSeconds(30));
+
+    @Mock
+    private UsernameIndex usernameIndex;
+
+    @Mock
+    private UsernameRegistrationBus registrationBus;
+
+    @Mock
+    private CredentialVerifier credentialVerifier;
+
+    @Mock
+    private AccessTokenService accessTokenService;
+
     @Test
     @DisplayName("Should create user successfully, encrypt password and return response DTO")
     void createUser_Success_Test() {
@@ -56,6 +81,7 @@ class UserServiceTest {
 
         // Mocks definition
         // Test if no one has this username
+        when(usernameIndex.mightContain(requestDTO.username())).thenReturn(true);
         when(repository.findByUsername(requestDTO.username())).thenReturn(null);
 
         // Mapper converts DTO -> Entity
@@ -99,6 +125,7 @@ class UserServiceTest {
         existingUser.setId(UUID.randomUUID());
         existingUser.setUsername("pablo");
 
+        when(usernameIndex.mightContain(requestDTO.username())).thenReturn(true);
         when(repository.findByUsername(requestDTO.username())).thenReturn(existingUser);
 
         // Act & Assert
@@ -112,4 +139,57 @@ class UserServiceTest {
         verify(mapper, never()).toEntity(any());
         verify(repository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should skip the duplicate username query when the index has never seen the username")
+    void createUser_UnknownUsername_SkipsLookup_Test() {
+
+        // Arrange
+        UserRequestDTO requestDTO = new UserRequestDTO("Maria", "maria", "123456");
+
+        User savedUser = new User();
+        savedUser.setId(UUID.randomUUID());
+        savedUser.setUsername("maria");
+
+        when(usernameIndex.mightContain("maria")).thenReturn(false);
+        when(mapper.toEntity(requestDTO)).thenReturn(new User());
+        when(repository.save(any(User.class))).thenReturn(savedUser);
+
+        // Act
+        userService.create(requestDTO);
+
+        // Assert
+        verify(repository, never()).findByUsername(any());
+        verify(registrationBus).publish("maria");
+    }
+
+    @Test
+    @DisplayName("Should exchange valid Basic credentials for a Bearer access token")
+    void issueToken_Success_Test() {
+
+        // Arrange
+        AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), "pablo");
+
+        when(credentialVerifier.verify("pablo", "123456")).thenReturn(user);
+        when(accessTokenService.issue(user)).thenReturn("payload.signature");
+        when(accessTokenService.getTtl()).thenReturn(Duration.ofMinutes(15));
+
+        // Act
+        TokenResponseDTO result = userService.issueToken("Basic cGFibG86MTIzNDU2");
+
+        // Assert
+        assertEquals("payload.signature", result.accessToken());
+        assertEquals("Bearer", result.tokenType());
+        assertEquals(900, result.expiresIn());
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed Authorization header without touching the database")
+    void issueToken_MalformedHeader_Test() {
+
+        // Act & Assert
+        assertThrows(UserNotAuthorizedException.class, () -> userService.issueToken("Basic %%%"));
+
+        verify(credentialVerifier, never()).verify(any(), any());
+    }
+}